@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.futures;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Executor running the callbacks of a synchronous call on the thread waiting for its result.
+ * <br/>
+ * A synchronous call is blocked anyway until its future is completed, so instead of handing the
+ * callbacks over to another executor and waiting for it, the calling thread parks on a queue of
+ * callbacks and runs them itself. This saves one thread hop per call and, because parking relies
+ * on <em>LockSupport</em> and not on monitors, is cheap for virtual threads.
+ * <br/>
+ * The executor is bound to the calling thread for the duration of
+ * {@link #getUninterruptibly(Supplier)} and only used if {@link #current(Executor)} is called, otherwise
+ * the call simply waits for the future. Callbacks submitted once the call returned are handed to the fallback executor
+ * <br/>
+ * Until {@link #enable()} is called, which happens when a manager factory turns on SYNC_CALLS_ON_CALLER_THREAD,
+ * {@link #getUninterruptibly(Supplier)} neither allocates an executor nor touches the thread local
+ */
+public final class CallerThreadExecutor implements Executor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CallerThreadExecutor.class);
+    private static final ThreadLocal<CallerThreadExecutor> CURRENT = new ThreadLocal<>();
+    private static final Runnable WAKE_UP = () -> {};
+    private static volatile boolean enabled = false;
+
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private volatile Executor fallback;
+    private volatile boolean used;
+    private volatile boolean closed;
+
+    private CallerThreadExecutor() {
+    }
+
+    /**
+     * Start the async call and wait for its result, running the callbacks submitted to
+     * {@link #current(Executor)} on the current thread
+     */
+    public static <T> T getUninterruptibly(Supplier<CompletableFuture<T>> asyncCall) throws ExecutionException {
+        if (!enabled) {
+            return Uninterruptibles.getUninterruptibly(asyncCall.get());
+        }
+        final CallerThreadExecutor previous = CURRENT.get();
+        final CallerThreadExecutor executor = new CallerThreadExecutor();
+        CURRENT.set(executor);
+        try {
+            final CompletableFuture<T> future = asyncCall.get();
+            if (executor.used) {
+                executor.runTasksUntilDone(future);
+            }
+            return Uninterruptibles.getUninterruptibly(future);
+        } finally {
+            executor.close();
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Bind an executor to the calling thread of every subsequent synchronous call.
+     * Once enabled, it stays enabled for the JVM
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * The executor bound to the current thread by {@link #getUninterruptibly(Supplier)}, or null
+     * if the current thread is not executing a synchronous call
+     *
+     * @param fallback executor for the callbacks submitted after the synchronous call returned
+     */
+    public static Executor current(Executor fallback) {
+        final CallerThreadExecutor executor = CURRENT.get();
+        if (executor == null || executor.closed) {
+            return null;
+        }
+        executor.fallback = fallback;
+        executor.used = true;
+        return executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.offer(task);
+        if (closed) {
+            handOverToFallback();
+        }
+    }
+
+    private void runTasksUntilDone(CompletableFuture<?> future) {
+        future.whenComplete((result, throwable) -> tasks.offer(WAKE_UP));
+        boolean interrupted = false;
+        try {
+            while (!future.isDone()) {
+                try {
+                    runSafely(tasks.take());
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                runSafely(task);
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void close() {
+        closed = true;
+        handOverToFallback();
+    }
+
+    private void handOverToFallback() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            if (task != WAKE_UP) {
+                fallback.execute(task);
+            }
+        }
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            LOGGER.error("Error while running callback on the caller thread", ex);
+        }
+    }
+}
@@ -17,7 +17,11 @@
 package info.archinnov.achilles.internals.futures;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
@@ -29,7 +33,9 @@ import com.google.common.util.concurrent.ListenableFuture;
  */
 public class FutureUtils {
 
-    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, ExecutorService executor) {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FutureUtils.class);
+
+    public static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> listenableFuture, Executor executor) {
         CompletableFuture<T> completable = new CompletableListenableFuture<>(listenableFuture);
 
         Futures.addCallback(listenableFuture, new FutureCallback<T>() {
@@ -42,12 +48,29 @@ public class FutureUtils {
             public void onFailure(Throwable t) {
                 completable.completeExceptionally(t);
             }
-        }, executor);
+        }, callerRunsOnRejection(executor));
 
         return completable;
     }
 
 
+    /**
+     * A callback rejected by a saturated executor would be silently dropped and the future never
+     * completed, so run it on the thread completing the future instead
+     */
+    private static Executor callerRunsOnRejection(Executor executor) {
+        return task -> {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException ex) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Callback rejected by executor " + executor + ", running it on the current thread", ex);
+                }
+                task.run();
+            }
+        };
+    }
+
     private static final class CompletableListenableFuture<T> extends CompletableFuture<T> {
         private final ListenableFuture<T> listenableFuture;
 
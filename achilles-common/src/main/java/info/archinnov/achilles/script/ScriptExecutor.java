@@ -18,6 +18,7 @@ package info.archinnov.achilles.script;
 
 
 import static info.archinnov.achilles.internals.statement.StatementHelper.isDMLStatement;
+import static info.archinnov.achilles.internals.statement.StatementHelper.isInsertStatement;
 import static info.archinnov.achilles.logger.AchillesLoggers.ACHILLES_DDL_SCRIPT;
 import static info.archinnov.achilles.logger.AchillesLoggers.ACHILLES_DML_STATEMENT;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
@@ -33,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
@@ -57,6 +59,9 @@ public class ScriptExecutor {
     private static final String CODE_DELIMITER_END = "^\\s*\\$\\$\\s*;\\s*$";
     private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\$\\{([a-z][a-zA-Z0-9_]*)\\}");
     private static final Pattern SPECIAL_REGEX_CHARS = Pattern.compile("[\\{\\}\\(\\)\\[\\]\\.\\+\\*\\?\\^\\$\\\\\\|]");
+    private static final Pattern DML_TABLE_PATTERN = Pattern.compile(
+            "^\\s*(?:INSERT\\s+INTO|UPDATE|DELETE\\s+.*?FROM|SELECT\\s+.*?FROM)\\s+([a-zA-Z0-9_.\"]+).*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
     private static final Map<String, Object> EMPTY_MAP = new HashMap<>();
 
@@ -95,6 +100,57 @@ public class ScriptExecutor {
         }
     }
 
+    /**
+     * Execute a CQL script file located in the class path, sending independent DML statements concurrently.
+     * See {@link #executeScriptTemplateInParallel(String, Map, int)} for the execution rules
+     *
+     * @param scriptLocation the location of the script file in the class path
+     * @param maxConcurrency max number of statements in flight
+     */
+    public void executeScriptInParallel(String scriptLocation, int maxConcurrency) {
+        executeScriptTemplateInParallel(scriptLocation, EMPTY_MAP, maxConcurrency);
+    }
+
+    /**
+     * Execute a CQL script template located in the class path and
+     * inject provided values into the template to produce the actual script.
+     * <br/>
+     * Consecutive DML statements are grouped into steps and the statements of a step are sent
+     * concurrently, with at most <em>maxConcurrency</em> statements in flight. A step completes
+     * before the next one starts. A new step is started:
+     * <ul>
+     *     <li>for any statement which is not a plain DML (DDL, batch ...). This statement is executed alone</li>
+     *     <li>for an UPDATE, DELETE or SELECT on a table already used in the current step</li>
+     *     <li>for an INSERT on a table already updated, deleted or read in the current step</li>
+     * </ul>
+     * <strong>INSERTs into the same table are considered independent, they should not target the same row</strong>
+     *
+     * @param scriptTemplateLocation the location of the script template in the class path
+     * @param values                 template values
+     * @param maxConcurrency         max number of statements in flight
+     */
+    public void executeScriptTemplateInParallel(String scriptTemplateLocation, Map<String, Object> values, int maxConcurrency) {
+        Validator.validateTrue(maxConcurrency > 0, "The max concurrency for script execution should be strictly positive");
+        final List<SimpleStatement> statements = buildStatements(loadScriptAsLines(scriptTemplateLocation, values));
+        for (List<SimpleStatement> step : buildParallelSteps(statements)) {
+            final Deque<ResultSetFuture> inFlight = new ArrayDeque<>(maxConcurrency);
+            for (SimpleStatement statement : step) {
+                if (inFlight.size() == maxConcurrency) {
+                    inFlight.poll().getUninterruptibly();
+                }
+                if (isDMLStatement(statement)) {
+                    DML_LOGGER.debug("\tSCRIPT : {}\n", statement.getQueryString());
+                } else {
+                    DDL_LOGGER.debug("\tSCRIPT : {}\n", statement.getQueryString());
+                }
+                inFlight.add(session.executeAsync(statement));
+            }
+            while (!inFlight.isEmpty()) {
+                inFlight.poll().getUninterruptibly();
+            }
+        }
+    }
+
     /**
      * Execute a plain CQL string statement
      * @param statement
@@ -222,6 +278,58 @@ protected List<SimpleStatement> buildStatements(List<String> lines) {
         return statements;
     }
 
+    protected List<List<SimpleStatement>> buildParallelSteps(List<SimpleStatement> statements) {
+        final List<List<SimpleStatement>> steps = new ArrayList<>();
+        List<SimpleStatement> currentStep = new ArrayList<>();
+        final Set<String> insertedTables = new HashSet<>();
+        final Set<String> otherTables = new HashSet<>();
+        for (SimpleStatement statement : statements) {
+            final Optional<String> table = extractDMLTable(statement);
+            final boolean newStep;
+            if (!table.isPresent()) {
+                newStep = true;
+            } else if (isInsertStatement(statement)) {
+                newStep = otherTables.contains(table.get());
+            } else {
+                newStep = insertedTables.contains(table.get()) || otherTables.contains(table.get());
+            }
+
+            if (newStep && !currentStep.isEmpty()) {
+                steps.add(currentStep);
+                currentStep = new ArrayList<>();
+                insertedTables.clear();
+                otherTables.clear();
+            }
+
+            currentStep.add(statement);
+
+            if (!table.isPresent()) {
+                steps.add(currentStep);
+                currentStep = new ArrayList<>();
+            } else if (isInsertStatement(statement)) {
+                insertedTables.add(table.get());
+            } else {
+                otherTables.add(table.get());
+            }
+        }
+        if (!currentStep.isEmpty()) {
+            steps.add(currentStep);
+        }
+        return steps;
+    }
+
+    private Optional<String> extractDMLTable(SimpleStatement statement) {
+        if (!isDMLStatement(statement)) {
+            return Optional.empty();
+        }
+        final Matcher matcher = DML_TABLE_PATTERN.matcher(statement.getQueryString());
+        if (matcher.matches()) {
+            return Optional.of(matcher.group(1).toLowerCase());
+        } else {
+            return Optional.empty();
+        }
+    }
+
     public Session getSession() {
         return session;
     }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.futures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+public class CallerThreadExecutorTest {
+
+    @BeforeClass
+    public static void enable() {
+        CallerThreadExecutor.enable();
+    }
+
+    @Test
+    public void should_run_callbacks_on_caller_thread() throws Exception {
+        //Given
+        final SettableFuture<String> listenableFuture = SettableFuture.create();
+        final AtomicReference<Thread> completingThread = new AtomicReference<>();
+
+        //When
+        final String result = CallerThreadExecutor.getUninterruptibly(() -> {
+            final Executor executor = CallerThreadExecutor.current(MoreExecutors.directExecutor());
+            final CompletableFuture<String> future = FutureUtils.toCompletableFuture(listenableFuture, executor)
+                    .thenApply(value -> {
+                        completingThread.set(Thread.currentThread());
+                        return value + "_mapped";
+                    });
+            new Thread(() -> listenableFuture.set("result")).start();
+            return future;
+        });
+
+        //Then
+        assertThat(result).isEqualTo("result_mapped");
+        assertThat(completingThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void should_wait_for_future_when_executor_not_used() throws Exception {
+        //Given
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        //When
+        final String result = CallerThreadExecutor.getUninterruptibly(() -> {
+            new Thread(() -> future.complete("result")).start();
+            return future;
+        });
+
+        //Then
+        assertThat(result).isEqualTo("result");
+        assertThat(CallerThreadExecutor.current(MoreExecutors.directExecutor())).isNull();
+    }
+
+    @Test
+    public void should_hand_over_late_callbacks_to_fallback() throws Exception {
+        //Given
+        final List<Runnable> fallbackTasks = new CopyOnWriteArrayList<>();
+        final AtomicReference<Executor> callerThreadExecutor = new AtomicReference<>();
+
+        //When
+        CallerThreadExecutor.getUninterruptibly(() -> {
+            callerThreadExecutor.set(CallerThreadExecutor.current(fallbackTasks::add));
+            return CompletableFuture.completedFuture("result");
+        });
+        callerThreadExecutor.get().execute(() -> {});
+
+        //Then
+        assertThat(fallbackTasks).hasSize(1);
+    }
+}
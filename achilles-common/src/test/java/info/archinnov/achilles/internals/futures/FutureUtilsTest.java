@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.futures;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+public class FutureUtilsTest {
+
+    @Test
+    public void should_complete_on_provided_executor() throws Exception {
+        //Given
+        final AtomicInteger executedTasks = new AtomicInteger(0);
+        final Executor executor = task -> {
+            executedTasks.incrementAndGet();
+            task.run();
+        };
+        final SettableFuture<String> listenableFuture = SettableFuture.create();
+
+        //When
+        final CompletableFuture<String> future = FutureUtils.toCompletableFuture(listenableFuture, executor);
+        listenableFuture.set("result");
+
+        //Then
+        assertThat(future.getNow(null)).isEqualTo("result");
+        assertThat(executedTasks.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_complete_directly() throws Exception {
+        //Given
+        final AtomicReference<Thread> completingThread = new AtomicReference<>();
+        final SettableFuture<String> listenableFuture = SettableFuture.create();
+        final CompletableFuture<String> future = FutureUtils.toCompletableFuture(listenableFuture, MoreExecutors.directExecutor());
+        future.thenAccept(result -> completingThread.set(Thread.currentThread()));
+
+        //When
+        final Thread thread = new Thread(() -> listenableFuture.set("result"));
+        thread.start();
+        thread.join();
+
+        //Then
+        assertThat(future.getNow(null)).isEqualTo("result");
+        assertThat(completingThread.get()).isSameAs(thread);
+    }
+
+    @Test
+    public void should_complete_on_current_thread_when_executor_rejects() throws Exception {
+        //Given
+        final Executor saturatedExecutor = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        final SettableFuture<String> listenableFuture = SettableFuture.create();
+
+        //When
+        final CompletableFuture<String> future = FutureUtils.toCompletableFuture(listenableFuture, saturatedExecutor);
+        listenableFuture.setException(new IllegalStateException("failure"));
+
+        //Then
+        assertThat(future.isCompletedExceptionally()).isTrue();
+    }
+}
@@ -18,8 +18,11 @@ package info.archinnov.achilles.script;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.atIndex;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +35,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 
@@ -203,4 +207,51 @@ public class ScriptExecutorTest {
         assertThat(statements.get(1).getQueryString()).isEqualTo("INSERT INTO test(id,value) VALUES(1,'test');");
         assertThat(statements.get(2).getQueryString()).isEqualTo("DELETE FROM test WHERE id=1;");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_build_parallel_steps() throws Exception {
+        //Given
+        final List<SimpleStatement> statements = new ArrayList<>();
+        statements.add(new SimpleStatement("CREATE TABLE IF NOT EXISTS test(id int PRIMARY KEY, value text);"));
+        statements.add(new SimpleStatement("INSERT INTO test(id,value) VALUES(1,'test');"));
+        statements.add(new SimpleStatement("INSERT INTO test(id,value) VALUES(2,'test');"));
+        statements.add(new SimpleStatement("INSERT INTO other(id,value) VALUES(1,'test');"));
+        statements.add(new SimpleStatement("DELETE FROM test WHERE id=1;"));
+        statements.add(new SimpleStatement("UPDATE other SET value='test' WHERE id=2;"));
+        statements.add(new SimpleStatement("SELECT value FROM other WHERE id=2;"));
+        statements.add(new SimpleStatement("BEGIN UNLOGGED BATCH INSERT INTO test(id,value) VALUES(3,'test'); APPLY BATCH;"));
+
+        //When
+        final List<List<SimpleStatement>> steps = scriptExecutor.buildParallelSteps(statements);
+
+        //Then
+        assertThat(steps).hasSize(5);
+        assertThat(steps.get(0)).hasSize(1);
+        assertThat(steps.get(1)).hasSize(3);
+        assertThat(steps.get(2)).hasSize(2);
+        assertThat(steps.get(2).get(0).getQueryString()).isEqualTo("DELETE FROM test WHERE id=1;");
+        assertThat(steps.get(2).get(1).getQueryString()).isEqualTo("UPDATE other SET value='test' WHERE id=2;");
+        assertThat(steps.get(3)).hasSize(1);
+        assertThat(steps.get(3).get(0).getQueryString()).isEqualTo("SELECT value FROM other WHERE id=2;");
+        assertThat(steps.get(4)).hasSize(1);
+    }
+
+    @Test
+    public void should_execute_script_in_parallel() throws Exception {
+        //Given
+        final ResultSetFuture future = mock(ResultSetFuture.class);
+        when(session.executeAsync(any(SimpleStatement.class))).thenReturn(future);
+
+        //When
+        scriptExecutor.executeScriptInParallel("testScript.cql", 2);
+
+        //Then
+        verify(session, times(3)).executeAsync(statementCaptor.capture());
+        verify(future, times(3)).getUninterruptibly();
+
+        final List<SimpleStatement> statements = statementCaptor.getAllValues();
+        assertThat(statements.get(0).getQueryString()).isEqualTo("CREATE TABLE IF NOT EXISTS test( id int PRIMARY KEY, value text );");
+        assertThat(statements.get(1).getQueryString()).isEqualTo("INSERT INTO test(id,value) VALUES(1,'test');");
+        assertThat(statements.get(2).getQueryString()).isEqualTo("DELETE FROM test WHERE id=1;");
+    }
+}
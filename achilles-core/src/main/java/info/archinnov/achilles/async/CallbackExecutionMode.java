@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.async;
+
+/**
+ * Where the <em>CompletableFuture</em> returned by async operations is completed, i.e. where
+ * result mapping, interceptors and async listeners run
+ */
+public enum CallbackExecutionMode {
+
+    /**
+     * Complete on an executor: the executor provided with <strong>CALLBACK_EXECUTOR</strong>
+     * or else the <strong>Achilles</strong> executor service. This is the default mode
+     */
+    EXECUTOR,
+
+    /**
+     * Complete directly on the driver I/O thread, saving one thread hop per query.
+     * <br/>
+     * <strong>Only use this mode if your async listeners, interceptors and <em>thenXXX()</em>
+     * stages never block</strong>, otherwise the driver I/O threads will be starved.
+     * <br/>
+     * Query tracing (TRACE level on the entity logger or <em>withTracing()</em>) fetches the traces
+     * synchronously and should not be combined with this mode
+     */
+    DIRECT
+}
@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 
@@ -30,6 +31,9 @@ import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import info.archinnov.achilles.async.CallbackExecutionMode;
+import info.archinnov.achilles.cache.EntityCacheConfig;
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig;
 import info.archinnov.achilles.configuration.ArgumentExtractor;
 import info.archinnov.achilles.configuration.ConfigurationParameters;
 import info.archinnov.achilles.internals.cache.StatementsCache;
@@ -37,6 +41,7 @@ import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.runtime.AbstractManagerFactory;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.MetricsRegistry;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -424,6 +429,52 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         return getThis();
     }
 
+    /**
+     * Define where the futures of async operations are completed.
+     * <br/>
+     * With {@link CallbackExecutionMode#DIRECT}, result mapping, interceptors and async listeners run on the
+     * driver I/O thread, which saves a thread hop per query. <strong>They must never block</strong>.
+     * <br/>
+     * Default value is {@link CallbackExecutionMode#EXECUTOR}
+     *
+     * @param callbackExecutionMode callback execution mode
+     * @return ManagerFactoryBuilder
+     */
+    public T withCallbackExecutionMode(CallbackExecutionMode callbackExecutionMode) {
+        configMap.put(CALLBACK_EXECUTION_MODE, callbackExecutionMode);
+        return getThis();
+    }
+
+    /**
+     * Define a dedicated executor to complete the futures of async operations in {@link CallbackExecutionMode#EXECUTOR} mode,
+     * e.g. a thread pool reserved to result mapping, or <em>Executors.newVirtualThreadPerTaskExecutor()</em> on recent JVMs.
+     * <br/>
+     * If omitted, the ExecutorService used internally by Achilles is used
+     *
+     * @param callbackExecutor executor to complete the futures of async operations
+     * @return ManagerFactoryBuilder
+     */
+    public T withCallbackExecutor(Executor callbackExecutor) {
+        configMap.put(CALLBACK_EXECUTOR, callbackExecutor);
+        return getThis();
+    }
+
+    /**
+     * Run result mapping, interceptors and listeners of synchronous operations on the calling thread
+     * while it waits for the response, instead of waiting for an executor thread to run them.
+     * <br/>
+     * The calling thread is parked without holding any monitor, which is cheap for virtual threads
+     * <br/>
+     * Default value is false
+     *
+     * @param syncCallsOnCallerThread whether synchronous operations complete on the calling thread
+     * @return ManagerFactoryBuilder
+     */
+    public T withSyncCallsOnCallerThread(boolean syncCallsOnCallerThread) {
+        configMap.put(SYNC_CALLS_ON_CALLER_THREAD, syncCallsOnCallerThread);
+        return getThis();
+    }
+
     /**
      * Define a list of entities to be managed by <strong>Achilles</strong>.
      * Specifically, schema validation will be performed at bootstrap for those entities
@@ -557,4 +608,85 @@ public abstract class AbstractManagerFactoryBuilder<T extends AbstractManagerFac
         configMap.put(DML_RESULTS_DISPLAY_SIZE, maxDMLResultsDisplayed);
         return getThis();
     }
+
+    /**
+     * Prepare the static statements of all managed entities concurrently at bootstrap, using
+     * <em>Session.prepareAsync()</em>, instead of one blocking prepare round-trip per statement.
+     * <br/>
+     * Default value is <strong>false</strong>
+     * @param prepareStaticStatementsAsync whether to prepare static statements asynchronously
+     * @return ManagerFactoryBuilder
+     */
+    public T withAsyncStaticStatementsPreparation(boolean prepareStaticStatementsAsync) {
+        configMap.put(PREPARE_STATIC_STATEMENTS_ASYNC, prepareStaticStatementsAsync);
+        return getThis();
+    }
+
+    /**
+     * Define the max number of concurrent prepare requests when static statements are prepared asynchronously.
+     * <br/>
+     * Default value is <strong>32</strong>
+     * @param maxInFlight max number of in-flight prepare requests
+     * @return ManagerFactoryBuilder
+     */
+    public T withStaticStatementsPreparationMaxInFlight(int maxInFlight) {
+        configMap.put(PREPARE_STATIC_STATEMENTS_MAX_IN_FLIGHT, maxInFlight);
+        return getThis();
+    }
+
+    /**
+     * Define the max number of concurrent DDL statements when creating the schema, and of concurrent
+     * entity validations, at bootstrap. UDTs are created before tables and tables before indices and
+     * materialized views, the schema agreement being checked between these steps.
+     * <br/>
+     * Default value is <strong>1</strong> (serial schema creation and validation)
+     * @param parallelism max number of concurrent DDL statements or validations
+     * @return ManagerFactoryBuilder
+     */
+    public T withSchemaBootstrapParallelism(int parallelism) {
+        Validator.validateTrue(parallelism > 0, "The schema bootstrap parallelism should be strictly positive");
+        configMap.put(SCHEMA_BOOTSTRAP_PARALLELISM, parallelism);
+        return getThis();
+    }
+
+    /**
+     * Define the metrics registry to record latencies, in-flight requests, errors, timeouts, row counts
+     * and entity decoding time, per entity class and operation type.
+     * <br/>
+     * Use {@link info.archinnov.achilles.metrics.InMemoryMetricsRegistry} to keep metrics in memory.
+     * By default, no metric is recorded
+     * @param metricsRegistry the metrics registry
+     * @return ManagerFactoryBuilder
+     */
+    public T withMetricsRegistry(MetricsRegistry metricsRegistry) {
+        configMap.put(METRICS_REGISTRY, metricsRegistry);
+        return getThis();
+    }
+
+    /**
+     * Enable a near-cache of the rows read by <em>crud().findById(...)</em> for the given entities.
+     * The map keys are entity classes and values the corresponding cache configuration.
+     * <br/>
+     * Entries are invalidated by the <em>crud()</em> writes (insert, update, delete, deleteById
+     * and deleteByPartitionKeys) of the same manager factory. Writes done through the DSL, raw queries
+     * or by other clients are only seen once the entries expire. Rows written with a per-statement
+     * <em>usingTimeToLive(...)</em> are not cached until that time to live has elapsed
+     * @param entityCacheMap entity cache configurations, keyed by entity class
+     * @return ManagerFactoryBuilder
+     */
+    public T withEntityCacheMap(Map<Class<?>, EntityCacheConfig> entityCacheMap) {
+        configMap.put(ENTITY_CACHE_MAP, entityCacheMap);
+        return getThis();
+    }
+
+    /**
+     * Bound the number of in-flight statements sent to Cassandra, per keyspace or per entity.
+     * The limit is adjusted from the observed latencies and timeouts, see {@link ConcurrencyLimiterConfig}
+     * @param concurrencyLimiter concurrency limiter configuration
+     * @return ManagerFactoryBuilder
+     */
+    public T withConcurrencyLimiter(ConcurrencyLimiterConfig concurrencyLimiter) {
+        configMap.put(CONCURRENCY_LIMITER, concurrencyLimiter);
+        return getThis();
+    }
 }
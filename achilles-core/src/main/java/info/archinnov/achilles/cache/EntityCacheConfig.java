@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.cache;
+
+import java.util.Optional;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Configuration of the near-cache of an entity, used by <em>crud().findById(...)</em>.
+ * <br/>
+ * Rows read by primary key are kept in memory, up to <em>maximumWeightInBytes</em> of serialized
+ * row data, and each cache hit is mapped to a new entity instance without querying Cassandra.
+ * <pre class="code"><code class="java">
+ * Map&lt;Class&lt;?&gt;, EntityCacheConfig&gt; entityCaches = new HashMap&lt;&gt;();
+ * entityCaches.put(Country.class, EntityCacheConfig.maximumWeight(10 * 1024 * 1024).timeToLive(3600));
+ *
+ * ManagerFactoryBuilder
+ *     .builder(cluster)
+ *     .withEntityCacheMap(entityCaches)
+ *     .build();
+ * </code></pre>
+ * Entries expire after <em>timeToLive</em> seconds, or after the <em>@TTL</em> of the entity
+ * if it is shorter. Without any of them, entries are only evicted by size or invalidated by writes
+ */
+public class EntityCacheConfig {
+
+    private final long maximumWeightInBytes;
+    private Optional<Integer> timeToLive = Optional.empty();
+
+    private EntityCacheConfig(long maximumWeightInBytes) {
+        this.maximumWeightInBytes = maximumWeightInBytes;
+    }
+
+    /**
+     * Create a cache configuration bounded by the serialized size of the cached rows
+     *
+     * @param maximumWeightInBytes maximum size in bytes of the cached rows
+     */
+    public static EntityCacheConfig maximumWeight(long maximumWeightInBytes) {
+        Validator.validateTrue(maximumWeightInBytes > 0, "The maximum weight of the entity cache should be strictly positive, got %s", maximumWeightInBytes);
+        return new EntityCacheConfig(maximumWeightInBytes);
+    }
+
+    /**
+     * Expire the cached rows <em>timeToLiveInSeconds</em> seconds after they have been read
+     */
+    public EntityCacheConfig timeToLive(int timeToLiveInSeconds) {
+        Validator.validateTrue(timeToLiveInSeconds > 0, "The time to live of the entity cache should be strictly positive, got %s", timeToLiveInSeconds);
+        this.timeToLive = Optional.of(timeToLiveInSeconds);
+        return this;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeightInBytes;
+    }
+
+    public Optional<Integer> getTimeToLive() {
+        return timeToLive;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCacheConfig{" +
+                "maximumWeightInBytes=" + maximumWeightInBytes +
+                ", timeToLive=" + timeToLive +
+                '}';
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.concurrency;
+
+import java.util.concurrent.TimeUnit;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Configuration of the adaptive concurrency limiter applied before statements are sent to Cassandra.
+ * <br/>
+ * The limit of in-flight statements is adjusted from the observed latencies, either with:
+ * <ul>
+ *     <li><strong>AIMD</strong>: additive increase while latencies stay below <em>latencyThreshold</em>,
+ *     multiplicative decrease by <em>backoffRatio</em> on slower responses, timeouts or overloaded errors</li>
+ *     <li><strong>GRADIENT</strong>: the limit follows the ratio between the long term average latency and
+ *     the latest latency, so it shrinks as soon as latencies rise above their baseline</li>
+ * </ul>
+ * <pre class="code"><code class="java">
+ * ManagerFactoryBuilder
+ *     .builder(cluster)
+ *     .withConcurrencyLimiter(ConcurrencyLimiterConfig
+ *         .gradient()
+ *         .initialLimit(64)
+ *         .maxLimit(512)
+ *         .perKeyspace()
+ *         .queueWhenLimitReached(1000))
+ *     .build();
+ * </code></pre>
+ * When the limit is reached, statements are either queued, up to <em>maxQueueSize</em>, and sent as soon as
+ * an in-flight statement completes, or failed immediately with <em>AchillesConcurrencyLimitException</em>.
+ * The default is to queue up to {@value #DEFAULT_MAX_QUEUE_SIZE} statements, so that bursts of requests, e.g.
+ * <em>crud().findByIds(...)</em>, are smoothed rather than failed while the limit adapts.
+ * <br/>
+ * Only the first page of a query goes through the limiter, next pages are fetched directly
+ */
+public class ConcurrencyLimiterConfig {
+
+    public enum Algorithm {
+        AIMD, GRADIENT
+    }
+
+    /**
+     * Whether there is one limiter per keyspace of the statements or one per entity class
+     */
+    public enum Scope {
+        KEYSPACE, ENTITY
+    }
+
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
+
+    private final Algorithm algorithm;
+    private Scope scope = Scope.KEYSPACE;
+    private int initialLimit = 20;
+    private int minLimit = 1;
+    private int maxLimit = 1000;
+    private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+    private long latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(100);
+    private double backoffRatio = 0.9;
+    private double smoothing = 0.2;
+
+    private ConcurrencyLimiterConfig(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public static ConcurrencyLimiterConfig aimd() {
+        return new ConcurrencyLimiterConfig(Algorithm.AIMD);
+    }
+
+    public static ConcurrencyLimiterConfig gradient() {
+        return new ConcurrencyLimiterConfig(Algorithm.GRADIENT);
+    }
+
+    /**
+     * One limiter per keyspace of the statements. This is the default
+     */
+    public ConcurrencyLimiterConfig perKeyspace() {
+        this.scope = Scope.KEYSPACE;
+        return this;
+    }
+
+    /**
+     * One limiter per entity class. Statements not related to an entity are limited per keyspace
+     */
+    public ConcurrencyLimiterConfig perEntity() {
+        this.scope = Scope.ENTITY;
+        return this;
+    }
+
+    /**
+     * Limit used before any latency is observed. Default = 20
+     */
+    public ConcurrencyLimiterConfig initialLimit(int initialLimit) {
+        Validator.validateTrue(initialLimit > 0, "The initial concurrency limit should be strictly positive, got %s", initialLimit);
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    /**
+     * Default = 1
+     */
+    public ConcurrencyLimiterConfig minLimit(int minLimit) {
+        Validator.validateTrue(minLimit > 0, "The minimum concurrency limit should be strictly positive, got %s", minLimit);
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    /**
+     * Default = 1000
+     */
+    public ConcurrencyLimiterConfig maxLimit(int maxLimit) {
+        Validator.validateTrue(maxLimit > 0, "The maximum concurrency limit should be strictly positive, got %s", maxLimit);
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    /**
+     * Queue up to <em>maxQueueSize</em> statements when the limit is reached. Default = {@value #DEFAULT_MAX_QUEUE_SIZE}
+     */
+    public ConcurrencyLimiterConfig queueWhenLimitReached(int maxQueueSize) {
+        Validator.validateTrue(maxQueueSize > 0, "The maximum queue size should be strictly positive, got %s", maxQueueSize);
+        this.maxQueueSize = maxQueueSize;
+        return this;
+    }
+
+    /**
+     * Fail statements with <em>AchillesConcurrencyLimitException</em> as soon as the limit is reached, without queueing them
+     */
+    public ConcurrencyLimiterConfig failWhenLimitReached() {
+        this.maxQueueSize = 0;
+        return this;
+    }
+
+    /**
+     * <strong>AIMD</strong> only: latency above which the limit is decreased. Default = 100 milliseconds
+     */
+    public ConcurrencyLimiterConfig latencyThreshold(long latencyThreshold, TimeUnit unit) {
+        Validator.validateTrue(latencyThreshold > 0, "The latency threshold should be strictly positive, got %s", latencyThreshold);
+        this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+        return this;
+    }
+
+    /**
+     * <strong>AIMD</strong> only: ratio applied to the limit on slow responses or errors. Default = 0.9
+     */
+    public ConcurrencyLimiterConfig backoffRatio(double backoffRatio) {
+        Validator.validateTrue(backoffRatio >= 0.5 && backoffRatio < 1.0, "The backoff ratio should be in [0.5, 1.0), got %s", backoffRatio);
+        this.backoffRatio = backoffRatio;
+        return this;
+    }
+
+    /**
+     * <strong>GRADIENT</strong> only: weight of each new limit estimate. Default = 0.2
+     */
+    public ConcurrencyLimiterConfig smoothing(double smoothing) {
+        Validator.validateTrue(smoothing > 0 && smoothing <= 1.0, "The smoothing should be in (0, 1.0], got %s", smoothing);
+        this.smoothing = smoothing;
+        return this;
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public int getInitialLimit() {
+        return Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return Math.max(minLimit, maxLimit);
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public long getLatencyThresholdNanos() {
+        return latencyThresholdNanos;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiterConfig{" +
+                "algorithm=" + algorithm +
+                ", scope=" + scope +
+                ", initialLimit=" + initialLimit +
+                ", minLimit=" + minLimit +
+                ", maxLimit=" + maxLimit +
+                ", maxQueueSize=" + maxQueueSize +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.concurrency;
+
+/**
+ * Current state of a concurrency limiter
+ */
+public interface ConcurrencyLimiterGauges {
+
+    /**
+     * Name of the limiter: keyspace name or entity class name, depending on {@link ConcurrencyLimiterConfig.Scope}
+     */
+    String getName();
+
+    /**
+     * Current maximum number of in-flight statements, adjusted from the observed latencies
+     */
+    int getLimit();
+
+    int getInFlight();
+
+    /**
+     * Number of statements waiting for the in-flight count to drop below the limit
+     */
+    int getQueueSize();
+
+    /**
+     * Total number of statements failed with <em>AchillesConcurrencyLimitException</em>
+     */
+    long getRejectedCount();
+}
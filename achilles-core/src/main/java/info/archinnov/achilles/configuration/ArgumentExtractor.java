@@ -32,8 +32,12 @@ import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
 
+import info.archinnov.achilles.async.CallbackExecutionMode;
 import info.archinnov.achilles.async.DefaultExecutorThreadFactory;
+import info.archinnov.achilles.cache.EntityCacheConfig;
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
@@ -42,6 +46,8 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ConfigMap;
 import info.archinnov.achilles.json.DefaultJacksonMapperFactory;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.MetricsRegistry;
+import info.archinnov.achilles.metrics.NoOpMetricsRegistry;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -67,6 +73,8 @@ public class ArgumentExtractor {
     static final NamingStrategy DEFAULT_GLOBAL_NAMING_STRATEGY = NamingStrategy.LOWER_CASE;
     static final BeanFactory DEFAULT_BEAN_FACTORY = new DefaultBeanFactory();
     static final Integer DEFAULT_DML_RESULTS_DISPLAY_SIZE = 10;
+    static final int DEFAULT_PREPARE_STATIC_STATEMENTS_MAX_IN_FLIGHT = 32;
+    static final int DEFAULT_SCHEMA_BOOTSTRAP_PARALLELISM = 1;
     private static final Logger LOGGER = LoggerFactory.getLogger(ArgumentExtractor.class);
 
     public static ConfigurationContext initConfigContext(Cluster cluster, ConfigMap configurationMap) {
@@ -92,6 +100,8 @@ public class ArgumentExtractor {
         configContext.setSchemaNameProvider(initSchemaNameProvider(configurationMap));
         configContext.setExecutorService(initExecutorService(configurationMap));
         configContext.setProvidedExecutorService(initProvidedExecutorService(configurationMap));
+        configContext.setCallbackExecutor(initCallbackExecutor(configurationMap, configContext.getExecutorService()));
+        configContext.setSyncCallsOnCallerThread(initSyncCallsOnCallerThread(configurationMap));
         configContext.setDefaultBeanFactory(initDefaultBeanFactory(configurationMap));
         configContext.setSession(initSession(cluster, configurationMap));
         configContext.setProvidedSession(initProvidedSession(configurationMap));
@@ -99,6 +109,12 @@ public class ArgumentExtractor {
         configContext.setRuntimeCodecs(initRuntimeCodecs(configurationMap));
         configContext.setValidateSchema(initValidateSchema(configurationMap));
         configContext.setDMLResultsDisplaySize(initDMLResultsDisplayLimit(configurationMap));
+        configContext.setPrepareStaticStatementsAsync(initPrepareStaticStatementsAsync(configurationMap));
+        configContext.setPrepareStaticStatementsMaxInFlight(initPrepareStaticStatementsMaxInFlight(configurationMap));
+        configContext.setSchemaBootstrapParallelism(initSchemaBootstrapParallelism(configurationMap));
+        configContext.setMetricsRegistry(initMetricsRegistry(configurationMap));
+        configContext.setEntityCacheConfigs(initEntityCacheConfigs(configurationMap));
+        configContext.setConcurrencyLimiter(initConcurrencyLimiter(configurationMap));
         return configContext;
     }
 
@@ -253,6 +269,20 @@ public class ArgumentExtractor {
         return Optional.ofNullable(configMap.<ExecutorService>getTyped(EXECUTOR_SERVICE)).isPresent();
     }
 
+    public static Executor initCallbackExecutor(ConfigMap configMap, ExecutorService executorService) {
+        LOGGER.trace("Extract or init callback executor");
+        final CallbackExecutionMode mode = configMap.getTypedOr(CALLBACK_EXECUTION_MODE, CallbackExecutionMode.EXECUTOR);
+        if (mode == CallbackExecutionMode.DIRECT) {
+            return MoreExecutors.directExecutor();
+        }
+        return configMap.getTypedOr(CALLBACK_EXECUTOR, executorService);
+    }
+
+    static boolean initSyncCallsOnCallerThread(ConfigMap configMap) {
+        LOGGER.trace("Extract 'sync calls on caller thread' from configuration map");
+        return configMap.getTypedOr(SYNC_CALLS_ON_CALLER_THREAD, false);
+    }
+
     private static Supplier<ExecutorService> initializeDefaultExecutor(final ConfigMap configMap) {
         return () -> {
             int minThreads = configMap.getTypedOr(DEFAULT_EXECUTOR_SERVICE_MIN_THREAD, DEFAULT_THREAD_POOL_MIN_THREAD_COUNT);
@@ -294,6 +324,36 @@ public class ArgumentExtractor {
         }
     }
 
+    static boolean initPrepareStaticStatementsAsync(ConfigMap configMap) {
+        LOGGER.trace("Extract 'prepare static statements asynchronously' from configuration map");
+        return configMap.getTypedOr(PREPARE_STATIC_STATEMENTS_ASYNC, false);
+    }
+
+    static int initPrepareStaticStatementsMaxInFlight(ConfigMap configMap) {
+        LOGGER.trace("Extract or init max in-flight requests for static statements preparation");
+        return configMap.getTypedOr(PREPARE_STATIC_STATEMENTS_MAX_IN_FLIGHT, DEFAULT_PREPARE_STATIC_STATEMENTS_MAX_IN_FLIGHT);
+    }
+
+    static int initSchemaBootstrapParallelism(ConfigMap configMap) {
+        LOGGER.trace("Extract or init schema bootstrap parallelism");
+        return configMap.getTypedOr(SCHEMA_BOOTSTRAP_PARALLELISM, DEFAULT_SCHEMA_BOOTSTRAP_PARALLELISM);
+    }
+
+    static MetricsRegistry initMetricsRegistry(ConfigMap configMap) {
+        LOGGER.trace("Extract or init metrics registry");
+        return configMap.getTypedOr(METRICS_REGISTRY, NoOpMetricsRegistry.INSTANCE);
+    }
+
+    static Map<Class<?>, EntityCacheConfig> initEntityCacheConfigs(ConfigMap configMap) {
+        LOGGER.trace("Extract entity cache configurations from configuration map");
+        return configMap.getTypedOr(ENTITY_CACHE_MAP, ImmutableMap.<Class<?>, EntityCacheConfig>of());
+    }
+
+    static Optional<ConcurrencyLimiterConfig> initConcurrencyLimiter(ConfigMap configMap) {
+        LOGGER.trace("Extract concurrency limiter configuration from configuration map");
+        return Optional.ofNullable(configMap.getTyped(CONCURRENCY_LIMITER));
+    }
+
     private static Integer initDMLResultsDisplayLimit(final ConfigMap configMap) {
         if(configMap.containsKey(DML_RESULTS_DISPLAY_SIZE)) {
             final Integer resultsDisplaySize = configMap.getTyped(DML_RESULTS_DISPLAY_SIZE);
@@ -52,6 +52,38 @@ package info.archinnov.achilles.configuration;
  * </ul>
  * <br/>
  * <br/>
+ * <h4>Metrics</h4>
+ * <ul>
+ *     <li>
+ *         <strong>METRICS_REGISTRY</strong> (OPTIONAL): an implementation of the <em>info.archinnov.achilles.metrics.MetricsRegistry</em> interface
+ *         to record latencies, in-flight requests, errors, timeouts, row counts and entity decoding time, per entity class and operation type.
+ *         <em>info.archinnov.achilles.metrics.InMemoryMetricsRegistry</em> keeps them in memory. <strong>Default = no metrics</strong>
+ *     </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Entity Cache</h4>
+ * <ul>
+ *     <li>
+ *         <strong>ENTITY_CACHE_MAP</strong> (OPTIONAL): map(Class&lt;?&gt;, <em>info.archinnov.achilles.cache.EntityCacheConfig</em>) of the entities
+ *         whose rows read by <em>crud().findById(...)</em> are kept in a bounded near-cache, with an optional time to live capped by the entity <em>@TTL</em>.
+ *         Entries are invalidated by the <em>crud()</em> writes of the same manager factory. Hit, miss and eviction statistics
+ *         are available with <em>manager.getEntityCacheStats()</em>. <strong>Default = no entity cache</strong>
+ *     </li>
+ * </ul>
+ * <br/>
+ * <br/>
+ * <h4>Concurrency Limiter</h4>
+ * <ul>
+ *     <li>
+ *         <strong>CONCURRENCY_LIMITER</strong> (OPTIONAL): an <em>info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig</em> to bound
+ *         the number of in-flight statements per keyspace or per entity. The limit adapts to the observed latencies (AIMD or gradient)
+ *         and statements above it are queued or failed with <em>AchillesConcurrencyLimitException</em>. Current limits are available with
+ *         <em>managerFactory.getConcurrencyLimiterGauges()</em>. <strong>Default = no limit</strong>
+ *     </li>
+ * </ul>
+ * <br/>
+ * <br/>
  * <h4>JSON Serialization</h4>
  * <ul >
  * <li>
@@ -145,6 +177,19 @@ package info.archinnov.achilles.configuration;
  * Remark: if your provide the statement cache object yourself, the parameter PREPARED_STATEMENTS_CACHE_SIZE will be ignored
  * </em>
  * </li>
+ * <li>
+ * <strong>PREPARE_STATIC_STATEMENTS_ASYNC</strong> (OPTIONAL): prepare the static statements (<code>insert</code>, <code>find</code>, <code>delete</code> ...)
+ * of all entities concurrently at bootstrap, using <em>Session.prepareAsync()</em>, instead of one blocking round-trip per statement. <strong>Default = 'false'</strong>
+ * </li>
+ * <li>
+ * <strong>PREPARE_STATIC_STATEMENTS_MAX_IN_FLIGHT</strong> (OPTIONAL): max number of concurrent prepare requests when
+ * <strong>PREPARE_STATIC_STATEMENTS_ASYNC</strong> is enabled. <strong>Default = 32</strong>
+ * </li>
+ * <li>
+ * <strong>SCHEMA_BOOTSTRAP_PARALLELISM</strong> (OPTIONAL): max number of concurrent DDL statements when creating the schema
+ * and of concurrent entity validations at bootstrap. UDTs are created before tables, tables before indices and views,
+ * the schema agreement being checked between these steps. <strong>Default = 1</strong> (serial creation and validation)
+ * </li>
  * </ul>
  * <br/>
  * <br/>
@@ -250,6 +295,27 @@ package info.archinnov.achilles.configuration;
  * </code></pre>
  * For more details, please check <strong><a href="https://github.com/doanduyhai/Achilles/wiki/Asynchronous-Operations">Asynchronous Operations</a></strong></p>
  * </li>
+ * <li>
+ * <strong>CALLBACK_EXECUTION_MODE</strong> (OPTIONAL): where the futures of async operations are completed, an instance of
+ * {@link info.archinnov.achilles.async.CallbackExecutionMode}. <em>EXECUTOR</em> completes them on an executor thread,
+ * <em>DIRECT</em> completes them on the driver I/O thread, saving a thread hop when result mapping and listeners are cheap
+ * and never block. <strong>Default = EXECUTOR</strong>
+ * </li>
+ * <li>
+ * <strong>CALLBACK_EXECUTOR</strong> (OPTIONAL): a dedicated <em>java.util.concurrent.Executor</em> to complete the futures of
+ * async operations in <em>EXECUTOR</em> mode, e.g. a mapping thread pool or a virtual thread executor.
+ * <strong>Default = the executor service defined above</strong>
+ * <br/>
+ * If an executor rejects a callback, the future is completed on the driver I/O thread instead
+ * </li>
+ * <li>
+ * <strong>SYNC_CALLS_ON_CALLER_THREAD</strong> (OPTIONAL): whether synchronous operations (<em>get()</em>, <em>execute()</em>,
+ * <em>getList()</em> ...) run result mapping, interceptors and listeners on the calling thread while it waits for the response,
+ * instead of waiting for an executor thread to do it. This saves a thread hop per query and suits request-per-virtual-thread
+ * services, the waiting thread being parked without holding any monitor. To run the async operations on virtual threads too, provide
+ * a virtual thread per task executor with <strong>EXECUTOR_SERVICE</strong> or <strong>CALLBACK_EXECUTOR</strong>.
+ * <strong>Default = false</strong>
+ * </li>
  * </ul>
  */
 public enum ConfigurationParameters {
@@ -288,6 +354,9 @@ public enum ConfigurationParameters {
 
     EXECUTOR_SERVICE("achilles.executor.service"),
     STATEMENTS_CACHE("achilles.statements.cache"),
+    PREPARE_STATIC_STATEMENTS_ASYNC("achilles.prepare.static.statements.async"),
+    PREPARE_STATIC_STATEMENTS_MAX_IN_FLIGHT("achilles.prepare.static.statements.max.in.flight"),
+    SCHEMA_BOOTSTRAP_PARALLELISM("achilles.schema.bootstrap.parallelism"),
 
     RUNTIME_CODECS("achilles.runtime.codecs"),
 
@@ -296,8 +365,17 @@ public enum ConfigurationParameters {
     DEFAULT_EXECUTOR_SERVICE_THREAD_KEEPALIVE("achilles.executor.service.default.thread.keepalive"),
     DEFAULT_EXECUTOR_SERVICE_QUEUE_SIZE("achilles.executor.service.default.queue.size"),
     DEFAULT_EXECUTOR_SERVICE_THREAD_FACTORY("achilles.executor.service.thread.factory"),
+    CALLBACK_EXECUTION_MODE("achilles.callback.execution.mode"),
+    CALLBACK_EXECUTOR("achilles.callback.executor"),
+    SYNC_CALLS_ON_CALLER_THREAD("achilles.sync.calls.on.caller.thread"),
+
+    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size"),
+
+    METRICS_REGISTRY("achilles.metrics.registry"),
+
+    ENTITY_CACHE_MAP("achilles.entity.cache.map"),
 
-    DML_RESULTS_DISPLAY_SIZE("achilles.dml.results_display.size");
+    CONCURRENCY_LIMITER("achilles.concurrency.limiter");
 
 
     private String label;
@@ -28,6 +28,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -65,13 +66,26 @@ import info.archinnov.achilles.internals.parser.context.FunctionsContext;
 import info.archinnov.achilles.internals.parser.context.GlobalParsingContext;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
 
-
+/**
+ * Annotation processor generating the entity/UDT meta classes, the managers, the DSL classes and the ManagerFactory.
+ * <br/>
+ * The ManagerFactory aggregates all entities so this processor can only be <em>aggregating</em> for incremental compilation.
+ * Pass <strong>-Aachilles.incremental=true</strong> to declare it as such to Gradle (it is registered as a <em>dynamic</em>
+ * incremental processor). Gradle then re-processes unchanged entities from their class files and deletes stale generated files itself.
+ * <br/>
+ * Please note that javac does not read type annotations (e.g. <em>List&lt;@Frozen MyUDT&gt;</em>) back from class files
+ * so only enable it if your entities do not rely on annotations on type arguments
+ */
 @AutoService(Processor.class)
 public class AchillesProcessor extends AbstractProcessor {
 
+    public static final String INCREMENTAL_OPTION = "achilles.incremental";
+    private static final String GRADLE_AGGREGATING_OPTION = "org.gradle.annotation.processing.aggregating";
+
     protected AptUtils aptUtils;
     protected EntityParser entityParser;
     private boolean processed = false;
+    private boolean incremental = false;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -81,6 +95,7 @@ public class AchillesProcessor extends AbstractProcessor {
                 processingEnv.getTypeUtils(), processingEnv.getMessager(),
                 processingEnv.getFiler());
         entityParser = new EntityParser(aptUtils);
+        incremental = Boolean.parseBoolean(processingEnv.getOptions().get(INCREMENTAL_OPTION));
     }
 
     @Override
@@ -103,63 +118,47 @@ public class AchillesProcessor extends AbstractProcessor {
 
                 final ManagersAndDSLClasses managersAndDSLClasses = ManagerFactoryCodeGen.buildInstance(aptUtils, tableAndViewSignatures, udfContext, globalContext);
 
-                aptUtils.printNote("[Achilles] Reading previously generated source files (if exist)");
-                try {
-                    final FileObject resource = aptUtils.filer.getResource(StandardLocation.SOURCE_OUTPUT, GENERATED_PACKAGE, globalContext.managerFactoryBuilderClassName());
-                    final File generatedSourceFolder = new File(resource.toUri().getRawPath().replaceAll("(.+/info/archinnov/achilles/generated/).+", "$1"));
-                    aptUtils.printNote("[Achilles] Cleaning previously generated source files folder : '%s'", generatedSourceFolder.getPath());
-                    FileUtils.deleteDirectory(generatedSourceFolder);
-                } catch (IOException ioe) {
-                    aptUtils.printNote("[Achilles] No previously generated source files found, proceed to code generation");
-                }
+                final List<JavaFile> javaFiles = new ArrayList<>();
 
-                aptUtils.printNote("[Achilles] Generating CQL compatible types (used by the application) as class for function calls");
                 for (TypeSpec typeSpec : globalContext.functionParameterTypesCodeGen().buildParameterTypesClasses(udfContext)) {
-                    JavaFile.builder(FUNCTION_PACKAGE, typeSpec)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(FUNCTION_PACKAGE, typeSpec).build());
                 }
 
-                aptUtils.printNote("[Achilles] Generating SystemFunctions");
-                JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(SYSTEM_FUNCTIONS_CLASS,
-                        SYSTEM_FUNCTIONS)).build().writeTo(aptUtils.filer);
+                javaFiles.add(JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(SYSTEM_FUNCTIONS_CLASS,
+                        SYSTEM_FUNCTIONS)).build());
 
                 if (globalContext.supportsFeature(UDF_UDA)) {
-                    aptUtils.printNote("[Achilles] Generating FunctionsRegistry");
-                    JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(FUNCTIONS_REGISTRY_CLASS,
-                            udfContext.functionSignatures)).build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(FUNCTION_PACKAGE, globalContext.functionsRegistryCodeGen().generateFunctionsRegistryClass(FUNCTIONS_REGISTRY_CLASS,
+                            udfContext.functionSignatures)).build());
                 }
 
+                javaFiles.add(JavaFile.builder(GENERATED_PACKAGE, managerFactoryBuilder).build());
+                javaFiles.add(JavaFile.builder(GENERATED_PACKAGE, managersAndDSLClasses.managerFactoryClass).build());
 
-                aptUtils.printNote("[Achilles] Generating ManagerFactoryBuilder");
-                JavaFile.builder(GENERATED_PACKAGE, managerFactoryBuilder)
-                        .build().writeTo(aptUtils.filer);
-
-                aptUtils.printNote("[Achilles] Generating Manager factory class");
-                JavaFile.builder(GENERATED_PACKAGE, managersAndDSLClasses.managerFactoryClass)
-                        .build().writeTo(aptUtils.filer);
-
-                aptUtils.printNote("[Achilles] Generating UDT meta classes");
                 for (TypeSpec typeSpec : globalContext.udtTypes.values()) {
-                    JavaFile.builder(UDT_META_PACKAGE, typeSpec)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(UDT_META_PACKAGE, typeSpec).build());
                 }
 
-                aptUtils.printNote("[Achilles] Generating entity meta classes");
                 for (EntityMetaSignature signature : tableAndViewSignatures) {
-                    JavaFile.builder(ENTITY_META_PACKAGE, signature.sourceCode)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(ENTITY_META_PACKAGE, signature.sourceCode).build());
                 }
 
-                aptUtils.printNote("[Achilles] Generating manager classes");
                 for (TypeSpec manager : managersAndDSLClasses.managerClasses) {
-                    JavaFile.builder(MANAGER_PACKAGE, manager)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(MANAGER_PACKAGE, manager).build());
                 }
 
-                aptUtils.printNote("[Achilles] Generating DSL classes");
                 for (TypeSpec dsl : managersAndDSLClasses.dslClasses) {
-                    JavaFile.builder(DSL_PACKAGE, dsl)
-                            .build().writeTo(aptUtils.filer);
+                    javaFiles.add(JavaFile.builder(DSL_PACKAGE, dsl).build());
+                }
+
+                if (!incremental) {
+                    cleanStaleGeneratedSourceFiles(globalContext, javaFiles);
+                }
+
+                aptUtils.printNote("[Achilles] Generating %s source files (function types and registries, ManagerFactoryBuilder, " +
+                        "ManagerFactory, UDT and entity meta classes, managers and DSL classes)", javaFiles.size());
+                for (JavaFile javaFile : javaFiles) {
+                    javaFile.writeTo(aptUtils.filer);
                 }
             }catch (AchillesException e) {
                 e.printStackTrace();
@@ -188,6 +187,40 @@ public class AchillesProcessor extends AbstractProcessor {
         return true;
     }
 
+    /**
+     * Only delete previously generated source files which are not produced by this
+     * processing pass (e.g. managers of a removed entity). The other files are overwritten by the Filer
+     */
+    private void cleanStaleGeneratedSourceFiles(GlobalParsingContext globalContext, List<JavaFile> javaFiles) {
+        aptUtils.printNote("[Achilles] Reading previously generated source files (if exist)");
+        final File generatedSourceFolder;
+        try {
+            final FileObject resource = aptUtils.filer.getResource(StandardLocation.SOURCE_OUTPUT, GENERATED_PACKAGE, globalContext.managerFactoryBuilderClassName());
+            generatedSourceFolder = new File(resource.toUri().getRawPath().replaceAll("(.+/info/archinnov/achilles/generated/).+", "$1"));
+        } catch (IOException | IllegalArgumentException e) {
+            aptUtils.printNote("[Achilles] No previously generated source files found, proceed to code generation");
+            return;
+        }
+
+        if (!generatedSourceFolder.isDirectory()) {
+            return;
+        }
+
+        final File sourceRoot = generatedSourceFolder.getParentFile().getParentFile().getParentFile().getParentFile();
+        final Set<File> generatedFiles = javaFiles
+                .stream()
+                .map(javaFile -> new File(sourceRoot, javaFile.packageName.replace('.', File.separatorChar)
+                        + File.separator + javaFile.typeSpec.name + ".java"))
+                .collect(toSet());
+
+        for (File file : FileUtils.listFiles(generatedSourceFolder, new String[]{"java"}, true)) {
+            if (!generatedFiles.contains(file)) {
+                aptUtils.printNote("[Achilles] Deleting stale generated source file : '%s'", file.getPath());
+                FileUtils.deleteQuietly(file);
+            }
+        }
+    }
+
     private void validateCassandraVersionAgainstUsedAnnotations(Set<? extends TypeElement> annotations, GlobalParsingContext parsingContext) {
         final InternalCassandraVersion version = parsingContext.cassandraVersion;
         aptUtils.validateFalse(containsElementsAnnotatedBy(annotations, FunctionRegistry.class)
@@ -291,6 +324,13 @@ public class AchillesProcessor extends AbstractProcessor {
                 CompileTimeConfig.class.getCanonicalName());
     }
 
+    @Override
+    public Set<String> getSupportedOptions() {
+        return incremental
+                ? Sets.newHashSet(INCREMENTAL_OPTION, GRADLE_AGGREGATING_OPTION)
+                : Sets.newHashSet(INCREMENTAL_OPTION);
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latest();
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Cache key of a dynamic UPDATE statement generated from an entity instance.
+ * <br/>
+ * The statement only depends on which columns have a non-null value (<em>columnsMask</em>)
+ * and on the shape of the options (TTL is always bound, USING TIMESTAMP, IF EXISTS,
+ * keyspace and table given by a SchemaNameProvider), not on the values themselves
+ */
+public class ColumnMaskKey {
+
+    private final Class<?> entityClass;
+    private final String keyspace;
+    private final String table;
+    private final BitSet columnsMask;
+    private final boolean staticValuesOnly;
+    private final boolean withTimestamp;
+    private final boolean ifExists;
+    private final int hashCode;
+
+    public ColumnMaskKey(Class<?> entityClass, String keyspace, String table, BitSet columnsMask,
+                         boolean staticValuesOnly, boolean withTimestamp, boolean ifExists) {
+        this.entityClass = entityClass;
+        this.keyspace = keyspace;
+        this.table = table;
+        this.columnsMask = columnsMask;
+        this.staticValuesOnly = staticValuesOnly;
+        this.withTimestamp = withTimestamp;
+        this.ifExists = ifExists;
+        this.hashCode = Objects.hash(entityClass, keyspace, table, columnsMask, staticValuesOnly, withTimestamp, ifExists);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ColumnMaskKey that = (ColumnMaskKey) o;
+        return hashCode == that.hashCode &&
+                staticValuesOnly == that.staticValuesOnly &&
+                withTimestamp == that.withTimestamp &&
+                ifExists == that.ifExists &&
+                Objects.equals(entityClass, that.entityClass) &&
+                Objects.equals(keyspace, that.keyspace) &&
+                Objects.equals(table, that.table) &&
+                Objects.equals(columnsMask, that.columnsMask);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ColumnMaskKey{");
+        sb.append("entityClass=").append(entityClass);
+        sb.append(", keyspace=").append(keyspace);
+        sb.append(", table=").append(table);
+        sb.append(", columnsMask=").append(columnsMask);
+        sb.append(", staticValuesOnly=").append(staticValuesOnly);
+        sb.append(", withTimestamp=").append(withTimestamp);
+        sb.append(", ifExists=").append(ifExists);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Row;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import info.archinnov.achilles.cache.EntityCacheConfig;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+/**
+ * Near-cache of the rows of an entity, keyed by encoded primary key.
+ * <br/>
+ * Rows rather than entity instances are cached so that each hit is mapped to a fresh
+ * entity instance: callers can mutate what they get without corrupting the cache.
+ * <br/>
+ * Writes invalidate the affected entries both before the statement is sent and once it completes.
+ * A read only populates the cache if no invalidation happened since it started,
+ * so a read racing with a write cannot put back a stale row.
+ * <br/>
+ * Invalidating a whole partition does not scan the cache: the invalidation epoch of the partition is
+ * recorded and its rows cached from reads started before that epoch are discarded when looked up.
+ * <br/>
+ * Rows written with a per-statement TTL (<em>usingTimeToLive(...)</em>) are not cached until that
+ * TTL has elapsed, since their remaining lifetime in Cassandra can be shorter than the cache time to live
+ */
+public class EntityCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(EntityCache.class);
+
+    /**
+     * Estimated overhead, in bytes, of a cached row besides its serialized values
+     */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    /**
+     * Number of per-statement TTL writes between two purges of the elapsed TTL deadlines
+     */
+    private static final int TTL_DEADLINES_PURGE_INTERVAL = 1024;
+
+    /**
+     * Number of partition invalidation epochs above which they are dropped along with all the cached rows
+     */
+    private static final int MAX_PARTITION_INVALIDATIONS = 10_000;
+
+    private final Class<T> entityClass;
+    private final AbstractProperty<T, ?, ?>[] primaryKeys;
+    private final int partitionKeysCount;
+    private final Cache<PrimaryKey, CachedRow> cache;
+    private final AtomicLong invalidations = new AtomicLong(0L);
+    private final ConcurrentHashMap<PrimaryKey, Long> partitionInvalidations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<PrimaryKey, Long> ttlDeadlines = new ConcurrentHashMap<>();
+    private final AtomicLong ttlWrites = new AtomicLong(0L);
+    private final Ticker ticker;
+
+    public EntityCache(AbstractEntityProperty<T> meta, EntityCacheConfig config) {
+        this(meta.entityClass, meta.primaryKeysToBind, meta.partitionKeys.size(), meta.staticTTL, config, Ticker.systemTicker());
+    }
+
+    EntityCache(Class<T> entityClass, AbstractProperty<T, ?, ?>[] primaryKeys, int partitionKeysCount,
+                Optional<Integer> entityTTL, EntityCacheConfig config, Ticker ticker) {
+        this.entityClass = entityClass;
+        this.primaryKeys = primaryKeys;
+        this.partitionKeysCount = partitionKeysCount;
+        this.ticker = ticker;
+        final CacheBuilder<PrimaryKey, CachedRow> builder = CacheBuilder.newBuilder()
+                .maximumWeight(config.getMaximumWeight())
+                .weigher((PrimaryKey key, CachedRow cachedRow) -> weightOf(cachedRow.row))
+                .ticker(ticker)
+                .recordStats();
+
+        final Optional<Integer> timeToLive = timeToLive(config.getTimeToLive(), entityTTL);
+        if (timeToLive.isPresent()) {
+            builder.expireAfterWrite(timeToLive.get(), TimeUnit.SECONDS);
+        }
+        this.cache = builder.build();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Create entity cache for %s with max weight %s bytes and time to live %s",
+                    entityClass.getCanonicalName(), config.getMaximumWeight(), timeToLive));
+        }
+    }
+
+    /**
+     * The shortest of the configured time to live and of the entity <em>@TTL</em>, 0 meaning no TTL
+     */
+    static Optional<Integer> timeToLive(Optional<Integer> configuredTTL, Optional<Integer> entityTTL) {
+        final Optional<Integer> tableTTL = entityTTL.filter(ttl -> ttl > 0);
+        if (configuredTTL.isPresent() && tableTTL.isPresent()) {
+            return Optional.of(Math.min(configuredTTL.get(), tableTTL.get()));
+        }
+        return configuredTTL.isPresent() ? configuredTTL : tableTTL;
+    }
+
+    /**
+     * Whether a find with these options can be served from and populate the cache. Finds routed
+     * to another keyspace/table, traced or with async listeners always query Cassandra
+     */
+    public boolean isCacheable(CassandraOptions options) {
+        return !options.hasSchemaNameProvider()
+                && !options.hasAsyncListeners()
+                && !options.getTracing().orElse(false);
+    }
+
+    public Row getIfPresent(Object[] encodedPrimaryKey) {
+        final PrimaryKey primaryKey = new PrimaryKey(encodedPrimaryKey);
+        if (!partitionInvalidations.isEmpty()) {
+            // Drop a row of an invalidated partition before the lookup, so that it counts as a miss
+            final CachedRow staleRow = cache.asMap().get(primaryKey);
+            if (staleRow != null && isPartitionInvalidatedSince(primaryKey, staleRow.epoch)) {
+                cache.asMap().remove(primaryKey, staleRow);
+            }
+        }
+
+        final CachedRow cachedRow = cache.getIfPresent(primaryKey);
+        if (cachedRow == null) {
+            displayCacheStatistics();
+            return null;
+        }
+        return cachedRow.row;
+    }
+
+    /**
+     * @return the invalidation epoch, to be given back to {@link #putIfNotInvalidated(Object[], Row, long)}
+     */
+    public long epoch() {
+        return invalidations.get();
+    }
+
+    /**
+     * Cache the row read for <em>encodedPrimaryKey</em> unless an invalidation happened since <em>epoch</em>
+     */
+    public void putIfNotInvalidated(Object[] encodedPrimaryKey, Row row, long epoch) {
+        if (row == null || invalidations.get() != epoch) {
+            return;
+        }
+        final PrimaryKey primaryKey = new PrimaryKey(encodedPrimaryKey);
+        if (!ttlDeadlines.isEmpty() && (isWithinStatementTTL(primaryKey) || isWithinStatementTTL(primaryKey.partitionKey(partitionKeysCount)))) {
+            return;
+        }
+        cache.put(primaryKey, new CachedRow(row, epoch));
+        // An invalidation may have run between the check and the put
+        if (invalidations.get() != epoch) {
+            cache.invalidate(primaryKey);
+        }
+    }
+
+    /**
+     * Invalidate the entry of <em>encodedPrimaryKey</em> before and after the execution of <em>write</em>
+     */
+    public <V> CompletableFuture<V> invalidateAround(Object[] encodedPrimaryKey, Supplier<CompletableFuture<V>> write) {
+        final PrimaryKey primaryKey = new PrimaryKey(encodedPrimaryKey);
+        invalidate(primaryKey);
+        return write.get().whenComplete((result, throwable) -> invalidate(primaryKey));
+    }
+
+    /**
+     * Invalidate all the entries of the partition <em>encodedPartitionKey</em> before and after the execution of <em>write</em>
+     */
+    public <V> CompletableFuture<V> invalidatePartitionAround(Object[] encodedPartitionKey, Supplier<CompletableFuture<V>> write) {
+        invalidatePartition(encodedPartitionKey);
+        return write.get().whenComplete((result, throwable) -> invalidatePartition(encodedPartitionKey));
+    }
+
+    /**
+     * Invalidate the entries written by saving <em>instance</em> before and after the execution of <em>write</em>.
+     * When only static columns are written, the whole partition is invalidated
+     */
+    public <V> CompletableFuture<V> invalidateAround(T instance, boolean staticColumnsOnly, CassandraOptions options,
+                                                     Supplier<CompletableFuture<V>> write) {
+        final Object[] encodedKey = extractEncodedKey(instance, staticColumnsOnly, options);
+        options.getTimeToLive()
+                .filter(ttl -> ttl > 0)
+                .ifPresent(ttl -> recordStatementTTL(new PrimaryKey(encodedKey), ttl));
+        return encodedKey.length == primaryKeys.length
+                ? invalidateAround(encodedKey, write)
+                : invalidatePartitionAround(encodedKey, write);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+        partitionInvalidations.clear();
+    }
+
+    /**
+     * Do not cache the row, or the rows of the partition, written with a per-statement TTL until it elapses
+     */
+    private void recordStatementTTL(PrimaryKey primaryKey, int ttlInSeconds) {
+        final long now = ticker.read();
+        ttlDeadlines.merge(primaryKey, now + TimeUnit.SECONDS.toNanos(ttlInSeconds), Math::max);
+        if (ttlWrites.incrementAndGet() % TTL_DEADLINES_PURGE_INTERVAL == 0) {
+            ttlDeadlines.values().removeIf(deadline -> deadline - now <= 0);
+        }
+    }
+
+    private boolean isWithinStatementTTL(PrimaryKey primaryKey) {
+        final Long deadline = ttlDeadlines.get(primaryKey);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - ticker.read() > 0) {
+            return true;
+        }
+        ttlDeadlines.remove(primaryKey, deadline);
+        return false;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    private void invalidate(PrimaryKey primaryKey) {
+        invalidations.incrementAndGet();
+        cache.invalidate(primaryKey);
+    }
+
+    private void invalidatePartition(Object[] encodedPartitionKey) {
+        final long epoch = invalidations.incrementAndGet();
+        if (encodedPartitionKey.length == primaryKeys.length) {
+            cache.invalidate(new PrimaryKey(encodedPartitionKey));
+            return;
+        }
+
+        partitionInvalidations.merge(new PrimaryKey(encodedPartitionKey), epoch, Math::max);
+        if (partitionInvalidations.size() > MAX_PARTITION_INVALIDATIONS) {
+            // The rows invalidated by the dropped epochs go too. Any read started before
+            // this point fails the epoch check of putIfNotInvalidated()
+            cache.invalidateAll();
+            partitionInvalidations.clear();
+        }
+    }
+
+    /**
+     * Whether the partition of <em>primaryKey</em> was invalidated after a read started at <em>epoch</em>
+     */
+    private boolean isPartitionInvalidatedSince(PrimaryKey primaryKey, long epoch) {
+        if (partitionInvalidations.isEmpty()) {
+            return false;
+        }
+        final Long partitionEpoch = partitionInvalidations.get(primaryKey.partitionKey(partitionKeysCount));
+        return partitionEpoch != null && epoch < partitionEpoch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] extractEncodedKey(T instance, boolean partitionOnly, CassandraOptions options) {
+        final AbstractProperty<T, ?, ?>[] properties = primaryKeys;
+        final int length = partitionOnly ? partitionKeysCount : properties.length;
+        final Object[] encodedKey = new Object[length];
+        for (int i = 0; i < length; i++) {
+            final AbstractProperty<T, Object, ?> property = (AbstractProperty<T, Object, ?>) properties[i];
+            encodedKey[i] = property.encodeFromJava(property.getFieldValue(instance), Optional.of(options));
+        }
+        return encodedKey;
+    }
+
+    private static int weightOf(Row row) {
+        long weight = ENTRY_OVERHEAD;
+        final int columnCount = row.getColumnDefinitions().size();
+        for (int i = 0; i < columnCount; i++) {
+            final ByteBuffer bytes = row.getBytesUnsafe(i);
+            if (bytes != null) {
+                weight += bytes.remaining();
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private void displayCacheStatistics() {
+        if (LOGGER.isDebugEnabled()) {
+            CacheStats cacheStats = cache.stats();
+            LOGGER.debug("Entity cache statistics for {} :", entityClass.getCanonicalName());
+            LOGGER.debug("\t\t- size : {}", cache.size());
+            LOGGER.debug("\t\t- hits count : {}", cacheStats.hitCount());
+            LOGGER.debug("\t\t- hits rate : {}", cacheStats.hitRate());
+            LOGGER.debug("\t\t- miss count : {}", cacheStats.missCount());
+            LOGGER.debug("\t\t- miss rate : {}", cacheStats.missRate());
+            LOGGER.debug("\t\t- eviction count : {}", cacheStats.evictionCount());
+        }
+    }
+
+    private static final class CachedRow {
+        private final Row row;
+        private final long epoch;
+
+        private CachedRow(Row row, long epoch) {
+            this.row = row;
+            this.epoch = epoch;
+        }
+    }
+
+    private static final class PrimaryKey {
+        private final Object[] encodedValues;
+        private final int hashCode;
+
+        private PrimaryKey(Object[] encodedValues) {
+            this.encodedValues = encodedValues;
+            this.hashCode = Arrays.hashCode(encodedValues);
+        }
+
+        private PrimaryKey partitionKey(int partitionKeysCount) {
+            return encodedValues.length == partitionKeysCount
+                    ? this
+                    : new PrimaryKey(Arrays.copyOf(encodedValues, partitionKeysCount));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PrimaryKey that = (PrimaryKey) o;
+            return hashCode == that.hashCode && Arrays.equals(encodedValues, that.encodedValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(encodedValues);
+        }
+    }
+}
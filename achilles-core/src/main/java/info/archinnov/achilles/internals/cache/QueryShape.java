@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Structural key of a query built with the generated DSL.
+ * <br/>
+ * Each step of the DSL chain adds a token describing the clause it adds to the query
+ * (clause source text, entity meta, keyspace/table names ...). Two DSL chains with the same
+ * tokens render the same CQL string, so the prepared statement can be looked up
+ * with this key without rendering the query string.
+ * <br/>
+ * A shape can be marked as <em>not cacheable</em> when a step adds a clause whose
+ * structure is only known at runtime (function calls ...)
+ */
+public class QueryShape {
+
+    private final List<Object> tokens;
+    private boolean cacheable = true;
+    private int hashCode = 1;
+
+    public QueryShape() {
+        this.tokens = new ArrayList<>();
+    }
+
+    private QueryShape(List<Object> tokens, int hashCode) {
+        this.tokens = tokens;
+        this.hashCode = hashCode;
+    }
+
+    public QueryShape add(Object token) {
+        tokens.add(token);
+        hashCode = 31 * hashCode + Objects.hashCode(token);
+        return this;
+    }
+
+    public void markNotCacheable() {
+        this.cacheable = false;
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    /**
+     * Immutable copy of this shape, to be used as cache key
+     */
+    public QueryShape snapshot() {
+        return new QueryShape(Collections.unmodifiableList(new ArrayList<>(tokens)), hashCode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        QueryShape that = (QueryShape) o;
+        return hashCode == that.hashCode &&
+                tokens.equals(that.tokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryShape{" +
+                "tokens=" + tokens +
+                ", cacheable=" + cacheable +
+                '}';
+    }
+}
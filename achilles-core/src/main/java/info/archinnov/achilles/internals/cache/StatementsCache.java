@@ -22,11 +22,13 @@ import static java.lang.String.format;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Session;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheStats;
@@ -37,14 +39,18 @@ public class StatementsCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(StatementsCache.class);
 
     private final Cache<String, PreparedStatement> dynamicCache;
+    private final Cache<QueryShape, PreparedStatement> shapeCache;
     private final Cache<CacheKey, PreparedStatement> staticCache;
+    private final Cache<ColumnMaskKey, PreparedStatement> columnMaskCache;
     private final int maxLRUCacheSize;
 
 
     public StatementsCache(int maxLRUCacheSize) {
         this.maxLRUCacheSize = maxLRUCacheSize;
         this.dynamicCache = newBuilder().maximumSize(maxLRUCacheSize).build();
+        this.shapeCache = newBuilder().maximumSize(maxLRUCacheSize).build();
         this.staticCache = newBuilder().build();
+        this.columnMaskCache = newBuilder().maximumSize(maxLRUCacheSize).build();
     }
 
     public void putStaticCache(CacheKey cacheKey, Callable<PreparedStatement> psSupplier) {
@@ -84,6 +90,37 @@ public class StatementsCache {
         }
     }
 
+    /**
+     * Look up the prepared statement of a DSL query by its shape. The query string
+     * is only rendered (by <em>queryStringSupplier</em>) on cache miss
+     */
+    public PreparedStatement getShapeCache(QueryShape queryShape, Supplier<String> queryStringSupplier, Session session) {
+        PreparedStatement preparedStatement = shapeCache.getIfPresent(queryShape);
+        if (preparedStatement == null) {
+            preparedStatement = getDynamicCache(queryStringSupplier.get(), session);
+            shapeCache.put(queryShape.snapshot(), preparedStatement);
+        }
+        return preparedStatement;
+    }
+
+    /**
+     * Look up the prepared UPDATE statement for the given column mask. This cache tier has its
+     * own LRU, of the same maximum size, so that entity updates do not evict user DSL queries.
+     * The statement is only generated (by <em>statementSupplier</em>) on cache miss
+     */
+    public PreparedStatement getColumnMaskCache(ColumnMaskKey columnMaskKey, Supplier<RegularStatement> statementSupplier, Session session) {
+        PreparedStatement preparedStatement = columnMaskCache.getIfPresent(columnMaskKey);
+        if (preparedStatement == null) {
+            final RegularStatement statement = statementSupplier.get();
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Preparing UPDATE query %s for key %s", statement.getQueryString(), columnMaskKey));
+            }
+            preparedStatement = session.prepare(statement);
+            columnMaskCache.put(columnMaskKey, preparedStatement);
+        }
+        return preparedStatement;
+    }
+
     private void displayCacheStatistics() {
 
         long cacheSize = dynamicCache.size();
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.*;
@@ -50,8 +51,11 @@ public class ManagerFactoryCodeGen {
         for(EntityMetaSignature x: signatures) {
             TypeName managerType = ClassName.get(MANAGER_PACKAGE, x.className + MANAGER_SUFFIX);
             final ManagerAndDSLClasses managerAndDSLClasses = ManagerCodeGen.buildManager(parsingContext, aptUtils, x);
-            managerClasses.add(managerAndDSLClasses.managerClass);
-            dslClasses.addAll(managerAndDSLClasses.dslClasses);
+            managerClasses.add(withOriginatingElements(managerAndDSLClasses.managerClass, x.sourceCode.originatingElements));
+            for (TypeSpec dslClass : managerAndDSLClasses.dslClasses) {
+                dslClasses.add(withOriginatingElements(dslClass, x.sourceCode.originatingElements));
+            }
+            x.sourceCode.originatingElements.forEach(builder::addOriginatingElement);
             final FieldSpec entityPropertyMeta = FieldSpec
                     .builder(x.typeName, x.fieldName + META_SUFFIX, Modifier.FINAL, Modifier.PRIVATE)
                     .initializer("new $T()", x.typeName)
@@ -78,6 +82,16 @@ public class ManagerFactoryCodeGen {
         return new ManagersAndDSLClasses(builder.build(), managerClasses, dslClasses);
     }
 
+    /**
+     * Generated managers and DSL classes only depend on their entity, expose it
+     * to the Filer so that build tools can track them incrementally
+     */
+    private static TypeSpec withOriginatingElements(TypeSpec typeSpec, List<Element> originatingElements) {
+        final TypeSpec.Builder builder = typeSpec.toBuilder();
+        originatingElements.forEach(builder::addOriginatingElement);
+        return builder.build();
+    }
+
     private static FieldSpec buildFunctionProperty(FunctionSignature functionSignature) {
         final String fieldName = functionSignature.name + FUNCTION_PROPERTY_SUFFIX;
         CodeBlock keyspaceCodeBlock;
@@ -20,7 +20,11 @@ import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.CLU
 import static info.archinnov.achilles.internals.metamodel.columns.ColumnType.PARTITION;
 import static info.archinnov.achilles.internals.parser.TypeUtils.*;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.*;
@@ -28,6 +32,7 @@ import com.squareup.javapoet.*;
 import info.archinnov.achilles.internals.codegen.meta.EntityMetaCodeGen.EntityMetaSignature;
 import info.archinnov.achilles.internals.metamodel.columns.ClusteringColumnInfo;
 import info.archinnov.achilles.internals.metamodel.columns.PartitionKeyInfo;
+import info.archinnov.achilles.type.tuples.Tuple2;
 import info.archinnov.achilles.type.tuples.Tuple3;
 
 public abstract class CrudAPICodeGen {
@@ -36,6 +41,7 @@ public abstract class CrudAPICodeGen {
             (o1, o2) -> o1._3().order.compareTo(o2._3().order);
     public static final Comparator<Tuple3<String, TypeName, ClusteringColumnInfo>> CLUSTERING_COLUMN_SORTER =
             (o1, o2) -> o1._3().order.compareTo(o2._3().order);
+    private static final ClassName[] TUPLES = {TUPLE1, TUPLE2, TUPLE3, TUPLE4, TUPLE5, TUPLE6, TUPLE7, TUPLE8, TUPLE9, TUPLE10};
 
     protected abstract void augmentCRUDClass(EntityMetaSignature signature, TypeSpec.Builder crudClassBuilder);
 
@@ -48,6 +54,9 @@ public abstract class CrudAPICodeGen {
                 .addMethod(buildWithSchemaNameProvider(signature))
                 .addMethod(buildFind(signature));
 
+        buildFindByIds(signature).ifPresent(crudClass::addMethod);
+        crudClass.addMethod(buildScan(signature));
+
         // API for table
         if (signature.isTable()) {
             crudClass.addMethod(buildDeleteInstance(signature))
@@ -56,6 +65,7 @@ public abstract class CrudAPICodeGen {
             if (!signature.isCounterEntity()) {
                 crudClass.addMethod(buildInsert(signature));
                 crudClass.addMethod(buildUpdate(signature));
+                crudClass.addMethod(buildBulkWriter(signature));
                 if (signature.hasStatic()) {
                     crudClass.addMethod(buildInsertStatic(signature));
                     crudClass.addMethod(buildUpdateStatic(signature));
@@ -133,6 +143,76 @@ public abstract class CrudAPICodeGen {
         return builder.build();
     }
 
+    /*
+       public FindByIdsWithOptions<Tuple2<Long, Date>, ENTITY> findByIds(Collection<Tuple2<Long, Date>> primaryKeys) {
+         validate keys not null
+         return FindByIdsWithOptions(entityClass, meta, rte, keys, values, encodedValues, cassandraOptions);
+       }
+    */
+    private static Optional<MethodSpec> buildFindByIds(EntityMetaSignature signature) {
+        final List<Tuple2<String, TypeName>> primaryKeyColumns = new ArrayList<>();
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == PARTITION)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (PartitionKeyInfo) x.context.columnInfo))
+                .sorted(PARTITION_KEY_SORTER)
+                .forEach(tuple -> primaryKeyColumns.add(Tuple2.of(tuple._1(), tuple._2().box())));
+
+        signature.fieldMetaSignatures
+                .stream()
+                .filter(x -> x.context.columnType == CLUSTERING)
+                .map(x -> Tuple3.of(x.context.fieldName, x.sourceType, (ClusteringColumnInfo) x.context.columnInfo))
+                .sorted(CLUSTERING_COLUMN_SORTER)
+                .forEach(tuple -> primaryKeyColumns.add(Tuple2.of(tuple._1(), tuple._2().box())));
+
+        final int columnsCount = primaryKeyColumns.size();
+        if (columnsCount > TUPLES.length) {
+            return Optional.empty();
+        }
+
+        final TypeName primaryKeyType = columnsCount == 1
+                ? primaryKeyColumns.get(0)._2()
+                : genericType(TUPLES[columnsCount - 1], primaryKeyColumns.stream().map(Tuple2::_2).toArray(TypeName[]::new));
+        final TypeName objectArrayList = genericType(LIST, ArrayTypeName.of(TypeName.OBJECT));
+        final ParameterizedTypeName returnType = genericType(FIND_BY_IDS_WITH_OPTIONS, primaryKeyType, signature.entityRawClass);
+
+        final MethodSpec.Builder builder = MethodSpec.methodBuilder("findByIds")
+                .addJavadoc("Find many entities by their complete primary key, with a limited number of concurrent requests\n\n")
+                .addJavadoc("@param primaryKeys complete primary keys, as $L\n", columnsCount == 1
+                        ? "partition key '" + primaryKeyColumns.get(0)._1() + "'"
+                        : "tuples of (" + primaryKeyColumns.stream().map(Tuple2::_1).collect(Collectors.joining(", ")) + ")")
+                .addJavadoc("@return FindByIdsWithOptions<$T, $T>", primaryKeyType, signature.entityRawClass)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(genericType(COLLECTION, primaryKeyType), "primaryKeys", Modifier.FINAL)
+                .addStatement("$T.validateNotNull($N, $S)", VALIDATOR, "primaryKeys", "The provided primary keys should not be null")
+                .addStatement("final $T keys = new $T<>($N)", genericType(LIST, primaryKeyType), ARRAY_LIST, "primaryKeys")
+                .addStatement("final $T primaryKeyValues = new $T<>(keys.size())", objectArrayList, ARRAY_LIST)
+                .addStatement("final $T encodedPrimaryKeyValues = new $T<>(keys.size())", objectArrayList, ARRAY_LIST)
+                .beginControlFlow("for ($T primaryKey : keys)", primaryKeyType)
+                .addStatement("$T.validateNotNull(primaryKey, $S)", VALIDATOR, "The provided primary key should not be null");
+
+        final List<String> accessors = new ArrayList<>();
+        final List<String> encodedAccessors = new ArrayList<>();
+        for (int i = 0; i < columnsCount; i++) {
+            final String fieldName = primaryKeyColumns.get(i)._1();
+            final String accessor = columnsCount == 1 ? "primaryKey" : "primaryKey._" + (i + 1) + "()";
+            if (columnsCount > 1) {
+                builder.addStatement("$T.validateNotNull($L, $S, $S)", VALIDATOR, accessor,
+                        "Primary key column '%s' should not be null", fieldName);
+            }
+            accessors.add(accessor);
+            encodedAccessors.add(signature.className + META_SUFFIX + "." + fieldName + ".encodeFromJava(" + accessor + ", cassandraOptions)");
+        }
+
+        builder.addStatement("primaryKeyValues.add(new Object[]{$L})", String.join(", ", accessors))
+                .addStatement("encodedPrimaryKeyValues.add(new Object[]{$L})", String.join(", ", encodedAccessors))
+                .endControlFlow()
+                .addStatement("return new $T(entityClass, meta, rte, keys, primaryKeyValues, encodedPrimaryKeyValues, cassandraOptions)", returnType)
+                .returns(returnType);
+
+        return Optional.of(builder.build());
+    }
+
     private static MethodSpec buildInsert(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insert")
                 .addJavadoc("Insert this entity\n\n")
@@ -158,6 +238,26 @@ public abstract class CrudAPICodeGen {
     }
 
 
+    private static MethodSpec buildBulkWriter(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("bulkWriter")
+                .addJavadoc("Write many entities with UNLOGGED batches grouped by partition and a limited number of concurrent requests\n\n")
+                .addJavadoc("@return $T<$T>", BULK_WRITER, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addStatement("return bulkWriterInternal(cassandraOptions)")
+                .returns(genericType(BULK_WRITER, signature.entityRawClass))
+                .build();
+    }
+
+    private static MethodSpec buildScan(EntityMetaSignature signature) {
+        return MethodSpec.methodBuilder("scan")
+                .addJavadoc("Scan all the entities with parallel token range queries\n\n")
+                .addJavadoc("@return $T<$T>", TABLE_SCAN, signature.entityRawClass)
+                .addModifiers(Modifier.FINAL, Modifier.PUBLIC)
+                .addStatement("return scanInternal(cassandraOptions)")
+                .returns(genericType(TABLE_SCAN, signature.entityRawClass))
+                .build();
+    }
+
     private static MethodSpec buildInsertStatic(EntityMetaSignature signature) {
         return MethodSpec.methodBuilder("insertStatic")
                 .addJavadoc("Insert only partition key(s) and static column(s).\n\n")
@@ -23,6 +23,7 @@ import java.util.*;
 import javax.lang.model.element.Modifier;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
@@ -184,6 +185,32 @@ public abstract class AbstractDSLCodeGen {
                 .build();
     }
 
+    public MethodSpec buildGetQueryShapeInternal() {
+        return MethodSpec
+                .methodBuilder("getQueryShapeInternal")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.FINAL, Modifier.PROTECTED)
+                .addStatement("return queryShape")
+                .returns(QUERY_SHAPE)
+                .build();
+    }
+
+    /**
+     * Generate the given statement, which adds a clause to the query being built,
+     * followed by the recording of its source text into the <em>queryShape</em>
+     * so that the prepared statement can be looked up without rendering the CQL string.
+     * <br/>
+     * Package names are stripped from the recorded source text to keep it short
+     */
+    public static CodeBlock shapedStatement(String format, Object... args) {
+        final String sourceText = CodeBlock.builder().add(format, args).build().toString()
+                .replaceAll("\\b([a-z_][a-zA-Z0-9_]*\\.)+(?=[A-Z])", "");
+        return CodeBlock.builder()
+                .addStatement(format, args)
+                .addStatement("queryShape.add($S)", sourceText)
+                .build();
+    }
+
     public boolean hasCounter(EntityMetaSignature signature) {
         return signature
                 .fieldMetaSignatures
@@ -208,8 +235,9 @@ public abstract class AbstractDSLCodeGen {
         return MethodSpec.methodBuilder("allColumns_FromBaseTable")
                 .addJavadoc("Generate ... * FROM ...")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
-                        whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addCode(shapedStatement("final $T where = $L.all().from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), meta.getTableOrViewName()).where()",
+                        whereTypeName, privateFieldName, "unknown_keyspace_for_"))
+                .addStatement("queryShape.add(meta)")
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -222,7 +250,8 @@ public abstract class AbstractDSLCodeGen {
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addCode(shapedStatement("final $T where = $L.all().from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName))
+                .addStatement("queryShape.add(currentKeyspace).add(currentTable)")
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -232,8 +261,9 @@ public abstract class AbstractDSLCodeGen {
         return MethodSpec.methodBuilder("fromBaseTable")
                 .addJavadoc("Generate a ... <strong>FROM xxx</strong> ... ")
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
-                .addStatement("final $T where = $L.from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), " +
-                        "meta.getTableOrViewName()).where()", whereTypeName, privateFieldName, "unknown_keyspace_for_")
+                .addCode(shapedStatement("final $T where = $L.from(meta.getKeyspace().orElse($S + meta.entityClass.getCanonicalName()), " +
+                        "meta.getTableOrViewName()).where()", whereTypeName, privateFieldName, "unknown_keyspace_for_"))
+                .addStatement("queryShape.add(meta)")
                 .addStatement("return new $T(where, new $T())", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
@@ -246,7 +276,8 @@ public abstract class AbstractDSLCodeGen {
                 .addParameter(SCHEMA_NAME_PROVIDER, "schemaNameProvider", Modifier.FINAL)
                 .addStatement("final String currentKeyspace = lookupKeyspace(schemaNameProvider, meta.entityClass)")
                 .addStatement("final String currentTable = lookupTable(schemaNameProvider, meta.entityClass)")
-                .addStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName)
+                .addCode(shapedStatement("final $T where = $L.from(currentKeyspace, currentTable).where()", whereTypeName, privateFieldName))
+                .addStatement("queryShape.add(currentKeyspace).add(currentTable)")
                 .addStatement("return new $T(where, $T.withSchemaNameProvider(schemaNameProvider))", newTypeName, OPTIONS)
                 .returns(newTypeName)
                 .build();
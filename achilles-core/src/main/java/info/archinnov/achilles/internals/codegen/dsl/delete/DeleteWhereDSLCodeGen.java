@@ -118,6 +118,7 @@ public abstract class DeleteWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal())
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
         buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder);
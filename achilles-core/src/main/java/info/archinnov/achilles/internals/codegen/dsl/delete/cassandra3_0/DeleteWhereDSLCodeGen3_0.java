@@ -101,7 +101,8 @@ public class DeleteWhereDSLCodeGen3_0 extends DeleteWhereDSLCodeGen2_2
                 .addMethod(buildGetRte())
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
-                .addMethod(buildGetEncodedBoundValuesInternal());
+                .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal());
 
         final TypeSpec.Builder relationClassBuilder = TypeSpec.classBuilder(DSL_RELATION)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
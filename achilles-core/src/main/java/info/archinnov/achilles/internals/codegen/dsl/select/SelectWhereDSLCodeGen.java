@@ -119,6 +119,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal())
                 .addMethod(buildLimit(lastSignature))
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
@@ -137,7 +138,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>ORDER BY $L ASC</strong>", fieldSignatureInfo.cqlColumn)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
-                    .addStatement("where.orderBy($T.asc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addCode(shapedStatement("where.orderBy($T.asc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn))
                     .addStatement("return this")
                     .build();
 
@@ -146,7 +147,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                     .addJavadoc("Generate a SELECT ... FROM ... WHERE ... <strong>ORDER BY $L DESC</strong>", fieldSignatureInfo.cqlColumn)
                     .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                     .returns(lastSignature.returnClassType)
-                    .addStatement("where.orderBy($T.desc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn)
+                    .addCode(shapedStatement("where.orderBy($T.desc($S))", QUERY_BUILDER, fieldSignatureInfo.cqlColumn))
                     .addStatement("return this")
                     .build();
 
@@ -160,7 +161,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addParameter(TypeName.INT.box(), "limit", Modifier.FINAL)
                 .returns(lastSignature.returnClassType)
-                .addStatement("where.limit($T.bindMarker($S))", QUERY_BUILDER, "lim")
+                .addCode(shapedStatement("where.limit($T.bindMarker($S))", QUERY_BUILDER, "lim"))
                 .addStatement("boundValues.add($N)", "limit")
                 .addStatement("encodedValues.add($N)", "limit")
                 .addStatement("return this")
@@ -295,6 +296,7 @@ public abstract class SelectWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal())
                 .addMethod(buildLimit(classSignature));
 
 //        augmentClusteringWhereClass(builder, rootClassName, classesSignature, lastSignature);
@@ -113,6 +113,7 @@ public abstract class UpdateWhereDSLCodeGen extends AbstractDSLCodeGen
                 .addMethod(buildGetOptions())
                 .addMethod(buildGetBoundValuesInternal())
                 .addMethod(buildGetEncodedBoundValuesInternal())
+                .addMethod(buildGetQueryShapeInternal())
                 .addMethod(buildGetThis(lastSignature.returnClassType));
 
         buildLWtConditionMethods(signature, lastSignature.className, lastSignature, hasCounter, builder);
@@ -25,10 +25,13 @@ import static info.archinnov.achilles.internals.strategy.naming.InternalNamingSt
 import static info.archinnov.achilles.internals.utils.NamingHelper.upperCaseFirst;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 import javax.lang.model.element.Modifier;
@@ -143,6 +146,7 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
                .addJavadoc("<ul/>\n");
 
         builder.addAnnotation(ACHILLES_META_ANNOT)
+                .addOriginatingElement(elm)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addMethod(buildEntityClass(rawClassTypeName))
                 .addMethod(buildDerivedTableName(elm, globalParsingContext.namingStrategy))
@@ -175,6 +179,10 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
 
         builder.addMethod(buildNewInstanceFromCustomConstructor(customConstructorFieldMetaSignatures, rawClassTypeName));
 
+        if (customConstructorFieldMetaSignatures.isEmpty()) {
+            builder.addMethod(buildDecodeRow(entityType, fieldMetaSignatures, rawBeanType));
+        }
+
         for(FieldMetaSignature x: fieldMetaSignatures) {
             builder.addField(x.buildPropertyAsField());
         }
@@ -218,6 +226,60 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
         return methodSpec.build();
     }
 
+    /**
+     * Generate straight-line decoding of a row into a new entity instance. Each statement
+     * targets a known property so the call sites are monomorphic. Simple properties without
+     * codec are read directly by column index with their target type.
+     * <br/>
+     * Properties are listed in the same order as <em>AbstractEntityProperty.allColumnsWithComputed</em>
+     */
+    private MethodSpec buildDecodeRow(EntityType entityType, List<FieldMetaSignature> parsingResults, TypeName rawBeanType) {
+        final List<String> fieldNames = new ArrayList<>(partitionKeysFieldNames(parsingResults));
+        if (entityType == EntityType.TABLE) {
+            fieldNames.addAll(staticColumnsFieldNames(parsingResults));
+        }
+        fieldNames.addAll(clusteringColumnsFieldNames(parsingResults));
+        fieldNames.addAll(normalColumnsFieldNames(parsingResults));
+        if (entityType == EntityType.TABLE) {
+            fieldNames.addAll(counterColumnsFieldNames(parsingResults));
+        }
+        fieldNames.addAll(computedColumnsFieldNames(parsingResults));
+
+        final Map<String, FieldMetaSignature> fieldsByName = parsingResults
+                .stream()
+                .collect(toMap(x -> x.context.fieldName, x -> x));
+
+        final MethodSpec.Builder methodSpec = MethodSpec
+                .methodBuilder("decodeRow")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(ROW, "row$", Modifier.FINAL)
+                .addParameter(ArrayTypeName.of(INT), "columnIndexes$", Modifier.FINAL)
+                .addParameter(rawBeanType, "entity$", Modifier.FINAL)
+                .addStatement("int index$$");
+
+        for (int i = 0; i < fieldNames.size(); i++) {
+            final FieldMetaSignature field = fieldsByName.get(fieldNames.get(i));
+            methodSpec.addStatement("index$$ = columnIndexes$$[$L]", i)
+                    .beginControlFlow("if (index$$ >= 0)");
+            if (isDirectlyDecodable(field)) {
+                methodSpec.addStatement("$L.setField(entity$$, row$$.isNull(index$$) ? null : row$$.get(index$$, $T.class))",
+                        field.context.fieldName, getRawType(field.targetType).box());
+            } else {
+                methodSpec.addStatement("$L.decodeField(row$$, index$$, entity$$)", field.context.fieldName);
+            }
+            methodSpec.endControlFlow();
+        }
+
+        return methodSpec.build();
+    }
+
+    private static boolean isDirectlyDecodable(FieldMetaSignature field) {
+        return getRawType(field.propertyType).equals(SIMPLE_PROPERTY)
+                && field.sourceType.box().equals(field.targetType.box())
+                && field.hasFallThroughCodec;
+    }
+
     private MethodSpec buildFieldNameToCqlColumn(List<FieldMetaSignature> parsingResults) {
         final MethodSpec.Builder builder = MethodSpec.methodBuilder("fieldNameToCqlColumn")
                 .addAnnotation(Override.class)
@@ -288,74 +350,46 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
     }
 
     private MethodSpec buildPartitionKeys(List<FieldMetaSignature> parsingResults, TypeName rawClassType) {
-        StringJoiner joiner = new StringJoiner(",");
-        parsingResults
-                .stream()
-                .filter(x -> x.context.columnType == ColumnType.PARTITION)
-                .map(x -> Tuple2.of(x.context.fieldName, (PartitionKeyInfo) x.context.columnInfo))
-                .sorted(PARTITION_KEY_SORTER)
-                .map(x -> x._1())
-                .forEach(x -> joiner.add(x));
+        final String joined = String.join(",", partitionKeysFieldNames(parsingResults));
 
         return MethodSpec.methodBuilder("getPartitionKeys")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
                 .returns(propertyListType(rawClassType))
-                .addStatement("return $T.asList($L)", ARRAYS, joiner.toString())
+                .addStatement("return $T.asList($L)", ARRAYS, joined)
                 .build();
     }
 
     private MethodSpec buildClusteringColumns(List<FieldMetaSignature> parsingResults, TypeName rawClassType) {
-        StringJoiner joiner = new StringJoiner(",");
-        parsingResults
-                .stream()
-                .filter(x -> x.context.columnType == CLUSTERING)
-                .map(x -> Tuple2.of(x.context.fieldName, (ClusteringColumnInfo) x.context.columnInfo))
-                .sorted(CLUSTERING_COLUMN_SORTER)
-                .map(x -> x._1())
-                .forEach(x -> joiner.add(x));
+        final String joined = String.join(",", clusteringColumnsFieldNames(parsingResults));
 
         return MethodSpec.methodBuilder("getClusteringColumns")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
                 .returns(propertyListType(rawClassType))
-                .addStatement("return $T.asList($L)", ARRAYS, joiner.toString())
+                .addStatement("return $T.asList($L)", ARRAYS, joined)
                 .build();
     }
 
     private MethodSpec buildStaticColumns(List<FieldMetaSignature> parsingResults, TypeName rawClassType) {
-        StringJoiner joiner = new StringJoiner(",");
-        parsingResults
-                .stream()
-                .filter(x -> (x.context.columnType == ColumnType.STATIC || x.context.columnType == ColumnType.STATIC_COUNTER))
-                .map(x -> Tuple2.of(x.context.cqlColumn, x.context.fieldName))
-                .sorted(BY_CQL_NAME_COLUMN_SORTER)
-                .map(x -> x._2())
-                .forEach(x -> joiner.add(x));
+        final String joined = String.join(",", staticColumnsFieldNames(parsingResults));
 
         return MethodSpec.methodBuilder("getStaticColumns")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
                 .returns(propertyListType(rawClassType))
-                .addStatement("return $T.asList($L)", ARRAYS, joiner.toString())
+                .addStatement("return $T.asList($L)", ARRAYS, joined)
                 .build();
     }
 
     private MethodSpec buildComputedColumns(List<FieldMetaSignature> parsingResults, TypeName rawClassType) {
-        StringJoiner joiner = new StringJoiner(",");
-        parsingResults
-                .stream()
-                .filter(x -> x.context.columnType == ColumnType.COMPUTED)
-                .map(x -> Tuple2.of(((ComputedColumnInfo) x.context.columnInfo).alias, x.context.fieldName))
-                .sorted(BY_CQL_NAME_COLUMN_SORTER)
-                .map(x -> x._2())
-                .forEach(x -> joiner.add(x));
+        final String joined = String.join(",", computedColumnsFieldNames(parsingResults));
 
         return MethodSpec.methodBuilder("getComputedColumns")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
                 .returns(propertyListType(rawClassType))
-                .addStatement("return $T.asList($L)", ARRAYS, joiner.toString())
+                .addStatement("return $T.asList($L)", ARRAYS, joined)
                 .build();
     }
 
@@ -375,38 +409,24 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
     }
 
     private MethodSpec buildCounterColumns(List<FieldMetaSignature> parsingResults, TypeName rawClassType) {
-        StringJoiner joiner = new StringJoiner(",");
-        parsingResults
-                .stream()
-                .filter(x -> x.context.columnType == COUNTER)
-                .map(x -> Tuple2.of(x.context.cqlColumn, x.context.fieldName))
-                .sorted(BY_CQL_NAME_COLUMN_SORTER)
-                .map(x -> x._2())
-                .forEach(x -> joiner.add(x));
+        final String joined = String.join(",", counterColumnsFieldNames(parsingResults));
 
         return MethodSpec.methodBuilder("getCounterColumns")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
                 .returns(propertyListType(rawClassType))
-                .addStatement("return $T.asList($L)", ARRAYS, joiner.toString())
+                .addStatement("return $T.asList($L)", ARRAYS, joined)
                 .build();
     }
 
     private MethodSpec buildNormalColumns(List<FieldMetaSignature> parsingResults, TypeName rawClassType) {
-        StringJoiner joiner = new StringJoiner(",");
-        parsingResults
-                .stream()
-                .filter(x -> x.context.columnType == ColumnType.NORMAL)
-                .map(x -> Tuple2.of(x.context.cqlColumn, x.context.fieldName))
-                .sorted(BY_CQL_NAME_COLUMN_SORTER)
-                .map(x -> x._2())
-                .forEach(x -> joiner.add(x));
+        final String joined = String.join(",", normalColumnsFieldNames(parsingResults));
 
         return MethodSpec.methodBuilder("getNormalColumns")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PROTECTED)
                 .returns(propertyListType(rawClassType))
-                .addStatement("return $T.asList($L)", ARRAYS, joiner.toString())
+                .addStatement("return $T.asList($L)", ARRAYS, joined)
                 .build();
     }
 
@@ -527,6 +547,66 @@ public class EntityMetaCodeGen implements CommonBeanMetaCodeGen {
                 .build();
     }
 
+    private static List<String> partitionKeysFieldNames(List<FieldMetaSignature> parsingResults) {
+        return parsingResults
+                .stream()
+                .filter(x -> x.context.columnType == ColumnType.PARTITION)
+                .map(x -> Tuple2.of(x.context.fieldName, (PartitionKeyInfo) x.context.columnInfo))
+                .sorted(PARTITION_KEY_SORTER)
+                .map(x -> x._1())
+                .collect(toList());
+    }
+
+    private static List<String> clusteringColumnsFieldNames(List<FieldMetaSignature> parsingResults) {
+        return parsingResults
+                .stream()
+                .filter(x -> x.context.columnType == CLUSTERING)
+                .map(x -> Tuple2.of(x.context.fieldName, (ClusteringColumnInfo) x.context.columnInfo))
+                .sorted(CLUSTERING_COLUMN_SORTER)
+                .map(x -> x._1())
+                .collect(toList());
+    }
+
+    private static List<String> staticColumnsFieldNames(List<FieldMetaSignature> parsingResults) {
+        return parsingResults
+                .stream()
+                .filter(x -> (x.context.columnType == ColumnType.STATIC || x.context.columnType == ColumnType.STATIC_COUNTER))
+                .map(x -> Tuple2.of(x.context.cqlColumn, x.context.fieldName))
+                .sorted(BY_CQL_NAME_COLUMN_SORTER)
+                .map(x -> x._2())
+                .collect(toList());
+    }
+
+    private static List<String> computedColumnsFieldNames(List<FieldMetaSignature> parsingResults) {
+        return parsingResults
+                .stream()
+                .filter(x -> x.context.columnType == ColumnType.COMPUTED)
+                .map(x -> Tuple2.of(((ComputedColumnInfo) x.context.columnInfo).alias, x.context.fieldName))
+                .sorted(BY_CQL_NAME_COLUMN_SORTER)
+                .map(x -> x._2())
+                .collect(toList());
+    }
+
+    private static List<String> counterColumnsFieldNames(List<FieldMetaSignature> parsingResults) {
+        return parsingResults
+                .stream()
+                .filter(x -> x.context.columnType == COUNTER)
+                .map(x -> Tuple2.of(x.context.cqlColumn, x.context.fieldName))
+                .sorted(BY_CQL_NAME_COLUMN_SORTER)
+                .map(x -> x._2())
+                .collect(toList());
+    }
+
+    private static List<String> normalColumnsFieldNames(List<FieldMetaSignature> parsingResults) {
+        return parsingResults
+                .stream()
+                .filter(x -> x.context.columnType == ColumnType.NORMAL)
+                .map(x -> Tuple2.of(x.context.cqlColumn, x.context.fieldName))
+                .sorted(BY_CQL_NAME_COLUMN_SORTER)
+                .map(x -> x._2())
+                .collect(toList());
+    }
+
     private ParameterizedTypeName propertyListType(TypeName rawClassType) {
         return genericType(LIST, genericType(ABSTRACT_PROPERTY, rawClassType, WILDCARD, WILDCARD));
     }
@@ -57,6 +57,7 @@ public class UDTMetaCodeGen implements CommonBeanMetaCodeGen {
         final String className = elm.getSimpleName() + META_SUFFIX;
         TypeName classType = ClassName.get(UDT_META_PACKAGE, className);
         final TypeSpec.Builder builder = TypeSpec.classBuilder(className)
+                .addOriginatingElement(elm)
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .superclass(genericType(ABSTRACT_UDT_CLASS_PROPERTY, rawBeanType))
                 .addMethod(buildGetStaticKeyspace(elm))
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import javax.validation.Validator;
 
@@ -29,6 +30,9 @@ import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.Session;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import info.archinnov.achilles.cache.EntityCacheConfig;
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
@@ -36,6 +40,8 @@ import info.archinnov.achilles.internals.interceptor.DefaultPostLoadBeanValidati
 import info.archinnov.achilles.internals.interceptor.DefaultPreMutateBeanValidationInterceptor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.json.JacksonMapperFactory;
+import info.archinnov.achilles.metrics.MetricsRegistry;
+import info.archinnov.achilles.metrics.NoOpMetricsRegistry;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -81,6 +87,9 @@ public class ConfigurationContext {
 
     private ExecutorService executorService;
     private boolean providedExecutorService;
+    private Executor callbackExecutor;
+
+    private boolean syncCallsOnCallerThread;
 
     private BeanFactory defaultBeanFactory;
 
@@ -95,6 +104,17 @@ public class ConfigurationContext {
 
     private Integer DMLResultsDisplaySize;
 
+    private boolean prepareStaticStatementsAsync;
+    private int prepareStaticStatementsMaxInFlight;
+
+    private int schemaBootstrapParallelism = 1;
+
+    private MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+
+    private Map<Class<?>, EntityCacheConfig> entityCacheConfigs = new HashMap<>();
+
+    private Optional<ConcurrencyLimiterConfig> concurrencyLimiter = Optional.empty();
+
     public boolean isForceSchemaGeneration() {
         return forceSchemaGeneration;
     }
@@ -290,6 +310,22 @@ public class ConfigurationContext {
         this.providedExecutorService = providedExecutorService;
     }
 
+    public Executor getCallbackExecutor() {
+        return callbackExecutor;
+    }
+
+    public void setCallbackExecutor(Executor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    public boolean isSyncCallsOnCallerThread() {
+        return syncCallsOnCallerThread;
+    }
+
+    public void setSyncCallsOnCallerThread(boolean syncCallsOnCallerThread) {
+        this.syncCallsOnCallerThread = syncCallsOnCallerThread;
+    }
+
     public void injectDependencies(TupleTypeFactory tupleTypeFactory, UserTypeFactory userTypeFactory, AbstractEntityProperty<?> entityProperty) {
         LOGGER.debug("Start injecting dependencies to meta classes");
 
@@ -314,6 +350,18 @@ public class ConfigurationContext {
         LOGGER.debug("Injecting global Insert strategy");
         entityProperty.inject(globalInsertStrategy);
 
+        LOGGER.debug("Injecting metrics registry");
+        entityProperty.inject(metricsRegistry);
+
+        if (entityCacheConfigs.containsKey(entityClass)) {
+            if (!entityProperty.isTable()) {
+                throw new AchillesException(String.format("Cannot enable entity cache for the materialized view entity %s",
+                        entityClass.getCanonicalName()));
+            }
+            LOGGER.debug("Injecting entity cache");
+            entityProperty.injectEntityCache(entityCacheConfigs.get(entityClass));
+        }
+
         if (!interceptors.isEmpty()) {
             LOGGER.debug("Injecting bean interceptors");
             interceptors.stream()
@@ -370,4 +418,52 @@ public class ConfigurationContext {
     public void setDMLResultsDisplaySize(Integer DMLResultsDisplaySize) {
         this.DMLResultsDisplaySize = DMLResultsDisplaySize;
     }
+
+    public boolean isPrepareStaticStatementsAsync() {
+        return prepareStaticStatementsAsync;
+    }
+
+    public void setPrepareStaticStatementsAsync(boolean prepareStaticStatementsAsync) {
+        this.prepareStaticStatementsAsync = prepareStaticStatementsAsync;
+    }
+
+    public int getPrepareStaticStatementsMaxInFlight() {
+        return prepareStaticStatementsMaxInFlight;
+    }
+
+    public void setPrepareStaticStatementsMaxInFlight(int prepareStaticStatementsMaxInFlight) {
+        this.prepareStaticStatementsMaxInFlight = prepareStaticStatementsMaxInFlight;
+    }
+
+    public int getSchemaBootstrapParallelism() {
+        return schemaBootstrapParallelism;
+    }
+
+    public void setSchemaBootstrapParallelism(int schemaBootstrapParallelism) {
+        this.schemaBootstrapParallelism = schemaBootstrapParallelism;
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    public Map<Class<?>, EntityCacheConfig> getEntityCacheConfigs() {
+        return entityCacheConfigs;
+    }
+
+    public void setEntityCacheConfigs(Map<Class<?>, EntityCacheConfig> entityCacheConfigs) {
+        this.entityCacheConfigs = entityCacheConfigs;
+    }
+
+    public Optional<ConcurrencyLimiterConfig> getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public void setConcurrencyLimiter(Optional<ConcurrencyLimiterConfig> concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
 }
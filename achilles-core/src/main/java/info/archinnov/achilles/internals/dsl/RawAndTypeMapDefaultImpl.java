@@ -31,8 +31,12 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPagesCollector;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
+import info.archinnov.achilles.internals.types.TypedMapRowMapper;
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAware {
@@ -65,6 +69,20 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
                 .thenApply(x -> Tuple2.of(mapResultSetToTypedMaps(x), x.getExecutionInfo()));
     }
 
+    @Override
+    default CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getAllTypedMapsAsyncWithStats(int maxRows, long maxBytes) {
+        final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+                meta(), boundStatement(), encodedBoundValues());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select all async with execution info, max rows %s : %s", maxRows,
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPagesCollector<>(runtimeEngine(), statementWrapper, options(), new TypedMapRowMapper(), maxRows, maxBytes)
+                .collect(runtimeEngine().execute(statementWrapper));
+    }
+
     @Override
     default CompletableFuture<Tuple2<TypedMap, ExecutionInfo>> getTypedMapAsyncWithStats() {
         final StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
@@ -99,6 +117,19 @@ public interface RawAndTypeMapDefaultImpl extends TypedMapAware, StatementTypeAw
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, options());
     }
 
+    @Override
+    default Publisher<TypedMap> typedMapPublisher() {
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement()),
+                meta(), boundStatement(), encodedBoundValues());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Generate typed map publisher for typed query : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPublisher<>(runtimeEngine(), statementWrapper, options(), new TypedMapRowMapper());
+    }
+
     @Override
     default Tuple2<Iterator<TypedMap>, ExecutionInfo> typedMapIteratorWithExecutionInfo() {
         TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper) this.typedMapIterator();
@@ -25,7 +25,8 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.Statement;
 
-import info.archinnov.achilles.internals.statements.OperationType;
+import info.archinnov.achilles.type.OperationType;
+
 
 public interface StatementTypeAware {
 
@@ -21,15 +21,17 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.stream.IntStream;
+import java.util.function.Consumer;
 
-import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
-import com.google.common.util.concurrent.Uninterruptibles;
 
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
+import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
+import info.archinnov.achilles.internals.types.TypedMapRowMapper;
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface TypedMapAware extends AsyncAware {
@@ -41,6 +43,32 @@ public interface TypedMapAware extends AsyncAware {
      */
     Iterator<TypedMap> typedMapIterator();
 
+    /**
+     * Return a {@link info.archinnov.achilles.type.reactive.Publisher}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;.
+     * The SELECT action is executed asynchronously on the first request of each subscription
+     * and result pages are only fetched when the subscriber has outstanding demand
+     */
+    Publisher<TypedMap> typedMapPublisher();
+
+    /**
+     * Execute the SELECT action and pass each row as {@link info.archinnov.achilles.type.TypedMap} to the <em>consumer</em>.
+     * Result pages are fetched while iterating.
+     * <br/>
+     * <strong>The same {@link info.archinnov.achilles.type.TypedMap} instance is reused for all the rows</strong>,
+     * use <em>TypedMap.fromMap(row)</em> to keep a row after the consumer returns
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     */
+    default void forEachTypedMap(Consumer<TypedMap> consumer) {
+        final Iterator<TypedMap> iterator = typedMapIterator();
+        if (iterator instanceof TypedMapIteratorWrapper) {
+            ((TypedMapIteratorWrapper) iterator).reuseRowBuffer();
+        }
+        while (iterator.hasNext()) {
+            consumer.accept(iterator.next());
+        }
+    }
+
     /**
      * Execute the SELECT action and return a {@link info.archinnov.achilles.type.tuples.Tuple2}&lt;{@link java.util.Iterator}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;
      * <br/>
@@ -73,7 +101,7 @@ public interface TypedMapAware extends AsyncAware {
      */
     default Tuple2<List<TypedMap>, ExecutionInfo> getTypedMapsWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(getTypedMapsAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::getTypedMapsAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -86,7 +114,42 @@ public interface TypedMapAware extends AsyncAware {
      */
     default List<TypedMap> getTypedMaps() {
         try {
-            return Uninterruptibles.getUninterruptibly(getTypedMapsAsync());
+            return CallerThreadExecutor.getUninterruptibly(this::getTypedMapsAsync);
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the SELECT action and return a {@link java.util.concurrent.CompletableFuture}&lt;{@link info.archinnov.achilles.type.tuples.Tuple2}&lt;
+     * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;, {@link com.datastax.driver.core.ExecutionInfo}&gt;&gt;
+     * with <strong>all</strong> the rows and the execution info of the last fetched page.
+     * Pages are fetched asynchronously until the results are exhausted, <em>maxRows</em> rows have been
+     * collected or the serialized size of the collected rows reaches <em>maxBytes</em>
+     * <br/>
+     */
+    CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getAllTypedMapsAsyncWithStats(int maxRows, long maxBytes);
+
+    /**
+     * Execute the SELECT action and return an {@link java.util.concurrent.CompletableFuture}&lt;
+     * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt;&gt; with <strong>all</strong> the rows,
+     * up to <em>maxRows</em>
+     * <br/>
+     */
+    default CompletableFuture<List<TypedMap>> getAllTypedMapsAsync(int maxRows) {
+        return getAllTypedMapsAsyncWithStats(maxRows, Long.MAX_VALUE)
+                .thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Execute the SELECT action and return a
+     * {@link java.util.List}&lt;{@link info.archinnov.achilles.type.TypedMap}&gt; with <strong>all</strong> the rows,
+     * up to <em>maxRows</em>
+     * <br/>
+     */
+    default List<TypedMap> getAllTypedMaps(int maxRows) {
+        try {
+            return CallerThreadExecutor.getUninterruptibly(() -> getAllTypedMapsAsync(maxRows));
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -112,7 +175,7 @@ public interface TypedMapAware extends AsyncAware {
      */
     default Tuple2<TypedMap, ExecutionInfo> getTypedMapWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(getTypedMapAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::getTypedMapAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -124,7 +187,7 @@ public interface TypedMapAware extends AsyncAware {
      */
     default TypedMap getTypedMap() {
         try {
-            return Uninterruptibles.getUninterruptibly(getTypedMapAsync());
+            return CallerThreadExecutor.getUninterruptibly(this::getTypedMapAsync);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -132,13 +195,16 @@ public interface TypedMapAware extends AsyncAware {
 
     /**
      * Map a list of {@link com.datastax.driver.core.ResultSet} objects to a list
-     * of {@link info.archinnov.achilles.type.TypedMap}
+     * of {@link info.archinnov.achilles.type.TypedMap}. All the rows share the same column dictionary
      */
     default List<TypedMap> mapResultSetToTypedMaps(ResultSet resultSet) {
-        final List<TypedMap> result = new ArrayList<>();
+        final int availableRows = resultSet.getAvailableWithoutFetching();
+        final List<TypedMap> result = new ArrayList<>(availableRows);
+        final TypedMapRowMapper rowMapper = new TypedMapRowMapper();
 
-        IntStream.range(0, resultSet.getAvailableWithoutFetching())
-                .forEach(index -> result.add(mapRowToTypedMap(resultSet.one())));
+        for (int i = 0; i < availableRows; i++) {
+            result.add(rowMapper.apply(resultSet.one()));
+        }
         return result;
     }
 
@@ -147,13 +213,6 @@ public interface TypedMapAware extends AsyncAware {
      * of {@link info.archinnov.achilles.type.TypedMap}
      */
     default TypedMap mapRowToTypedMap(Row row) {
-        final TypedMap typedMap = new TypedMap();
-        if (row != null) {
-            for (ColumnDefinitions.Definition def : row.getColumnDefinitions().asList()) {
-                final String cqlColumn = def.getName();
-                typedMap.put(cqlColumn, row.getObject(cqlColumn));
-            }
-        }
-        return typedMap;
+        return new TypedMapRowMapper().apply(row);
     }
 }
@@ -20,9 +20,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import com.datastax.driver.core.ExecutionInfo;
-import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
 import info.archinnov.achilles.type.Empty;
 
 public interface MutationAction extends AsyncAware {
@@ -32,7 +32,7 @@ public interface MutationAction extends AsyncAware {
      */
     default void execute() {
         try {
-            Uninterruptibles.getUninterruptibly(executeAsync());
+            CallerThreadExecutor.getUninterruptibly(this::executeAsync);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -44,7 +44,7 @@ public interface MutationAction extends AsyncAware {
      */
     default ExecutionInfo executeWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(executeAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::executeAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -18,13 +18,20 @@ package info.archinnov.achilles.internals.dsl.action;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.datastax.driver.core.ExecutionInfo;
-import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
+import info.archinnov.achilles.type.ColumnarPage;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface SelectAction<ENTITY> extends AsyncAware {
@@ -37,6 +44,25 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     Iterator<ENTITY> iterator();
 
+    /**
+     * Execute the SELECT action
+     * and return a sequential {@link java.util.stream.Stream}&lt;ENTITY&gt; of entity instances
+     * backed by {@link #iterator()}. Use <em>withPrefetchThreshold(int)</em> to fetch
+     * the next page asynchronously while the current one is being consumed
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     */
+    default Stream<ENTITY> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    /**
+     * Return a {@link info.archinnov.achilles.type.reactive.Publisher}&lt;ENTITY&gt; of entity instances.
+     * The SELECT action is executed asynchronously on the first request of each subscription
+     * and result pages are only fetched when the subscriber has outstanding demand
+     */
+    Publisher<ENTITY> publisher();
+
     /**
      * Execute the SELECT action
      * and return a {@link info.archinnov.achilles.type.tuples.Tuple2}<{@link java.util.Iterator}&lt;ENTITY&gt;, {@link com.datastax.driver.core.ExecutionInfo}>
@@ -51,7 +77,7 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     default ENTITY getOne() {
         try {
-            return Uninterruptibles.getUninterruptibly(getOneAsync());
+            return CallerThreadExecutor.getUninterruptibly(this::getOneAsync);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -63,7 +89,7 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     default Tuple2<ENTITY, ExecutionInfo> getOneWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(getOneAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::getOneAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -95,7 +121,7 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      */
     default List<ENTITY> getList() {
         try {
-            return Uninterruptibles.getUninterruptibly(getListAsync());
+            return CallerThreadExecutor.getUninterruptibly(this::getListAsync);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -112,7 +138,7 @@ public interface SelectAction<ENTITY> extends AsyncAware {
 
     default Tuple2<List<ENTITY>, ExecutionInfo> getListWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(getListAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::getListAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -124,4 +150,82 @@ public interface SelectAction<ENTITY> extends AsyncAware {
      * a list of entity instances with {@link com.datastax.driver.core.ExecutionInfo}
      */
     CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getListAsyncWithStats();
+
+    /**
+     * Execute the SELECT action
+     * and return a list of <strong>all</strong> entity instances, paging through the results
+     * until they are exhausted or <em>maxRows</em> entities have been collected
+     */
+    default List<ENTITY> getAll(int maxRows) {
+        try {
+            return CallerThreadExecutor.getUninterruptibly(() -> getAllAsync(maxRows));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * a list of <strong>all</strong> entity instances, paging through the results
+     * until they are exhausted or <em>maxRows</em> entities have been collected
+     */
+    default CompletableFuture<List<ENTITY>> getAllAsync(int maxRows) {
+        return getAllAsync(maxRows, Long.MAX_VALUE);
+    }
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * a list of <strong>all</strong> entity instances, paging through the results
+     * until they are exhausted, <em>maxRows</em> entities have been collected or the
+     * serialized size of the collected rows reaches <em>maxBytes</em>
+     */
+    default CompletableFuture<List<ENTITY>> getAllAsync(int maxRows, long maxBytes) {
+        return getAllAsyncWithStats(maxRows, maxBytes).thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and return a {@link java.util.concurrent.CompletableFuture} of
+     * a list of <strong>all</strong> entity instances with the {@link com.datastax.driver.core.ExecutionInfo}
+     * of the last fetched page. Pages are fetched asynchronously, without blocking any thread,
+     * until the results are exhausted, <em>maxRows</em> entities have been collected or the
+     * serialized size of the collected rows reaches <em>maxBytes</em>
+     */
+    CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getAllAsyncWithStats(int maxRows, long maxBytes);
+
+    /**
+     * Execute the SELECT action
+     * and decode <strong>all</strong> the result pages column by column into {@link info.archinnov.achilles.type.ColumnarPage},
+     * handing each page to <em>pageConsumer</em>. Numeric columns are decoded into primitive arrays
+     * and text columns are dictionary encoded, no entity instance is created.
+     * <br/>
+     * The arrays of a page are re-used for the next page, <strong>do not keep references to a page
+     * after <em>pageConsumer</em> returns</strong>
+     * <br/>
+     * WARNING: <strong>this method performs a blocking call to the underlying async query</strong>
+     *
+     * @return the {@link com.datastax.driver.core.ExecutionInfo} of the last fetched page
+     */
+    default ExecutionInfo forEachColumnarPage(Consumer<ColumnarPage> pageConsumer) {
+        try {
+            return CallerThreadExecutor.getUninterruptibly(() -> forEachColumnarPageAsync(pageConsumer));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Execute the SELECT action asynchronously
+     * and decode <strong>all</strong> the result pages column by column into {@link info.archinnov.achilles.type.ColumnarPage},
+     * handing each page to <em>pageConsumer</em>. Pages are fetched asynchronously, one after another,
+     * and <em>pageConsumer</em> is invoked on the callback executor
+     * <br/>
+     * The arrays of a page are re-used for the next page, <strong>do not keep references to a page
+     * after <em>pageConsumer</em> returns</strong>
+     *
+     * @return a {@link java.util.concurrent.CompletableFuture} of the {@link com.datastax.driver.core.ExecutionInfo} of the last fetched page
+     */
+    CompletableFuture<ExecutionInfo> forEachColumnarPageAsync(Consumer<ColumnarPage> pageConsumer);
 }
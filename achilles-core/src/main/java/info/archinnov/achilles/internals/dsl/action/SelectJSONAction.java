@@ -22,9 +22,10 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 import com.datastax.driver.core.ExecutionInfo;
-import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public interface SelectJSONAction extends AsyncAware {
@@ -37,6 +38,13 @@ public interface SelectJSONAction extends AsyncAware {
      */
     Iterator<String> iterator();
 
+    /**
+     * Return a {@link info.archinnov.achilles.type.reactive.Publisher}&lt;String&gt; of JSON values.
+     * The SELECT JSON * action is executed asynchronously on the first request of each subscription
+     * and result pages are only fetched when the subscriber has outstanding demand
+     */
+    Publisher<String> jsonPublisher();
+
     /**
      * Execute the SELECT JSON * action
      * and return a {@link info.archinnov.achilles.type.tuples.Tuple2}<{@link java.util.Iterator}&lt;String&gt;, {@link com.datastax.driver.core.ExecutionInfo}>
@@ -51,7 +59,7 @@ public interface SelectJSONAction extends AsyncAware {
      */
     default String getJSON() {
         try {
-            return Uninterruptibles.getUninterruptibly(getJSONAsync());
+            return CallerThreadExecutor.getUninterruptibly(this::getJSONAsync);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -63,7 +71,7 @@ public interface SelectJSONAction extends AsyncAware {
      */
     default Tuple2<String, ExecutionInfo> getJSONWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(getJSONAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::getJSONAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -95,7 +103,7 @@ public interface SelectJSONAction extends AsyncAware {
      */
     default List<String> getListJSON() {
         try {
-            return Uninterruptibles.getUninterruptibly(getListJSONAsync());
+            return CallerThreadExecutor.getUninterruptibly(this::getListJSONAsync);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -117,7 +125,7 @@ public interface SelectJSONAction extends AsyncAware {
      */
     default Tuple2<List<String>, ExecutionInfo> getListJSONWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(getListJSONAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::getListJSONAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -0,0 +1,473 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.INSERT;
+import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
+import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+import com.datastax.driver.core.exceptions.UnavailableException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDInsert;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.BulkWriteStats;
+import info.archinnov.achilles.type.OperationType;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Write a large number of entities with the prepared INSERT statement.
+ * <br/>
+ * Bound statements are grouped by routing key (partition) into <strong>UNLOGGED</strong> batches
+ * of at most <em>maxBatchSize</em> statements, so that each batch only touches one partition.
+ * A group is sent when it is full, or when the number of buffered entities reaches
+ * <em>maxBufferedEntities</em> (then all groups are sent).
+ * <br/>
+ * The number of in-flight statements and their total size are bounded: <em>write()</em>
+ * blocks the calling thread until a permit is available.
+ * <br/>
+ * Statements failing with an unavailable or overloaded error, or with a timeout when they are idempotent,
+ * are re-sent up to <em>maxRetries</em> times with an exponential backoff starting at <em>retryBaseDelayMillis</em>.
+ * Any other error, or a retryable one once the retries are exhausted, stops the write and is re-thrown
+ * once all in-flight statements are done
+ */
+public class BulkWriter<ENTITY> extends AbstractOptionsForCRUDInsert<BulkWriter<ENTITY>>
+        implements AsyncAware {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 20;
+    public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+    public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 16 * 1024 * 1024;
+    public static final int DEFAULT_MAX_BUFFERED_ENTITIES = 5_000;
+    public static final int DEFAULT_MAX_RETRIES = 3;
+    public static final long DEFAULT_RETRY_BASE_DELAY_MILLIS = 100;
+    public static final long MAX_RETRY_DELAY_MILLIS = 10_000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkWriter.class);
+    private static final int LATENCY_SAMPLE_SIZE = 4096;
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final CassandraOptions options;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private long maxInFlightBytes = DEFAULT_MAX_IN_FLIGHT_BYTES;
+    private int maxBufferedEntities = DEFAULT_MAX_BUFFERED_ENTITIES;
+    private int maxRetries = DEFAULT_MAX_RETRIES;
+    private long retryBaseDelayMillis = DEFAULT_RETRY_BASE_DELAY_MILLIS;
+
+    public BulkWriter(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Maximum number of INSERT statements in an UNLOGGED batch. Default value = {@value #DEFAULT_MAX_BATCH_SIZE}
+     */
+    public BulkWriter<ENTITY> withMaxBatchSize(int maxBatchSize) {
+        Validator.validateTrue(maxBatchSize > 0, "The max batch size should be strictly positive");
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Maximum number of concurrent statements. Default value = {@value #DEFAULT_MAX_IN_FLIGHT}
+     */
+    public BulkWriter<ENTITY> withMaxInFlight(int maxInFlight) {
+        Validator.validateTrue(maxInFlight > 0, "The max in-flight statements count should be strictly positive");
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Maximum size in bytes of the values bound to the concurrent statements. Default value = 16Mb
+     */
+    public BulkWriter<ENTITY> withMaxInFlightBytes(long maxInFlightBytes) {
+        Validator.validateTrue(maxInFlightBytes > 0, "The max in-flight bytes should be strictly positive");
+        this.maxInFlightBytes = maxInFlightBytes;
+        return this;
+    }
+
+    /**
+     * Maximum number of entities waiting to be grouped in a batch. Default value = {@value #DEFAULT_MAX_BUFFERED_ENTITIES}
+     */
+    public BulkWriter<ENTITY> withMaxBufferedEntities(int maxBufferedEntities) {
+        Validator.validateTrue(maxBufferedEntities > 0, "The max buffered entities count should be strictly positive");
+        this.maxBufferedEntities = maxBufferedEntities;
+        return this;
+    }
+
+    /**
+     * Number of times a failed statement is re-sent. Default value = {@value #DEFAULT_MAX_RETRIES}
+     */
+    public BulkWriter<ENTITY> withMaxRetries(int maxRetries) {
+        Validator.validateTrue(maxRetries >= 0, "The max retries count should be positive");
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Delay before the first retry of a failed statement, doubled at each subsequent retry
+     * up to {@value #MAX_RETRY_DELAY_MILLIS} ms. Default value = {@value #DEFAULT_RETRY_BASE_DELAY_MILLIS} ms
+     */
+    public BulkWriter<ENTITY> withRetryBaseDelayMillis(long retryBaseDelayMillis) {
+        Validator.validateTrue(retryBaseDelayMillis >= 0, "The retry base delay should be positive");
+        this.retryBaseDelayMillis = retryBaseDelayMillis;
+        return this;
+    }
+
+    /**
+     * Write all the entities of the stream.
+     * <br/>
+     * WARNING: <strong>this method blocks until all the entities are written</strong>
+     */
+    public BulkWriteStats write(Stream<ENTITY> entities) {
+        Validator.validateNotNull(entities, "The entities stream to be written should not be null");
+        return write(entities.iterator());
+    }
+
+    /**
+     * Write all the entities of the iterable.
+     * <br/>
+     * WARNING: <strong>this method blocks until all the entities are written</strong>
+     */
+    public BulkWriteStats write(Iterable<ENTITY> entities) {
+        Validator.validateNotNull(entities, "The entities to be written should not be null");
+        return write(entities.iterator());
+    }
+
+    /**
+     * Write all the entities of the iterator.
+     * <br/>
+     * WARNING: <strong>this method blocks until all the entities are written</strong>
+     */
+    public BulkWriteStats write(Iterator<ENTITY> entities) {
+        Validator.validateNotNull(entities, "The entities iterator to be written should not be null");
+        Validator.validateFalse(ifNotExists.orElse(false), "Bulk write of entity '%s' does not support IF NOT EXISTS",
+                meta.entityClass.getCanonicalName());
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Start bulk write of entities %s with max batch size %s, max in-flight %s and max in-flight bytes %s",
+                    meta.entityClass.getCanonicalName(), maxBatchSize, maxInFlight, maxInFlightBytes));
+        }
+
+        final WriteSession session = new WriteSession();
+        try {
+            while (entities.hasNext() && session.error.get() == null) {
+                session.add(entities.next());
+            }
+            session.flushAll();
+        } finally {
+            session.awaitInFlight();
+            session.shutdownRetryScheduler();
+        }
+
+        final Throwable error = session.error.get();
+        if (error != null) {
+            throw extractCauseFromExecutionException(new ExecutionException(error));
+        }
+
+        final BulkWriteStats stats = session.stats();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Bulk write of entities %s done with stats %s", meta.entityClass.getCanonicalName(), stats));
+        }
+        return stats;
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected BulkWriter<ENTITY> getThis() {
+        return this;
+    }
+
+    private static int estimateSize(BoundStatement bs) {
+        int size = 0;
+        final int variablesCount = bs.preparedStatement().getVariables().size();
+        for (int i = 0; i < variablesCount; i++) {
+            if (bs.isSet(i)) {
+                final ByteBuffer value = bs.getBytesUnsafe(i);
+                size += value == null ? 0 : value.remaining();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Whether the statement may be re-sent: it was either never applied (unavailable, overloaded),
+     * or it timed out and applying it twice is harmless
+     */
+    static boolean isRetryable(Throwable throwable, boolean idempotent) {
+        if (throwable instanceof NoHostAvailableException) {
+            final Collection<Throwable> errors = ((NoHostAvailableException) throwable).getErrors().values();
+            return !errors.isEmpty() && errors.stream().allMatch(error -> isRetryable(error, idempotent));
+        }
+        if (throwable instanceof UnavailableException || throwable instanceof OverloadedException) {
+            return true;
+        }
+        return idempotent && (throwable instanceof WriteTimeoutException || throwable instanceof OperationTimedOutException);
+    }
+
+    /**
+     * Exponential backoff with jitter: a random delay between half and all of
+     * <em>baseDelayMillis * 2^attempt</em>, capped at {@value #MAX_RETRY_DELAY_MILLIS} ms
+     */
+    static long retryDelayMillis(long baseDelayMillis, int attempt) {
+        final int shift = Math.min(attempt, 20);
+        final long cappedDelay = baseDelayMillis > (MAX_RETRY_DELAY_MILLIS >> shift)
+                ? MAX_RETRY_DELAY_MILLIS
+                : baseDelayMillis << shift;
+        final long halfDelay = cappedDelay / 2;
+        return halfDelay + ThreadLocalRandom.current().nextLong(cappedDelay - halfDelay + 1);
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    private static class PendingInsert<ENTITY> {
+        private final ENTITY entity;
+        private final StatementWrapper statementWrapper;
+        private final int size;
+
+        PendingInsert(ENTITY entity, StatementWrapper statementWrapper, int size) {
+            this.entity = entity;
+            this.statementWrapper = statementWrapper;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Reservoir sample of latencies, to compute percentiles with a bounded memory
+     */
+    private static class LatencySample {
+        private final long[] sample = new long[LATENCY_SAMPLE_SIZE];
+        private long count = 0;
+
+        synchronized void record(long latencyNanos) {
+            if (count < sample.length) {
+                sample[(int) count] = latencyNanos;
+            } else {
+                final long index = ThreadLocalRandom.current().nextLong(count + 1);
+                if (index < sample.length) {
+                    sample[(int) index] = latencyNanos;
+                }
+            }
+            count++;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(sample, (int) Math.min(count, sample.length));
+        }
+    }
+
+    private class WriteSession {
+        private final PreparedStatement ps = INSERT.getPreparedStatement(rte, meta, options);
+        private final ProtocolVersion protocolVersion;
+        private final CodecRegistry codecRegistry;
+        private final int bytesBudget = (int) Math.min(maxInFlightBytes, Integer.MAX_VALUE);
+        private final Semaphore inFlightStatements = new Semaphore(maxInFlight);
+        private final Semaphore inFlightBytes = new Semaphore(bytesBudget);
+        private final Map<ByteBuffer, List<PendingInsert<ENTITY>>> groups = new HashMap<>();
+        private final AtomicLong entityCount = new AtomicLong(0);
+        private final AtomicLong batchCount = new AtomicLong(0);
+        private final AtomicLong retries = new AtomicLong(0);
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final LatencySample latencies = new LatencySample();
+        private final long startNanos = System.nanoTime();
+        private final boolean defaultIdempotence;
+        private ScheduledExecutorService retryScheduler;
+        private int bufferedEntities = 0;
+
+        WriteSession() {
+            final Configuration configuration = rte.getCluster().getConfiguration();
+            this.protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+            this.codecRegistry = configuration.getCodecRegistry();
+            this.defaultIdempotence = configuration.getQueryOptions().getDefaultIdempotence();
+        }
+
+        void add(ENTITY entity) {
+            Validator.validateNotNull(entity, "Entity to be inserted should not be null");
+            meta.triggerInterceptorsForEvent(PRE_INSERT, entity);
+
+            final StatementWrapper statementWrapper = meta.extractAllValuesFromEntity(entity, options)
+                    .bindWithInsertStrategy(ps, getOverridenStrategy(meta));
+            final BoundStatement bs = statementWrapper.getBoundStatement();
+            final PendingInsert<ENTITY> pendingInsert = new PendingInsert<>(entity, statementWrapper, estimateSize(bs));
+            final ByteBuffer routingKey = bs.getRoutingKey(protocolVersion, codecRegistry);
+
+            if (routingKey == null) {
+                submit(Collections.singletonList(pendingInsert));
+                return;
+            }
+
+            final List<PendingInsert<ENTITY>> group = groups.computeIfAbsent(routingKey, key -> new ArrayList<>(maxBatchSize));
+            group.add(pendingInsert);
+            bufferedEntities++;
+
+            if (group.size() >= maxBatchSize) {
+                groups.remove(routingKey);
+                bufferedEntities -= group.size();
+                submit(group);
+            } else if (bufferedEntities >= maxBufferedEntities) {
+                flushAll();
+            }
+        }
+
+        void flushAll() {
+            for (List<PendingInsert<ENTITY>> group : groups.values()) {
+                if (error.get() == null) {
+                    submit(group);
+                }
+            }
+            groups.clear();
+            bufferedEntities = 0;
+        }
+
+        void awaitInFlight() {
+            inFlightStatements.acquireUninterruptibly(maxInFlight);
+            inFlightStatements.release(maxInFlight);
+        }
+
+        synchronized void shutdownRetryScheduler() {
+            if (retryScheduler != null) {
+                retryScheduler.shutdown();
+            }
+        }
+
+        BulkWriteStats stats() {
+            return new BulkWriteStats(entityCount.get(), batchCount.get(), retries.get(),
+                    System.nanoTime() - startNanos, latencies.snapshot());
+        }
+
+        private void submit(List<PendingInsert<ENTITY>> group) {
+            final int bytes = Math.min(group.stream().mapToInt(x -> x.size).sum(), bytesBudget);
+            inFlightStatements.acquireUninterruptibly();
+            inFlightBytes.acquireUninterruptibly(bytes);
+
+            if (error.get() != null) {
+                release(bytes);
+                return;
+            }
+
+            final Statement statement;
+            if (group.size() == 1) {
+                statement = group.get(0).statementWrapper.getBoundStatement();
+            } else {
+                final BatchStatement batch = new BatchStatement(BatchStatement.Type.UNLOGGED);
+                for (PendingInsert<ENTITY> pendingInsert : group) {
+                    batch.add(pendingInsert.statementWrapper.getBoundStatement());
+                }
+                statement = batch;
+            }
+            options.applyOptions(OperationType.INSERT, meta, statement);
+
+            execute(statement, group, bytes, 0);
+        }
+
+        private void execute(Statement statement, List<PendingInsert<ENTITY>> group, int bytes, int attempt) {
+            final long requestStartNanos = System.nanoTime();
+            final CompletableFuture<ResultSet> futureRS;
+            if (statement instanceof BatchStatement) {
+                group.forEach(x -> x.statementWrapper.logDML());
+                futureRS = rte.execute(meta.entityClass, OperationType.INSERT, statement);
+            } else {
+                futureRS = rte.execute(group.get(0).statementWrapper);
+            }
+
+            futureRS.whenComplete((rs, throwable) -> {
+                if (throwable != null) {
+                    final Throwable cause = unwrap(throwable);
+                    if (attempt < maxRetries && error.get() == null && isRetryable(cause, isIdempotent(statement))) {
+                        final long delayMillis = retryDelayMillis(retryBaseDelayMillis, attempt);
+                        if (LOGGER.isDebugEnabled()) {
+                            LOGGER.debug(format("Retry bulk write statement of %s entities in %s ms after error : %s",
+                                    group.size(), delayMillis, cause.getMessage()));
+                        }
+                        retries.incrementAndGet();
+                        getRetryScheduler().schedule(() -> execute(statement, group, bytes, attempt + 1),
+                                delayMillis, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                    error.compareAndSet(null, cause);
+                } else {
+                    latencies.record(System.nanoTime() - requestStartNanos);
+                    batchCount.incrementAndGet();
+                    entityCount.addAndGet(group.size());
+                    try {
+                        group.forEach(x -> meta.triggerInterceptorsForEvent(POST_INSERT, x.entity));
+                    } catch (Throwable interceptorError) {
+                        error.compareAndSet(null, interceptorError);
+                    }
+                }
+                release(bytes);
+            });
+        }
+
+        private boolean isIdempotent(Statement statement) {
+            final Boolean idempotent = statement.isIdempotent();
+            return idempotent != null ? idempotent : defaultIdempotence;
+        }
+
+        private synchronized ScheduledExecutorService getRetryScheduler() {
+            if (retryScheduler == null) {
+                retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread thread = new Thread(runnable, "achilles-bulk-writer-retry");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            return retryScheduler;
+        }
+
+        private void release(int bytes) {
+            inFlightBytes.release(bytes);
+            inFlightStatements.release();
+        }
+    }
+}
@@ -41,8 +41,8 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.OperationType;
 
 public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<DeleteByPartitionWithOptions<ENTITY>>
         implements MutationAction, StatementProvider {
@@ -75,7 +75,9 @@ public class DeleteByPartitionWithOptions<ENTITY> extends AbstractOptionsForUpda
             LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> cfutureRS = meta.getEntityCache()
+                .map(cache -> cache.invalidatePartitionAround(encodedPartitionKeys, () -> rte.execute(statementWrapper)))
+                .orElseGet(() -> rte.execute(statementWrapper));
 
         return cfutureRS
                 .thenApply(options::resultSetAsyncListener)
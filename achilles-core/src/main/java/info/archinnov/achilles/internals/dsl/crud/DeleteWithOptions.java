@@ -44,8 +44,8 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.OperationType;
 
 public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<DeleteWithOptions<ENTITY>>
         implements MutationAction, StatementProvider {
@@ -91,7 +91,9 @@ public class DeleteWithOptions<ENTITY> extends AbstractOptionsForUpdateOrDelete<
             LOGGER.trace(format("Execute delete async with execution info : %s", queryString));
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> cfutureRS = meta.getEntityCache()
+                .map(cache -> cache.invalidateAround(encodedPrimaryKeyValues, () -> rte.execute(statementWrapper)))
+                .orElseGet(() -> rte.execute(statementWrapper));
 
         return cfutureRS
                 .thenApply(options::resultSetAsyncListener)
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.FIND;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.BatchReadStats;
+import info.archinnov.achilles.type.OperationType;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Find many entities by their complete primary key.
+ * <br/>
+ * The prepared FIND statement is executed once per key, with at most <em>maxInFlight</em>
+ * concurrent requests. When a request completes, the next pending key is sent.
+ * <br/>
+ * With <em>withGroupingByToken()</em>, keys are sent in partition token order so that
+ * consecutive requests target the same replicas
+ */
+public class FindByIdsWithOptions<PK, ENTITY> extends AbstractOptionsForSelect<FindByIdsWithOptions<PK, ENTITY>>
+        implements AsyncAware {
+
+    public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FindByIdsWithOptions.class);
+
+    private final Class<ENTITY> entityClass;
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final List<PK> primaryKeys;
+    private final List<Object[]> primaryKeyValues;
+    private final List<Object[]> encodedPrimaryKeyValues;
+    private final CassandraOptions options;
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+    private boolean groupByToken = false;
+
+    public FindByIdsWithOptions(Class<ENTITY> entityClass, AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte,
+                                List<PK> primaryKeys, List<Object[]> primaryKeyValues, List<Object[]> encodedPrimaryKeyValues,
+                                Optional<CassandraOptions> cassandraOptions) {
+        this.entityClass = entityClass;
+        this.meta = meta;
+        this.rte = rte;
+        this.primaryKeys = primaryKeys;
+        this.primaryKeyValues = primaryKeyValues;
+        this.encodedPrimaryKeyValues = encodedPrimaryKeyValues;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Set the maximum number of concurrent requests. Default value = {@value #DEFAULT_MAX_IN_FLIGHT}
+     */
+    public FindByIdsWithOptions<PK, ENTITY> withMaxInFlight(int maxInFlight) {
+        Validator.validateTrue(maxInFlight > 0, "The max in-flight requests count should be strictly positive");
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Send the requests in partition token order instead of the order of the provided keys.
+     * Results are still returned in the order of the provided keys
+     */
+    public FindByIdsWithOptions<PK, ENTITY> withGroupingByToken() {
+        this.groupByToken = true;
+        return this;
+    }
+
+    /**
+     * Return the found entities in the order of the provided keys,
+     * with <strong>null</strong> for not found keys
+     */
+    public List<ENTITY> getList() {
+        try {
+            return CallerThreadExecutor.getUninterruptibly(this::getListAsync);
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    public Tuple2<List<ENTITY>, BatchReadStats> getListWithStats() {
+        try {
+            return CallerThreadExecutor.getUninterruptibly(this::getListAsyncWithStats);
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    public CompletableFuture<List<ENTITY>> getListAsync() {
+        return getListAsyncWithStats().thenApply(Tuple2::_1);
+    }
+
+    /**
+     * Return the found entities indexed by their key, in the order of the provided keys.
+     * Not found keys are absent from the map
+     */
+    public Map<PK, ENTITY> getMap() {
+        try {
+            return CallerThreadExecutor.getUninterruptibly(this::getMapAsync);
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    public CompletableFuture<Map<PK, ENTITY>> getMapAsync() {
+        return getListAsync().thenApply(entities -> {
+            final Map<PK, ENTITY> result = new LinkedHashMap<>(entities.size());
+            for (int i = 0; i < entities.size(); i++) {
+                if (entities.get(i) != null) {
+                    result.put(primaryKeys.get(i), entities.get(i));
+                }
+            }
+            return result;
+        });
+    }
+
+    public CompletableFuture<Tuple2<List<ENTITY>, BatchReadStats>> getListAsyncWithStats() {
+        final int count = primaryKeyValues.size();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Find %s entities of type %s by ids with max %s in-flight requests",
+                    count, entityClass.getCanonicalName(), maxInFlight));
+        }
+
+        final PreparedStatement ps = FIND.getPreparedStatement(rte, meta, options);
+        final List<StatementWrapper> statementWrappers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps,
+                    primaryKeyValues.get(i), encodedPrimaryKeyValues.get(i));
+            statementWrapper.applyOptions(options);
+            statementWrappers.add(statementWrapper);
+        }
+
+        return new BatchRead(statementWrappers, dispatchOrder(statementWrappers)).start();
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected FindByIdsWithOptions<PK, ENTITY> getThis() {
+        return this;
+    }
+
+    private int[] dispatchOrder(List<StatementWrapper> statementWrappers) {
+        if (!groupByToken) {
+            return IntStream.range(0, statementWrappers.size()).toArray();
+        }
+
+        final Cluster cluster = rte.getCluster();
+        final Metadata metadata = cluster.getMetadata();
+        final ProtocolVersion protocolVersion = cluster.getConfiguration().getProtocolOptions().getProtocolVersion();
+        final CodecRegistry codecRegistry = cluster.getConfiguration().getCodecRegistry();
+
+        final Token[] tokens = new Token[statementWrappers.size()];
+        for (int i = 0; i < tokens.length; i++) {
+            final ByteBuffer routingKey = statementWrappers.get(i).getBoundStatement().getRoutingKey(protocolVersion, codecRegistry);
+            tokens[i] = routingKey == null ? null : metadata.newToken(routingKey);
+        }
+
+        return IntStream.range(0, tokens.length)
+                .boxed()
+                .sorted(Comparator.comparing(index -> tokens[index], Comparator.nullsLast(Comparator.<Token>naturalOrder())))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private class BatchRead {
+        private final List<StatementWrapper> statementWrappers;
+        private final int[] dispatchOrder;
+        private final Object[] entities;
+        private final long[] latencies;
+        private final AtomicInteger nextSlot = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        private final AtomicInteger retries = new AtomicInteger(0);
+        private final AtomicInteger speculativeExecutions = new AtomicInteger(0);
+        private final CompletableFuture<Tuple2<List<ENTITY>, BatchReadStats>> result = new CompletableFuture<>();
+        private long startNanos;
+
+        BatchRead(List<StatementWrapper> statementWrappers, int[] dispatchOrder) {
+            this.statementWrappers = statementWrappers;
+            this.dispatchOrder = dispatchOrder;
+            this.entities = new Object[statementWrappers.size()];
+            this.latencies = new long[statementWrappers.size()];
+            this.remaining = new AtomicInteger(statementWrappers.size());
+        }
+
+        CompletableFuture<Tuple2<List<ENTITY>, BatchReadStats>> start() {
+            startNanos = System.nanoTime();
+            if (statementWrappers.isEmpty()) {
+                complete();
+            } else {
+                final int initialRequests = Math.min(maxInFlight, statementWrappers.size());
+                for (int i = 0; i < initialRequests; i++) {
+                    dispatchNext();
+                }
+            }
+            return result;
+        }
+
+        private void dispatchNext() {
+            final int slot = nextSlot.getAndIncrement();
+            if (slot >= dispatchOrder.length || result.isDone()) {
+                return;
+            }
+
+            final int index = dispatchOrder[slot];
+            final StatementWrapper statementWrapper = statementWrappers.get(index);
+            final long requestStartNanos = System.nanoTime();
+
+            rte.execute(statementWrapper)
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(x -> statementWrapper.logReturnResults(x, options.computeMaxDisplayedResults(rte.configContext)))
+                    .thenApply(statementWrapper::logTrace)
+                    .whenComplete((rs, throwable) -> {
+                        if (throwable != null) {
+                            result.completeExceptionally(throwable);
+                            return;
+                        }
+                        try {
+                            latencies[index] = System.nanoTime() - requestStartNanos;
+                            final ExecutionInfo executionInfo = rs.getExecutionInfo();
+                            if (executionInfo != null) {
+                                retries.addAndGet(Math.max(executionInfo.getTriedHosts().size() - 1, 0));
+                                speculativeExecutions.addAndGet(executionInfo.getSpeculativeExecutions());
+                            }
+                            final Row row = rs.one();
+                            options.rowAsyncListener(row);
+                            final ENTITY entity = meta.createEntityFrom(row);
+                            if (entity != null) {
+                                meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                            }
+                            entities[index] = entity;
+                        } catch (Throwable mappingError) {
+                            result.completeExceptionally(mappingError);
+                            return;
+                        }
+
+                        if (remaining.decrementAndGet() == 0) {
+                            complete();
+                        } else {
+                            dispatchNext();
+                        }
+                    });
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete() {
+            final List<ENTITY> found = new ArrayList<>(entities.length);
+            int foundCount = 0;
+            for (Object entity : entities) {
+                found.add((ENTITY) entity);
+                if (entity != null) foundCount++;
+            }
+            final BatchReadStats stats = new BatchReadStats(latencies, foundCount, retries.get(),
+                    speculativeExecutions.get(), System.nanoTime() - startNanos);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Find by ids of entity %s done with stats %s", entityClass.getCanonicalName(), stats));
+            }
+            result.complete(Tuple2.of(found, stats));
+        }
+    }
+}
@@ -29,18 +29,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
-import com.google.common.util.concurrent.Uninterruptibles;
 
 import info.archinnov.achilles.internals.cache.CacheKey;
 import info.archinnov.achilles.internals.dsl.AsyncAware;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.OperationType;
 import info.archinnov.achilles.type.interceptor.Event;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
@@ -68,7 +68,7 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
 
     public ENTITY get() {
         try {
-            return Uninterruptibles.getUninterruptibly(getAsync());
+            return CallerThreadExecutor.getUninterruptibly(this::getAsync);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
@@ -76,16 +76,36 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
 
     public Tuple2<ENTITY, ExecutionInfo> getWithStats() {
         try {
-            return Uninterruptibles.getUninterruptibly(getAsyncWithStats());
+            return CallerThreadExecutor.getUninterruptibly(this::getAsyncWithStats);
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
     }
 
+    /**
+     * When the entity cache is enabled, a cached row is mapped to a new entity instance
+     * without querying Cassandra
+     */
     public CompletableFuture<ENTITY> getAsync() {
+        if (isCacheable()) {
+            final Row cachedRow = meta.getEntityCache().get().getIfPresent(encodedPrimaryKeyValues);
+            if (cachedRow != null) {
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace(format("Find entity %s from entity cache with primary key %s",
+                            entityClass.getCanonicalName(), Arrays.toString(primaryKeyValues)));
+                }
+                final ENTITY entity = meta.createEntityFrom(cachedRow);
+                meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                return CompletableFuture.completedFuture(entity);
+            }
+        }
         return getAsyncWithStats().thenApply(tuple2 -> tuple2._1());
     }
 
+    /**
+     * Always query Cassandra to get the {@link com.datastax.driver.core.ExecutionInfo}.
+     * The entity cache, when enabled, is refreshed with the returned row
+     */
     public CompletableFuture<Tuple2<ENTITY, ExecutionInfo>> getAsyncWithStats() {
 
         StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
@@ -93,6 +113,8 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
             LOGGER.trace(format("Find async with execution info : %s",
                     statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
         }
+        final boolean cacheable = isCacheable();
+        final long cacheEpoch = cacheable ? meta.getEntityCache().get().epoch() : 0L;
         CompletableFuture<ResultSet> futureRS = rte.execute(statementWrapper);
 
         return futureRS
@@ -102,6 +124,9 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
                 .thenApply(rs -> {
                     final Row row = rs.one();
                     options.rowAsyncListener(row);
+                    if (cacheable) {
+                        meta.getEntityCache().get().putIfNotInvalidated(encodedPrimaryKeyValues, row, cacheEpoch);
+                    }
                     return Tuple2.of(meta.createEntityFrom(row), rs.getExecutionInfo());
                 })
                 .thenApply(tuple2 -> {
@@ -141,6 +166,10 @@ public class FindWithOptions<ENTITY> extends AbstractOptionsForSelect<FindWithOp
         return this;
     }
 
+    private boolean isCacheable() {
+        return meta.getEntityCache().isPresent() && meta.getEntityCache().get().isCacheable(options);
+    }
+
     private StatementWrapper getInternalBoundStatementWrapper() {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Get bound statement wrapper"));
@@ -41,8 +41,8 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.OperationType;
 
 public class InsertJSONWithOptions extends AbstractOptionsForCRUDInsert<InsertJSONWithOptions>
         implements MutationAction, StatementProvider {
@@ -21,8 +21,8 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_INSERT;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_INSERT;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -75,7 +75,9 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
             LOGGER.trace(format("Insert async with execution info : %s", queryString));
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> cfutureRS = meta.getEntityCache()
+                .map(cache -> cache.invalidateAround(instance, insertStatic, options, () -> rte.execute(statementWrapper)))
+                .orElseGet(() -> rte.execute(statementWrapper));
 
         return cfutureRS
                 .thenApply(this.options::resultSetAsyncListener)
@@ -109,7 +111,7 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         BoundValuesWrapper wrapper = insertStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(wrapper.boundValues);
     }
 
     @Override
@@ -117,7 +119,7 @@ public class InsertWithOptions<ENTITY> extends AbstractOptionsForCRUDInsert<Inse
         BoundValuesWrapper wrapper = insertStatic == true
                 ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
                 : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(wrapper.encodedValues);
     }
 
     @Override
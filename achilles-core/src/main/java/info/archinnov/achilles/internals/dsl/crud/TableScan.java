@@ -0,0 +1,397 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.*;
+import com.datastax.driver.core.querybuilder.Select;
+
+import info.archinnov.achilles.internals.dsl.AsyncAware;
+import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.OperationType;
+import info.archinnov.achilles.type.ScanCheckpoint;
+import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Scan all the entities of a table (or materialized view).
+ * <br/>
+ * The token ring, as known by the cluster metadata, is split into token ranges and each range
+ * is read with a <em>SELECT * ... WHERE token(partition keys) &gt; ? AND token(partition keys) &lt;= ?</em>
+ * query. At most <em>concurrency</em> ranges are read in parallel, each one paging asynchronously
+ * through its results, so the load is spread over all the coordinators.
+ * <br/>
+ * Completed ranges are recorded in a {@link info.archinnov.achilles.type.ScanCheckpoint}, notified after each
+ * range to the checkpoint listener, so that an interrupted scan can be resumed with <em>resumeFrom()</em>.
+ * <br/>
+ * The paging state option is not supported, use checkpoints instead
+ */
+public class TableScan<ENTITY> extends AbstractOptionsForSelect<TableScan<ENTITY>>
+        implements AsyncAware {
+
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int DEFAULT_SPLITS_PER_RANGE = 1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TableScan.class);
+
+    private final AbstractEntityProperty<ENTITY> meta;
+    private final RuntimeEngine rte;
+    private final CassandraOptions options;
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private int splitsPerRange = DEFAULT_SPLITS_PER_RANGE;
+    private ScanCheckpoint resumeFrom = ScanCheckpoint.empty();
+    private Optional<Consumer<ScanCheckpoint>> checkpointListener = Optional.empty();
+
+    public TableScan(AbstractEntityProperty<ENTITY> meta, RuntimeEngine rte, Optional<CassandraOptions> cassandraOptions) {
+        this.meta = meta;
+        this.rte = rte;
+        this.options = cassandraOptions.orElse(new CassandraOptions());
+    }
+
+    /**
+     * Maximum number of token ranges read in parallel. Default value = {@value #DEFAULT_CONCURRENCY}
+     */
+    public TableScan<ENTITY> withConcurrency(int concurrency) {
+        Validator.validateTrue(concurrency > 0, "The scan concurrency should be strictly positive");
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Number of sub-ranges each token range of the ring is evenly split into, useful
+     * when the ring has few ranges (no virtual nodes). Default value = {@value #DEFAULT_SPLITS_PER_RANGE}
+     */
+    public TableScan<ENTITY> withSplitsPerRange(int splitsPerRange) {
+        Validator.validateTrue(splitsPerRange > 0, "The splits per range count should be strictly positive");
+        this.splitsPerRange = splitsPerRange;
+        return this;
+    }
+
+    /**
+     * Skip the token ranges already completed in the given checkpoint
+     */
+    public TableScan<ENTITY> resumeFrom(ScanCheckpoint checkpoint) {
+        Validator.validateNotNull(checkpoint, "The checkpoint to resume the scan from should not be null");
+        this.resumeFrom = checkpoint;
+        return this;
+    }
+
+    /**
+     * Listener notified with a new checkpoint each time a token range has been completely scanned.
+     * <br/>
+     * The listener is called from the driver or <strong>Achilles</strong> threads and should not block
+     */
+    public TableScan<ENTITY> withCheckpointListener(Consumer<ScanCheckpoint> checkpointListener) {
+        Validator.validateNotNull(checkpointListener, "The checkpoint listener should not be null");
+        this.checkpointListener = Optional.of(checkpointListener);
+        return this;
+    }
+
+    /**
+     * Scan all the entities and pass them to the given consumer.
+     * <br/>
+     * The consumer is called concurrently for entities of different token ranges and <strong>should be thread-safe</strong>.
+     * <br/>
+     * WARNING: <strong>this method blocks until all the token ranges are scanned</strong>
+     *
+     * @return the final checkpoint
+     */
+    public ScanCheckpoint forEach(Consumer<ENTITY> consumer) {
+        try {
+            return CallerThreadExecutor.getUninterruptibly(() -> forEachAsync(consumer));
+        } catch (ExecutionException e) {
+            throw extractCauseFromExecutionException(e);
+        }
+    }
+
+    /**
+     * Scan asynchronously all the entities and pass them to the given consumer.
+     * <br/>
+     * The consumer is called concurrently for entities of different token ranges and <strong>should be thread-safe</strong>.
+     * If the scan of a token range fails, no new range is started and the returned future fails once the
+     * ranges in progress are done, the completed ranges being available from the checkpoint listener
+     *
+     * @return CompletableFuture&lt;ScanCheckpoint&gt; of the final checkpoint
+     */
+    public CompletableFuture<ScanCheckpoint> forEachAsync(Consumer<ENTITY> consumer) {
+        Validator.validateNotNull(consumer, "The entity consumer of the scan should not be null");
+        Validator.validateFalse(options.getPagingState().isPresent(),
+                "Table scan of entity '%s' does not support paging state, use resumeFrom(ScanCheckpoint) instead",
+                meta.entityClass.getCanonicalName());
+
+        final ScanSession session = new ScanSession(consumer);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Start scan of entities %s over %s token ranges (%s to scan) with concurrency %s",
+                    meta.entityClass.getCanonicalName(), session.totalRangeCount, session.pendingRanges.size(), concurrency));
+        }
+
+        session.start();
+        return session.result;
+    }
+
+    @Override
+    protected CassandraOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    protected TableScan<ENTITY> getThis() {
+        return this;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    /**
+     * Non-wrapping token range ]start, end], a <em>null</em> bound meaning the beginning or end of the ring
+     */
+    static class ScanRange {
+        final Token start;
+        final Token end;
+        final String id;
+
+        ScanRange(Token start, Token end) {
+            this.start = start;
+            this.end = end;
+            this.id = format("]%s, %s]", start == null ? "" : start, end == null ? "" : end);
+        }
+
+        /**
+         * Split the ring into non-wrapping ranges, the range ending at the minimum token and
+         * the whole ring of a single token cluster being turned into open ranges
+         */
+        static List<ScanRange> fromTokenRanges(Collection<TokenRange> tokenRanges, int splitsPerRange) {
+            final List<ScanRange> ranges = new ArrayList<>();
+            for (TokenRange tokenRange : new TreeSet<>(tokenRanges)) {
+                final List<TokenRange> splits = splitsPerRange > 1 ? tokenRange.splitEvenly(splitsPerRange) : Collections.singletonList(tokenRange);
+                for (TokenRange split : splits) {
+                    for (TokenRange range : split.unwrap()) {
+                        final int comparison = range.getEnd().compareTo(range.getStart());
+                        if (comparison == 0) {
+                            ranges.add(new ScanRange(range.getStart(), null));
+                            ranges.add(new ScanRange(null, range.getEnd()));
+                        } else if (comparison < 0) {
+                            ranges.add(new ScanRange(range.getStart(), null));
+                        } else {
+                            ranges.add(new ScanRange(range.getStart(), range.getEnd()));
+                        }
+                    }
+                }
+            }
+            return ranges;
+        }
+    }
+
+    private class ScanSession {
+        private final Consumer<ENTITY> consumer;
+        private final Map<String, PreparedStatement> preparedStatements = new ConcurrentHashMap<>();
+        private final Queue<ScanRange> pendingRanges = new ConcurrentLinkedQueue<>();
+        private final Set<String> completedRanges = ConcurrentHashMap.newKeySet();
+        private final int totalRangeCount;
+        private final AtomicInteger runningLanes = new AtomicInteger(0);
+        private final AtomicLong entityCount = new AtomicLong(resumeFrom.getEntityCount());
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final CompletableFuture<ScanCheckpoint> result = new CompletableFuture<>();
+        private final String keyspace;
+        private final String table;
+        private final String[] partitionKeyColumns;
+        private final Executor callbackExecutor;
+
+        ScanSession(Consumer<ENTITY> consumer) {
+            this.consumer = consumer;
+            // Resolved on the thread starting the scan, which may run the callbacks of a synchronous scan itself
+            this.callbackExecutor = rte.currentCallbackExecutor();
+            this.keyspace = options.getSchemaNameProvider()
+                    .map(provider -> provider.keyspaceFor(meta.entityClass))
+                    .orElseGet(() -> meta.getKeyspace().orElse("unknown_keyspace_for_" + meta.entityClass.getCanonicalName()));
+            this.table = options.getSchemaNameProvider()
+                    .map(provider -> provider.tableNameFor(meta.entityClass))
+                    .orElseGet(meta::getTableOrViewName);
+
+            this.partitionKeyColumns = meta.partitionKeys
+                    .stream()
+                    .map(AbstractProperty::getColumnForSelect)
+                    .toArray(String[]::new);
+
+            final List<ScanRange> ranges = ScanRange.fromTokenRanges(rte.getCluster().getMetadata().getTokenRanges(), splitsPerRange);
+            this.totalRangeCount = ranges.size();
+            for (ScanRange range : ranges) {
+                if (resumeFrom.isCompleted(range.id)) {
+                    completedRanges.add(range.id);
+                } else {
+                    pendingRanges.add(range);
+                }
+            }
+        }
+
+        void start() {
+            final int lanes = Math.min(concurrency, pendingRanges.size());
+            if (lanes == 0) {
+                result.complete(checkpoint());
+                return;
+            }
+            runningLanes.set(lanes);
+            for (int i = 0; i < lanes; i++) {
+                scanNextRange();
+            }
+        }
+
+        private void scanNextRange() {
+            final ScanRange range = error.get() == null ? pendingRanges.poll() : null;
+            if (range == null) {
+                if (runningLanes.decrementAndGet() == 0) {
+                    complete();
+                }
+                return;
+            }
+
+            try {
+                final StatementWrapper statementWrapper = bindRange(range);
+                rte.execute(statementWrapper)
+                        .thenApply(options::resultSetAsyncListener)
+                        .thenApply(statementWrapper::logTrace)
+                        .whenComplete((rs, throwable) -> {
+                            if (throwable != null) {
+                                onRangeFailure(range, unwrap(throwable));
+                            } else {
+                                consumePages(range, statementWrapper, rs);
+                            }
+                        });
+            } catch (Throwable throwable) {
+                onRangeFailure(range, throwable);
+            }
+        }
+
+        private void consumePages(ScanRange range, StatementWrapper statementWrapper, ResultSet rs) {
+            try {
+                for (int i = rs.getAvailableWithoutFetching(); i > 0; i--) {
+                    final Row row = rs.one();
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    final ENTITY entity = meta.createEntityFrom(row);
+                    meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+                    consumer.accept(entity);
+                    entityCount.incrementAndGet();
+                }
+
+                if (rs.isFullyFetched()) {
+                    onRangeCompleted(range);
+                } else {
+                    toCompletableFuture(rs.fetchMoreResults(), callbackExecutor)
+                            .whenComplete((ignored, throwable) -> {
+                                if (throwable != null) {
+                                    onRangeFailure(range, unwrap(throwable));
+                                } else {
+                                    consumePages(range, statementWrapper, rs);
+                                }
+                            });
+                }
+            } catch (Throwable throwable) {
+                onRangeFailure(range, throwable);
+            }
+        }
+
+        private void onRangeCompleted(ScanRange range) {
+            completedRanges.add(range.id);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Token range %s of entities %s scanned (%s/%s)",
+                        range.id, meta.entityClass.getCanonicalName(), completedRanges.size(), totalRangeCount));
+            }
+            try {
+                checkpointListener.ifPresent(listener -> listener.accept(checkpoint()));
+            } catch (Throwable throwable) {
+                error.compareAndSet(null, throwable);
+            }
+            scanNextRange();
+        }
+
+        private void onRangeFailure(ScanRange range, Throwable throwable) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Scan of token range %s of entities %s failed : %s",
+                        range.id, meta.entityClass.getCanonicalName(), throwable.getMessage()));
+            }
+            error.compareAndSet(null, throwable);
+            scanNextRange();
+        }
+
+        private void complete() {
+            final Throwable throwable = error.get();
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                final ScanCheckpoint checkpoint = checkpoint();
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Scan of entities %s done with checkpoint %s", meta.entityClass.getCanonicalName(), checkpoint));
+                }
+                result.complete(checkpoint);
+            }
+        }
+
+        private ScanCheckpoint checkpoint() {
+            return new ScanCheckpoint(new HashSet<>(completedRanges), totalRangeCount, entityCount.get());
+        }
+
+        private StatementWrapper bindRange(ScanRange range) {
+            final List<Object> tokens = new ArrayList<>(2);
+            final Select select = select().all().from(keyspace, table);
+            final Select.Where where = select.where();
+            if (range.start != null) {
+                where.and(gt(token(partitionKeyColumns), bindMarker()));
+                tokens.add(range.start.getValue());
+            }
+            if (range.end != null) {
+                where.and(lte(token(partitionKeyColumns), bindMarker()));
+                tokens.add(range.end.getValue());
+            }
+
+            final PreparedStatement ps = preparedStatements.computeIfAbsent(where.getQueryString(), query -> rte.prepareDynamicQuery(where));
+            final Object[] values = tokens.toArray();
+            final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT, meta, ps, values, values);
+            statementWrapper.applyOptions(options);
+            return statementWrapper;
+        }
+    }
+}
@@ -20,8 +20,8 @@ import static info.archinnov.achilles.internals.dsl.LWTHelper.triggerLWTListener
 import static info.archinnov.achilles.type.interceptor.Event.POST_UPDATE;
 import static info.archinnov.achilles.type.interceptor.Event.PRE_UPDATE;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -34,6 +34,7 @@ import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 
+import info.archinnov.achilles.internals.cache.ColumnMaskKey;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.action.MutationAction;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForCRUDUpdate;
@@ -43,6 +44,7 @@ import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.statements.PreparedStatementGenerator;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.SchemaNameProvider;
 
 public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<UpdateWithOptions<ENTITY>>
         implements MutationAction, StatementProvider {
@@ -75,7 +77,9 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
             LOGGER.trace(format("Insert async with execution info : %s", queryString));
         }
 
-        CompletableFuture<ResultSet> cfutureRS = rte.execute(statementWrapper);
+        CompletableFuture<ResultSet> cfutureRS = meta.getEntityCache()
+                .map(cache -> cache.invalidateAround(instance, updateStatic, options, () -> rte.execute(statementWrapper)))
+                .orElseGet(() -> rte.execute(statementWrapper));
 
         return cfutureRS
                 .thenApply(this.options::resultSetAsyncListener)
@@ -101,23 +105,17 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
 
     @Override
     public String getStatementAsString() {
-        return getInternalPreparedStatement().getQueryString();
+        return getInternalPreparedStatement(extractValues()).getQueryString();
     }
 
     @Override
     public List<Object> getBoundValues() {
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.boundValue).collect(toList());
+        return Arrays.asList(extractValues().boundValues);
     }
 
     @Override
     public List<Object> getEncodedBoundValues() {
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
-        return wrapper.boundValuesInfo.stream().map(x -> x.encodedValue).collect(toList());
+        return Arrays.asList(extractValues().encodedValues);
     }
 
     @Override
@@ -130,19 +128,30 @@ public class UpdateWithOptions<ENTITY> extends AbstractOptionsForCRUDUpdate<Upda
             LOGGER.trace(format("Get bound statement wrapper"));
         }
 
-        final PreparedStatement ps = getInternalPreparedStatement();
-        BoundValuesWrapper wrapper = updateStatic == true
-                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
-                : meta.extractAllValuesFromEntity(instance, options);
+        final BoundValuesWrapper wrapper = extractValues();
+        final PreparedStatement ps = getInternalPreparedStatement(wrapper);
 
         StatementWrapper statementWrapper = wrapper.bindForUpdate(ps);
         statementWrapper.applyOptions(options);
         return statementWrapper;
     }
 
-    private PreparedStatement getInternalPreparedStatement() {
-        return rte.prepareDynamicQuery(PreparedStatementGenerator.generateUpdate(instance, meta, options, updateStatic,
-                (ifExists.isPresent() && ifExists.get() == true)));
+    private BoundValuesWrapper extractValues() {
+        return updateStatic == true
+                ? meta.extractPartitionKeysAndStaticColumnsFromEntity(instance, options)
+                : meta.extractAllValuesFromEntity(instance, options);
+    }
+
+    private PreparedStatement getInternalPreparedStatement(BoundValuesWrapper wrapper) {
+        final boolean ifExists = this.ifExists.isPresent() && this.ifExists.get() == true;
+        final Optional<SchemaNameProvider> schemaNameProvider = options.getSchemaNameProvider();
+        final ColumnMaskKey columnMaskKey = new ColumnMaskKey(meta.entityClass,
+                schemaNameProvider.map(provider -> provider.keyspaceFor(meta.entityClass)).orElse(null),
+                schemaNameProvider.map(provider -> provider.tableNameFor(meta.entityClass)).orElse(null),
+                wrapper.nonNullValuesMask(), updateStatic, options.hasDefaultTimestamp(), ifExists);
+
+        return rte.prepareUpdateQuery(columnMaskKey,
+                () -> PreparedStatementGenerator.generateUpdate(wrapper, meta, options, updateStatic, ifExists));
     }
 
 
@@ -80,6 +80,21 @@ public abstract class AbstractOptionsForSelect<T extends AbstractOptionsForSelec
         return getThis();
     }
 
+    /**
+     * When iterating over the results, fetch asynchronously the next page
+     * as soon as the number of rows left in the current page drops to
+     * <strong>prefetchThreshold</strong>, so that entity decoding overlaps with network I/O
+     * <br/>
+     * <br/>
+     * A good value is a fraction of the fetch size, for example <em>fetchSize / 4</em>.
+     * If you provide a negative number, it will default to 0 (no prefetch)
+     * @param prefetchThreshold the number of remaining rows in the current page triggering the prefetch
+     */
+    public T withPrefetchThreshold(int prefetchThreshold) {
+        getOptions().setPrefetchThreshold(Optional.of(Integer.max(0, prefetchThreshold)));
+        return getThis();
+    }
+
     /**
      * Hint the current statement as idempotent. Useful for retry strategy
      */
@@ -28,8 +28,8 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.OperationType;
 
 public abstract class AbstractIndexSelectWhere<T extends AbstractIndexSelectWhere<T, ENTITY>, ENTITY>
         extends AbstractSelectWhere<T, ENTITY> {
@@ -22,6 +22,7 @@ import static java.util.stream.Collectors.toList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
@@ -30,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.*;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.action.SelectAction;
@@ -38,12 +40,18 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ColumnarPagesDecoder;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPagesCollector;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
+import info.archinnov.achilles.internals.types.TypedMapRowMapper;
+import info.archinnov.achilles.type.ColumnarPage;
+import info.archinnov.achilles.type.OperationType;
 import info.archinnov.achilles.type.TypedMap;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTITY>, ENTITY>
@@ -64,6 +72,8 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getQueryShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -88,6 +98,23 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         return new EntityIteratorWrapper<>(futureRS, meta, statementWrapper, cassandraOptions);
     }
 
+    @Override
+    public Publisher<ENTITY> publisher() {
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Generate publisher for select : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPublisher<>(getRte(), statementWrapper, getOptions(), row -> {
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        });
+    }
+
     @Override
     public Tuple2<Iterator<ENTITY>, ExecutionInfo> iteratorWithExecutionInfo() {
         final EntityIteratorWrapper<ENTITY> iterator = (EntityIteratorWrapper<ENTITY>)this.iterator();
@@ -129,6 +156,42 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
                 });
     }
 
+    @Override
+    public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getAllAsyncWithStats(int maxRows, long maxBytes) {
+        final RuntimeEngine rte = getRte();
+        final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
+
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select all async with execution info, max rows %s : %s", maxRows,
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        final ResultSetPagesCollector<ENTITY> collector = new ResultSetPagesCollector<>(rte, statementWrapper, getOptions(), row -> {
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        }, maxRows, maxBytes);
+
+        return collector.collect(rte.execute(statementWrapper));
+    }
+
+    @Override
+    public CompletableFuture<ExecutionInfo> forEachColumnarPageAsync(Consumer<ColumnarPage> pageConsumer) {
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select columnar pages async : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        final ColumnarPagesDecoder decoder = new ColumnarPagesDecoder(getRte(), statementWrapper, getOptions(),
+                getMetaInternal().fieldNameToCqlColumn, pageConsumer);
+
+        return decoder.decode(getRte().execute(statementWrapper));
+    }
+
     /***************************************************************************************
      * TypedMap API                                                                        *
      ***************************************************************************************/
@@ -154,6 +217,20 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
 
 
 
+    @Override
+    public CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getAllTypedMapsAsyncWithStats(int maxRows, long maxBytes) {
+        final RuntimeEngine rte = getRte();
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select all async with execution info, max rows %s : %s", maxRows,
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPagesCollector<>(rte, statementWrapper, getOptions(), new TypedMapRowMapper(), maxRows, maxBytes)
+                .collect(rte.execute(statementWrapper));
+    }
+
     public CompletableFuture<Tuple2<TypedMap, ExecutionInfo>> getTypedMapAsyncWithStats() {
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
@@ -190,6 +267,18 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, cassandraOptions);
     }
 
+    @Override
+    public Publisher<TypedMap> typedMapPublisher() {
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Generate typed map publisher for select : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPublisher<>(getRte(), statementWrapper, getOptions(), new TypedMapRowMapper());
+    }
+
     @Override
     public Tuple2<Iterator<TypedMap>, ExecutionInfo> typedMapIteratorWithExecutionInfo() {
         final TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper)this.typedMapIterator();
@@ -227,7 +316,7 @@ public abstract class AbstractSelectWhere<T extends AbstractSelectWhere<T, ENTIT
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getQueryShapeInternal(), where);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
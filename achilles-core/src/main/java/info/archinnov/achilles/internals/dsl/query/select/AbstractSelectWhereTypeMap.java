@@ -31,6 +31,7 @@ import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.querybuilder.Select;
 
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.dsl.StatementProvider;
 import info.archinnov.achilles.internals.dsl.TypedMapAware;
 import info.archinnov.achilles.internals.dsl.options.AbstractOptionsForSelect;
@@ -38,10 +39,14 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPagesCollector;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
 import info.archinnov.achilles.internals.types.TypedMapIteratorWrapper;
+import info.archinnov.achilles.internals.types.TypedMapRowMapper;
+import info.archinnov.achilles.type.OperationType;
 import info.archinnov.achilles.type.TypedMap;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTypeMap<T, ENTITY>, ENTITY>
@@ -62,6 +67,8 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
     protected abstract List<Object> getEncodedValuesInternal();
 
+    protected abstract QueryShape getQueryShapeInternal();
+
     protected abstract AbstractEntityProperty<ENTITY> getMetaInternal();
 
     protected abstract Class<ENTITY> getEntityClass();
@@ -93,6 +100,20 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
 
 
 
+    @Override
+    public CompletableFuture<Tuple2<List<TypedMap>, ExecutionInfo>> getAllTypedMapsAsyncWithStats(int maxRows, long maxBytes) {
+        final RuntimeEngine rte = getRte();
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Select all async with execution info, max rows %s : %s", maxRows,
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPagesCollector<>(rte, statementWrapper, getOptions(), new TypedMapRowMapper(), maxRows, maxBytes)
+                .collect(rte.execute(statementWrapper));
+    }
+
     public CompletableFuture<Tuple2<TypedMap, ExecutionInfo>> getTypedMapAsyncWithStats() {
         final RuntimeEngine rte = getRte();
         final CassandraOptions options = getOptions();
@@ -129,6 +150,18 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         return new TypedMapIteratorWrapper(futureRS, statementWrapper, cassandraOptions);
     }
 
+    @Override
+    public Publisher<TypedMap> typedMapPublisher() {
+        final StatementWrapper statementWrapper = getInternalBoundStatementWrapper();
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Generate typed map publisher for select : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPublisher<>(getRte(), statementWrapper, getOptions(), new TypedMapRowMapper());
+    }
+
     @Override
     public Tuple2<Iterator<TypedMap>, ExecutionInfo> typedMapIteratorWithExecutionInfo() {
         final TypedMapIteratorWrapper iterator = (TypedMapIteratorWrapper)this.typedMapIterator();
@@ -168,7 +201,7 @@ public abstract class AbstractSelectWhereTypeMap<T extends AbstractSelectWhereTy
         final AbstractEntityProperty<ENTITY> meta = getMetaInternal();
         final CassandraOptions cassandraOptions = getOptions();
 
-        final PreparedStatement ps = rte.prepareDynamicQuery(where);
+        final PreparedStatement ps = rte.prepareDynamicQuery(getQueryShapeInternal(), where);
 
         final StatementWrapper statementWrapper = new BoundStatementWrapper(OperationType.SELECT,
                 meta, ps,
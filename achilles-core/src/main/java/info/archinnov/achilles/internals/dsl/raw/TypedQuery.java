@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 
@@ -41,8 +42,13 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.runtime.RuntimeEngine;
 import info.archinnov.achilles.internals.statements.BoundStatementWrapper;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.ColumnarPagesDecoder;
 import info.archinnov.achilles.internals.types.EntityIteratorWrapper;
+import info.archinnov.achilles.internals.types.ResultSetPagesCollector;
+import info.archinnov.achilles.internals.types.ResultSetPublisher;
+import info.archinnov.achilles.type.ColumnarPage;
 import info.archinnov.achilles.type.interceptor.Event;
+import info.archinnov.achilles.type.reactive.Publisher;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
 /**
@@ -139,6 +145,18 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return this;
     }
 
+    /**
+     * When iterating over the results, fetch asynchronously the next page
+     * as soon as the number of rows left in the current page drops to
+     * <strong>prefetchThreshold</strong>, so that entity decoding overlaps with network I/O.
+     * If you provide a negative number, it will default to 0 (no prefetch)
+     * @param prefetchThreshold the number of remaining rows in the current page triggering the prefetch
+     */
+    public TypedQuery<ENTITY> withPrefetchThreshold(int prefetchThreshold) {
+        options.setPrefetchThreshold(Optional.of(Integer.max(0, prefetchThreshold)));
+        return this;
+    }
+
     /**
      * When DEBUG log is enabled, restrict the Results Display to maximum <strong>DMLResultsDisplaySize</strong> rows. This only applies to SELECT statements
      * <br/>
@@ -175,6 +193,30 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
         return new EntityIteratorWrapper<>(futureRS, meta, statementWrapper, options);
     }
 
+    /**
+     * Return a publisher of entities. The typed query is executed on the first
+     * request of each subscription
+     *
+     * @return Publisher&lt;ENTITY&gt;
+     */
+    @Override
+    public Publisher<ENTITY> publisher() {
+
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+                boundStatement, encodedBoundValues);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Generate publisher for typed query : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        return new ResultSetPublisher<>(rte, statementWrapper, options, row -> {
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        });
+    }
+
     /**
      * Execute the typed query and return an iterator of entities
      *
@@ -223,6 +265,51 @@ public class TypedQuery<ENTITY> implements SelectAction<ENTITY>, RawAndTypeMapDe
                 });
     }
 
+    /**
+     * Execute the typed query asynchronously and return a list of <strong>all</strong> entities
+     * with the execution info of the last fetched page. Pages are fetched asynchronously until
+     * the results are exhausted, <em>maxRows</em> entities have been collected or the serialized
+     * size of the collected rows reaches <em>maxBytes</em>
+     *
+     * @return CompletableFuture&lt;Tuple2&lt;List&lt;ENTITY&gt;, ExecutionInfo&gt;&gt;
+     */
+    @Override
+    public CompletableFuture<Tuple2<List<ENTITY>, ExecutionInfo>> getAllAsyncWithStats(int maxRows, long maxBytes) {
+
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+                boundStatement, encodedBoundValues);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Select all async with execution info, max rows %s : %s", maxRows,
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        final ResultSetPagesCollector<ENTITY> collector = new ResultSetPagesCollector<>(rte, statementWrapper, options, row -> {
+            final ENTITY entity = meta.createEntityFrom(row);
+            meta.triggerInterceptorsForEvent(Event.POST_LOAD, entity);
+            return entity;
+        }, maxRows, maxBytes);
+
+        return collector.collect(rte.execute(statementWrapper));
+    }
+
+    @Override
+    public CompletableFuture<ExecutionInfo> forEachColumnarPageAsync(Consumer<ColumnarPage> pageConsumer) {
+
+        StatementWrapper statementWrapper = new BoundStatementWrapper(getOperationType(boundStatement), meta,
+                boundStatement, encodedBoundValues);
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(String.format("Select columnar pages async : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+
+        final ColumnarPagesDecoder decoder = new ColumnarPagesDecoder(rte, statementWrapper, options,
+                meta.fieldNameToCqlColumn, pageConsumer);
+
+        return decoder.decode(rte.execute(statementWrapper));
+    }
+
     @Override
     public RuntimeEngine runtimeEngine() {
         return rte;
@@ -20,17 +20,23 @@ import static info.archinnov.achilles.internals.schema.SchemaValidator.*;
 import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.*;
 import static info.archinnov.achilles.validation.Validator.validateNotNull;
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.BiMap;
 
+import info.archinnov.achilles.cache.EntityCacheConfig;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.EntityCache;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
@@ -46,6 +52,8 @@ import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.internals.utils.CollectionsHelper;
+import info.archinnov.achilles.metrics.MetricsRegistry;
+import info.archinnov.achilles.metrics.NoOpMetricsRegistry;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.codec.Codec;
 import info.archinnov.achilles.type.codec.CodecSignature;
@@ -61,9 +69,10 @@ public abstract class AbstractEntityProperty<T> implements
         InjectConsistency, InjectInsertStrategy,
         InjectUserAndTupleTypeFactory,
         InjectJacksonMapper, InjectSchemaStrategy,
-        InjectRuntimeCodecs {
+        InjectRuntimeCodecs, InjectMetricsRegistry {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractEntityProperty.class);
+    private static final int MAX_ROW_DECODING_PLANS = 256;
 
     public final Logger entityLogger;
     public final Class<T> entityClass;
@@ -87,6 +96,23 @@ public abstract class AbstractEntityProperty<T> implements
     public final List<AbstractProperty<T, ?, ?>> constructorInjectedColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumns;
     public final List<AbstractProperty<T, ?, ?>> allColumnsWithComputed;
+
+    /**
+     * Properties bound by INSERT/UPDATE statements, in bind marker order (partition keys,
+     * static columns, clustering columns, normal columns, counter columns)
+     */
+    public final AbstractProperty<T, ?, ?>[] allColumnsToBind;
+
+    /**
+     * Properties bound by INSERT/UPDATE statements on static columns, in bind marker order
+     * (partition keys then static columns)
+     */
+    public final AbstractProperty<T, ?, ?>[] partitionKeysAndStaticColumnsToBind;
+
+    /**
+     * Primary key properties, in bind marker order (partition keys then clustering columns)
+     */
+    public final AbstractProperty<T, ?, ?>[] primaryKeysToBind;
     public final List<Interceptor<T>> interceptors = new ArrayList<>();
     protected BeanFactory beanFactory;
     protected Optional<String> keyspace = Optional.empty();
@@ -95,6 +121,17 @@ public abstract class AbstractEntityProperty<T> implements
     protected ConsistencyLevel serialConsistencyLevel;
     protected InsertStrategy insertStrategy;
     public Optional<SchemaNameProvider> schemaStrategy = Optional.empty();
+    protected MetricsRegistry metricsRegistry = NoOpMetricsRegistry.INSTANCE;
+    private volatile Optional<EntityCache<T>> entityCache = Optional.empty();
+
+    /**
+     * Row decoding plans, keyed by identity of the result set metadata (ColumnDefinitions does not override equals).
+     * Each plan references its ColumnDefinitions, so the cache is bounded by size rather than by weak keys
+     */
+    private final Cache<ColumnDefinitions, RowDecodingPlan<T>> rowDecodingPlans = CacheBuilder.newBuilder()
+            .maximumSize(MAX_ROW_DECODING_PLANS)
+            .build();
+    private volatile RowDecodingPlan<T> lastRowDecodingPlan;
 
 
     public AbstractEntityProperty() {
@@ -120,6 +157,14 @@ public abstract class AbstractEntityProperty<T> implements
         counterColumns = getCounterColumns();
         allColumns = getAllColumns();
         allColumnsWithComputed = getAllColumnsWithComputed();
+        allColumnsToBind = toArray(allColumns);
+        partitionKeysAndStaticColumnsToBind = toArray(CollectionsHelper.appendAll(partitionKeys, staticColumns));
+        primaryKeysToBind = toArray(CollectionsHelper.appendAll(partitionKeys, clusteringColumns));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> AbstractProperty<T, ?, ?>[] toArray(List<AbstractProperty<T, ?, ?>> properties) {
+        return properties.toArray(new AbstractProperty[properties.size()]);
     }
 
     protected abstract Class<T> getEntityClass();
@@ -229,36 +274,65 @@ public abstract class AbstractEntityProperty<T> implements
 
     protected abstract T newInstanceFromCustomConstructor(Row row, List<String> cqlColumns);
 
+    /**
+     * Decode the given row into the entity instance. <em>columnIndexes</em> contains, for each property
+     * of <em>allColumnsWithComputed</em> (same order), the index of its column in the row or a negative
+     * value if the column has not been selected.
+     * <br/>
+     * Meta classes generated by the annotation processor override this method with straight-line code
+     */
+    protected void decodeRow(Row row, int[] columnIndexes, T entity) {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            final int index = columnIndexes[i];
+            if (index >= 0) {
+                allColumnsWithComputed.get(i).decodeField(row, index, entity);
+            }
+        }
+    }
+
     public T createEntityFrom(Row row) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Create entity of type %s from Cassandra row %s",
                     entityClass.getCanonicalName(), row));
         }
         if (row != null) {
-            // No custom constructor
-            final List<String> cqlColumns = row.getColumnDefinitions().asList().stream().map(def -> def.getName()).collect(toList());
+            final boolean measured = metricsRegistry.isEnabled();
+            final long startNanos = measured ? System.nanoTime() : 0L;
+            final RowDecodingPlan<T> plan = getRowDecodingPlan(row.getColumnDefinitions());
+            final T newInstance;
             if (constructorInjectedColumns.size() == 0) {
-                T newInstance = beanFactory.newInstance(entityClass);
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> cqlColumns.contains(x.getColumnForSelect()))
-                        .forEach(x -> x.decodeField(row, newInstance));
-                return newInstance;
+                // No custom constructor
+                newInstance = beanFactory.newInstance(entityClass);
+                decodeRow(row, plan.columnIndexes, newInstance);
             } else {
-
-                final T newInstance = newInstanceFromCustomConstructor(row, cqlColumns);
-
+                newInstance = newInstanceFromCustomConstructor(row, plan.cqlColumns);
                 // Call setters for remaining fields not injected by constructor
-                allColumnsWithComputed
-                        .stream()
-                        .filter(x -> !constructorInjectedColumns.contains(x))
-                        .forEach(x -> x.decodeField(row, newInstance));
-                return newInstance;
+                plan.decodeInto(row, newInstance);
             }
+            if (measured) {
+                metricsRegistry.onEntityDecoded(entityClass, System.nanoTime() - startNanos);
+            }
+            return newInstance;
         }
         return null;
     }
 
+    private RowDecodingPlan<T> getRowDecodingPlan(ColumnDefinitions columnDefinitions) {
+        final RowDecodingPlan<T> lastPlan = this.lastRowDecodingPlan;
+        if (lastPlan != null && lastPlan.isPlanFor(columnDefinitions)) {
+            return lastPlan;
+        }
+
+        try {
+            final RowDecodingPlan<T> plan = rowDecodingPlans.get(columnDefinitions,
+                    () -> new RowDecodingPlan<>(columnDefinitions, allColumnsWithComputed, constructorInjectedColumns));
+            this.lastRowDecodingPlan = plan;
+            return plan;
+        } catch (ExecutionException e) {
+            throw new AchillesException(e.getCause());
+        }
+    }
+
     public BoundValuesWrapper extractAllValuesFromEntity(T instance, CassandraOptions cassandraOptions) {
         return BeanValueExtractor.extractAllValues(instance, this, cassandraOptions);
     }
@@ -306,6 +380,17 @@ public abstract class AbstractEntityProperty<T> implements
         generateStaticSelectQuery(session, cache, this);
     }
 
+    public Map<CacheKey, RegularStatement> generateStaticStatements(InternalCassandraVersion cassandraVersion) {
+        final Map<CacheKey, RegularStatement> statements = new LinkedHashMap<>();
+        if (!counterTable) {
+            statements.putAll(generateStaticInsertStatements(cassandraVersion, this));
+        }
+
+        statements.putAll(generateStaticDeleteStatements(this));
+        statements.putAll(generateStaticSelectStatements(this));
+        return statements;
+    }
+
     protected List<AbstractProperty<T, ?, ?>> getAllColumns() {
         return CollectionsHelper.appendAll(partitionKeys, staticColumns,
                 clusteringColumns, normalColumns, counterColumns);
@@ -486,6 +571,27 @@ public abstract class AbstractEntityProperty<T> implements
         }
     }
 
+    @Override
+    public void inject(MetricsRegistry metricsRegistry) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Injecting metrics registry %s into entity meta of %s",
+                    metricsRegistry, entityClass.getCanonicalName()));
+        }
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    public Optional<EntityCache<T>> getEntityCache() {
+        return entityCache;
+    }
+
+    public void injectEntityCache(EntityCacheConfig entityCacheConfig) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Injecting entity cache %s into entity meta of %s",
+                    entityCacheConfig, entityClass.getCanonicalName()));
+        }
+        this.entityCache = Optional.of(new EntityCache<>(this, entityCacheConfig));
+    }
+
     @Override
     public void injectRuntimeCodecs(Map<CodecSignature<?, ?>, Codec<?, ?>> runtimeCodecs) {
         if (LOGGER.isDebugEnabled()) {
@@ -41,6 +41,7 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
     public TypeToken<VALUETO> valueToTypeToken;
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
     private DataType dataType;
+    private String quotedColumnForSelect;
 
     AbstractProperty(TypeToken<VALUEFROM> valueFromTypeToken, TypeToken<VALUETO> valueToTypeToken, FieldInfo<ENTITY, VALUEFROM> fieldInfo) {
         this.valueFromTypeToken = valueFromTypeToken;
@@ -128,7 +129,19 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
      * @return
      */
     public VALUEFROM decodeFromGettable(GettableData gettableData) {
-        if (gettableData.isNull(NamingHelper.maybeQuote(getColumnForSelect())) && !isOptional()) return null;
+        if (gettableData.isNull(getQuotedColumnForSelect()) && !isOptional()) return null;
+        return decodeFromGettableInternal(gettableData);
+    }
+
+    /**
+     * Decode the given GettableData (Row, UDTValue, ...) to Java value value using Achilles codec system.
+     * The null check is performed using the given column index instead of the column name
+     * @param gettableData
+     * @param columnIndex index of this property column in the given GettableData
+     * @return
+     */
+    public VALUEFROM decodeFromGettable(GettableData gettableData, int columnIndex) {
+        if (gettableData.isNull(columnIndex) && !isOptional()) return null;
         return decodeFromGettableInternal(gettableData);
     }
 
@@ -245,6 +258,18 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         fieldInfo.setter.set(entity, valuefrom);
     }
 
+    /**
+     * Same as {@link #decodeField(GettableData, Object)} but using the given column index
+     * to check for null value
+     * @param gettableData
+     * @param columnIndex index of this property column in the given GettableData
+     * @param entity
+     */
+    public void decodeField(GettableData gettableData, int columnIndex, ENTITY entity) {
+        final VALUEFROM valuefrom = decodeFromGettable(gettableData, columnIndex);
+        fieldInfo.setter.set(entity, valuefrom);
+    }
+
     /**
      * Call the getter on the given entity to get the value
      * @param entity
@@ -262,6 +287,13 @@ public abstract class AbstractProperty<ENTITY, VALUEFROM, VALUETO>
         return fieldInfo.cqlColumn;
     }
 
+    String getQuotedColumnForSelect() {
+        if (quotedColumnForSelect == null) {
+            quotedColumnForSelect = NamingHelper.maybeQuote(getColumnForSelect());
+        }
+        return quotedColumnForSelect;
+    }
+
     public DataType getDataType() {
         if (dataType == null) {
             dataType = buildType(Optional.empty());
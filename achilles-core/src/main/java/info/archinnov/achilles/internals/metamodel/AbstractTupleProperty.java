@@ -147,7 +147,11 @@ public abstract class AbstractTupleProperty<ENTITY, T extends Tuple> extends Abs
         }
     }
 
-     protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
-         return options.isPresent() ? buildType(options) : tupleType;
-     }
+    /**
+     * The tuple type only depends on the schema name provider of the options,
+     * so reuse the type built at injection time when there is none
+     */
+    protected TupleType getRuntimeTupleType(Optional<CassandraOptions> options) {
+        return options.flatMap(CassandraOptions::getSchemaNameProvider).isPresent() ? buildType(options) : tupleType;
+    }
 }
@@ -18,10 +18,12 @@ package info.archinnov.achilles.internals.metamodel;
 
 import static java.lang.String.format;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -64,7 +66,9 @@ public abstract class AbstractUDTClassProperty<A>
     public final Class<?> parentEntityClass;
     protected BeanFactory udtFactory;
     protected UserTypeFactory userTypeFactory;
-    protected UserType userType;
+    private final Map<List<String>, UserType> userTypes = new ConcurrentHashMap<>();
+    private final Map<List<String>, UserType> frozenUserTypes = new ConcurrentHashMap<>();
+    private volatile List<AbstractUDTClassProperty<?>> nestedUDTClassProperties;
     protected Optional<SchemaNameProvider> schemaNameProvider = Optional.empty();
     String keyspace;
 
@@ -121,12 +125,22 @@ public abstract class AbstractUDTClassProperty<A>
         return null;
     }
 
+    /**
+     * Return the UserType for the keyspaces resolved from the runtime options. The type only depends
+     * on the keyspace names of this UDT and of its nested UDTs and on the frozen flag so it is built
+     * once per combination of keyspaces and then reused
+     */
     protected UserType getUserType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
-        if (cassandraOptions.isPresent() || userType == null) {
+        final Optional<List<String>> keyspaceNames = resolveKeyspaces(cassandraOptions);
+        if (!keyspaceNames.isPresent()) {
             return buildType(frozen, cassandraOptions);
-        } else {
+        }
+        final Map<List<String>, UserType> cache = frozen ? frozenUserTypes : userTypes;
+        final UserType userType = cache.get(keyspaceNames.get());
+        if (userType != null) {
             return userType;
         }
+        return cache.computeIfAbsent(keyspaceNames.get(), key -> buildType(frozen, cassandraOptions));
     }
 
     public UserType buildType(boolean frozen, Optional<CassandraOptions> cassandraOptions) {
@@ -134,11 +148,7 @@ public abstract class AbstractUDTClassProperty<A>
             LOGGER.debug(format("Building UserType instance for the current UDT class meta %s", this.toString()));
         }
 
-        Optional<String> keyspaceName = OverridingOptional
-                .from(cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider).map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(this.schemaNameProvider.map(x -> x.keyspaceFor(parentEntityClass)))
-                .andThen(staticKeyspace.orElse(keyspace))
-                .getOptional();
+        Optional<String> keyspaceName = resolveKeyspace(cassandraOptions);
 
         Validator.validateTrue(keyspaceName.isPresent(),
                 "The keyspace name for the UDT type '%s' should be either provided by the '%s' annotation or at runtime",
@@ -150,6 +160,51 @@ public abstract class AbstractUDTClassProperty<A>
         return userTypeFactory.typeFor(keyspaceName.get(), udtName, frozen, fields);
     }
 
+    /**
+     * Nested UDTs resolve their keyspace from their own class so a runtime SchemaNameProvider
+     * may map them to another keyspace than the one of this UDT
+     */
+    private Optional<List<String>> resolveKeyspaces(Optional<CassandraOptions> cassandraOptions) {
+        final List<AbstractUDTClassProperty<?>> nestedUDTs = getNestedUDTClassProperties();
+        final List<String> keyspaceNames = new ArrayList<>(nestedUDTs.size() + 1);
+        final Optional<String> keyspaceName = resolveKeyspace(cassandraOptions);
+        if (!keyspaceName.isPresent()) {
+            return Optional.empty();
+        }
+        keyspaceNames.add(keyspaceName.get());
+        for (AbstractUDTClassProperty<?> nestedUDT : nestedUDTs) {
+            final Optional<String> nestedKeyspaceName = nestedUDT.resolveKeyspace(cassandraOptions);
+            if (!nestedKeyspaceName.isPresent()) {
+                return Optional.empty();
+            }
+            keyspaceNames.add(nestedKeyspaceName.get());
+        }
+        return Optional.of(keyspaceNames);
+    }
+
+    private List<AbstractUDTClassProperty<?>> getNestedUDTClassProperties() {
+        if (nestedUDTClassProperties == null) {
+            nestedUDTClassProperties = componentsProperty
+                    .stream()
+                    .flatMap(x -> x.getUDTClassProperties().stream())
+                    .collect(Collectors.toList());
+        }
+        return nestedUDTClassProperties;
+    }
+
+    private Optional<String> resolveKeyspace(Optional<CassandraOptions> cassandraOptions) {
+        return OverridingOptional
+                .from(cassandraOptions.flatMap(CassandraOptions::getSchemaNameProvider).map(x -> x.keyspaceFor(parentEntityClass)))
+                .andThen(this.schemaNameProvider.map(x -> x.keyspaceFor(parentEntityClass)))
+                .andThen(staticKeyspace.orElse(keyspace))
+                .getOptional();
+    }
+
+    private void clearUserTypes() {
+        userTypes.clear();
+        frozenUserTypes.clear();
+    }
+
     public String generateSchema(SchemaContext context) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generating creation script for current UDT class meta %s", this.toString()));
@@ -183,7 +238,7 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.inject(userTypeFactory, tupleTypeFactory);
         }
-        //userType = this.buildType(frozen, schemaNameProvider.map(CassandraOptions::withSchemaNameProvider));
+        clearUserTypes();
     }
 
     @Override
@@ -206,11 +261,13 @@ public abstract class AbstractUDTClassProperty<A>
         for (AbstractProperty<A, ?, ?> x : componentsProperty) {
             x.injectKeyspace(keyspace);
         }
+        clearUserTypes();
     }
 
     @Override
     public void inject(SchemaNameProvider schemaNameProvider) {
         this.schemaNameProvider = Optional.ofNullable(schemaNameProvider);
+        clearUserTypes();
     }
 
     @Override
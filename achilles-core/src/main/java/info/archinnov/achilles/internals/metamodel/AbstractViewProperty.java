@@ -19,11 +19,13 @@ package info.archinnov.achilles.internals.metamodel;
 import static info.archinnov.achilles.internals.schema.SchemaValidator.validateColumnType;
 import static info.archinnov.achilles.internals.schema.SchemaValidator.validateColumns;
 import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.generateStaticSelectQuery;
+import static info.archinnov.achilles.internals.statements.PreparedStatementGenerator.generateStaticSelectStatements;
 import static info.archinnov.achilles.validation.Validator.validateNotNull;
 import static java.lang.String.format;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.StringJoiner;
 
@@ -33,8 +35,10 @@ import org.slf4j.LoggerFactory;
 import com.datastax.driver.core.ConsistencyLevel;
 import com.datastax.driver.core.KeyspaceMetadata;
 import com.datastax.driver.core.MaterializedViewMetadata;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Session;
 
+import info.archinnov.achilles.internals.cache.CacheKey;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
@@ -124,6 +128,11 @@ public abstract class AbstractViewProperty<T> extends AbstractEntityProperty<T>
         generateStaticSelectQuery(session, cache, this);
     }
 
+    @Override
+    public Map<CacheKey, RegularStatement> generateStaticStatements(InternalCassandraVersion cassandraVersion) {
+        return generateStaticSelectStatements(this);
+    }
+
     protected List<AbstractProperty<T, ?, ?>> getAllColumns() {
         return CollectionsHelper.appendAll(partitionKeys,
                 clusteringColumns, normalColumns);
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import java.util.*;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+/**
+ * Pre-computed mapping between the properties of an entity and the column
+ * indexes of a given result set metadata (ColumnDefinitions).
+ * <br/>
+ * The plan is computed once per ColumnDefinitions instance so that decoding
+ * each row does not require any column name lookup to find out which
+ * properties should be decoded
+ */
+public class RowDecodingPlan<T> {
+
+    static final int ABSENT = -1;
+
+    final ColumnDefinitions columnDefinitions;
+    final List<String> cqlColumns;
+
+    /**
+     * Column index of each property of <em>allColumnsWithComputed</em> (same order),
+     * or ABSENT if the column is not in the result set
+     */
+    final int[] columnIndexes;
+
+    /**
+     * Properties not injected by the custom constructor (if any) and their column index
+     */
+    final AbstractProperty<T, ?, ?>[] properties;
+    final int[] indexes;
+
+    @SuppressWarnings("unchecked")
+    RowDecodingPlan(ColumnDefinitions columnDefinitions, List<AbstractProperty<T, ?, ?>> allColumnsWithComputed,
+                    List<AbstractProperty<T, ?, ?>> constructorInjectedColumns) {
+        this.columnDefinitions = columnDefinitions;
+
+        final List<ColumnDefinitions.Definition> definitions = columnDefinitions.asList();
+        final List<String> columns = new ArrayList<>(definitions.size());
+        final Map<String, Integer> indexByColumn = new HashMap<>(definitions.size() * 2);
+        for (int i = 0; i < definitions.size(); i++) {
+            final String name = definitions.get(i).getName();
+            columns.add(name);
+            indexByColumn.putIfAbsent(name, i);
+        }
+        this.cqlColumns = Collections.unmodifiableList(columns);
+
+        this.columnIndexes = new int[allColumnsWithComputed.size()];
+        final List<AbstractProperty<T, ?, ?>> selectedProperties = new ArrayList<>(allColumnsWithComputed.size());
+        final List<Integer> selectedIndexes = new ArrayList<>(allColumnsWithComputed.size());
+        for (int i = 0; i < allColumnsWithComputed.size(); i++) {
+            final AbstractProperty<T, ?, ?> property = allColumnsWithComputed.get(i);
+            final Integer index = indexByColumn.get(property.getColumnForSelect());
+            columnIndexes[i] = index == null ? ABSENT : index;
+            if (!constructorInjectedColumns.isEmpty() && !constructorInjectedColumns.contains(property)) {
+                // Decode all properties not injected by the custom constructor
+                selectedProperties.add(property);
+                selectedIndexes.add(columnIndexes[i]);
+            }
+        }
+
+        this.properties = selectedProperties.toArray(new AbstractProperty[selectedProperties.size()]);
+        this.indexes = new int[selectedIndexes.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = selectedIndexes.get(i);
+        }
+    }
+
+    /**
+     * Decode the properties not injected by the custom constructor from the given row into the entity instance
+     */
+    void decodeInto(Row row, T instance) {
+        for (int i = 0; i < properties.length; i++) {
+            final int index = indexes[i];
+            if (index == ABSENT) {
+                properties[i].decodeField(row, instance);
+            } else {
+                properties[i].decodeField(row, index, instance);
+            }
+        }
+    }
+
+    boolean isPlanFor(ColumnDefinitions columnDefinitions) {
+        return this.columnDefinitions == columnDefinitions;
+    }
+}
@@ -120,7 +120,7 @@ public class UDTProperty<ENTITY, UDT_META extends AbstractUDTClassProperty<A>, A
             LOGGER.debug(format("Build current '%s' UDT data type", fieldName));
         }
 
-        return udtClassProperty.buildType(fieldInfo.columnInfo.frozen, cassandraOptions);
+        return udtClassProperty.getUserType(fieldInfo.columnInfo.frozen, cassandraOptions);
     }
 
     @Override
@@ -31,8 +31,8 @@ import com.datastax.driver.core.policies.RetryPolicy;
 
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
-import info.archinnov.achilles.internals.statements.OperationType;
 import info.archinnov.achilles.internals.types.LimitedResultSetWrapper;
+import info.archinnov.achilles.type.OperationType;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.validation.Validator;
 
@@ -47,6 +47,7 @@ public class CassandraOptions {
     private Optional<Long> defaultTimestamp = Optional.empty();
     private Optional<Integer> timeToLive = Optional.empty();
     private Optional<Integer> fetchSize = Optional.empty();
+    private Optional<Integer> prefetchThreshold = Optional.empty();
     private Optional<Boolean> idempotent = Optional.empty();
     private Optional<Map<String, ByteBuffer>> outgoingPayLoad = Optional.empty();
     private Optional<PagingState> pagingState = Optional.empty();
@@ -138,6 +139,14 @@ public class CassandraOptions {
         this.defaultTimestamp = defaultTimestamp;
     }
 
+    public Optional<Integer> getPrefetchThreshold() {
+        return prefetchThreshold;
+    }
+
+    public void setPrefetchThreshold(Optional<Integer> prefetchThreshold) {
+        this.prefetchThreshold = prefetchThreshold;
+    }
+
     public boolean hasFetchSize() {
         return fetchSize.isPresent();
     }
@@ -220,6 +229,10 @@ public class CassandraOptions {
         return row;
     }
 
+    public boolean hasAsyncListeners() {
+        return resultSetAsyncListeners.isPresent() || rowAsyncListeners.isPresent();
+    }
+
     public Optional<List<Function<ResultSet, ResultSet>>> getResultSetAsyncListeners() {
         return resultSetAsyncListeners;
     }
@@ -311,6 +324,7 @@ public class CassandraOptions {
         sb.append(", defaultTimestamp=").append(defaultTimestamp);
         sb.append(", timeToLive=").append(timeToLive);
         sb.append(", fetchSize=").append(fetchSize);
+        sb.append(", prefetchThreshold=").append(prefetchThreshold);
         sb.append(", idempotent=").append(idempotent);
         sb.append(", outgoingPayLoad=").append(outgoingPayLoad);
         sb.append(", pagingState=").append(pagingState);
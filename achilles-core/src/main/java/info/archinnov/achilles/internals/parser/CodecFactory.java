@@ -173,7 +173,7 @@ public class CodecFactory {
                 }
                 context.typeValidator().validateAllowedTypes(aptUtils, sourceType, sourceType);
                 codec = CodeBlock.builder().add("new $T<>($T.class)", FALL_THROUGH_CODEC, getRawType(sourceType).box()).build();
-                return new CodecInfo(codec, sourceType, targetType);
+                return new CodecInfo(codec, sourceType, targetType, true);
             }
         }
     }
@@ -330,11 +330,17 @@ public class CodecFactory {
         final protected CodeBlock codecCode;
         final protected TypeName sourceType;
         final protected TypeName targetType;
+        final protected boolean fallThrough;
 
         public CodecInfo(CodeBlock codecCode, TypeName sourceType, TypeName targetType) {
+            this(codecCode, sourceType, targetType, false);
+        }
+
+        CodecInfo(CodeBlock codecCode, TypeName sourceType, TypeName targetType, boolean fallThrough) {
             this.codecCode = codecCode;
             this.sourceType = sourceType;
             this.targetType = targetType;
+            this.fallThrough = fallThrough;
         }
     }
 
@@ -203,7 +203,8 @@ public class FieldParser {
         final ParameterizedTypeName propertyType = genericType(SIMPLE_PROPERTY, context.entityRawType, codecInfo.sourceType.box(), codecInfo.targetType.box());
 
         return new FieldMetaSignature(context, annotationTree.hasNext() ? annotationTree.next() : annotationTree,
-                sourceType, codecInfo.targetType, propertyType, typeCode, IndexMetaSignature.simpleType(sourceType));
+                sourceType, codecInfo.targetType, propertyType, typeCode, IndexMetaSignature.simpleType(sourceType),
+                codecInfo.fallThrough);
     }
 
     protected FieldMetaSignature parseOptional(AnnotationTree annotationTree, FieldParsingContext context) {
@@ -602,6 +603,10 @@ public class FieldParser {
         public final TypeName propertyType;
         public final Optional<UDTMetaSignature> udtMetaSignature;
         public final IndexMetaSignature indexMetaSignature;
+        /**
+         * Whether the value is stored as is, without any codec conversion
+         */
+        public final boolean hasFallThroughCodec;
 
         public boolean isUDT() {
             return udtMetaSignature.isPresent();
@@ -634,6 +639,7 @@ public class FieldParser {
             this.typeCode = typeCode;
             this.indexMetaSignature = indexMetaSignature;
             this.udtMetaSignature = udtMetaSignature;
+            this.hasFallThroughCodec = false;
         }
 
         public FieldMetaSignature(FieldParsingContext context, AnnotationTree annotationTree, TypeName sourceType, TypeName targetType,
@@ -646,6 +652,21 @@ public class FieldParser {
             this.typeCode = typeCode;
             this.indexMetaSignature = indexMetaSignature;
             this.udtMetaSignature = Optional.empty();
+            this.hasFallThroughCodec = false;
+        }
+
+        public FieldMetaSignature(FieldParsingContext context, AnnotationTree annotationTree, TypeName sourceType, TypeName targetType,
+                                  TypeName propertyType, CodeBlock typeCode, IndexMetaSignature indexMetaSignature,
+                                  boolean hasFallThroughCodec) {
+            this.context = context;
+            this.annotationTree = annotationTree;
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.propertyType = propertyType;
+            this.typeCode = typeCode;
+            this.indexMetaSignature = indexMetaSignature;
+            this.udtMetaSignature = Optional.empty();
+            this.hasFallThroughCodec = hasFallThroughCodec;
         }
 
         public String relationClassnameForUpdate() {
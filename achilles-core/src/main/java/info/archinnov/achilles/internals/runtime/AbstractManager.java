@@ -16,8 +16,6 @@
 
 package info.archinnov.achilles.internals.runtime;
 
-import static info.archinnov.achilles.internals.runtime.BeanInternalValidator.validateColumnsForInsertOrUpdateStatic;
-import static info.archinnov.achilles.internals.runtime.BeanInternalValidator.validatePrimaryKey;
 import static info.archinnov.achilles.internals.statement.StatementHelper.isSelectStatement;
 import static info.archinnov.achilles.validation.Validator.*;
 import static java.lang.String.format;
@@ -29,10 +27,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
+import com.google.common.cache.CacheStats;
 
+import info.archinnov.achilles.internals.cache.EntityCache;
+import info.archinnov.achilles.internals.dsl.crud.BulkWriter;
 import info.archinnov.achilles.internals.dsl.crud.DeleteWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertJSONWithOptions;
 import info.archinnov.achilles.internals.dsl.crud.InsertWithOptions;
+import info.archinnov.achilles.internals.dsl.crud.TableScan;
 import info.archinnov.achilles.internals.dsl.crud.UpdateWithOptions;
 import info.archinnov.achilles.internals.dsl.raw.NativeQuery;
 import info.archinnov.achilles.internals.dsl.raw.TypedQuery;
@@ -94,6 +96,24 @@ public abstract class AbstractManager<ENTITY> {
         return rte.getCluster();
     }
 
+    /**
+     * Return the hit, miss and eviction statistics of the entity cache, if it is enabled
+     * for this entity with <em>withEntityCacheMap()</em>
+     *
+     * @return Optional of {@link com.google.common.cache.CacheStats}
+     */
+    public Optional<CacheStats> getEntityCacheStats() {
+        return meta_internal.getEntityCache().map(EntityCache::stats);
+    }
+
+    /**
+     * Discard all the rows of the entity cache, if it is enabled for this entity.
+     * Use it after writes done outside of <em>crud()</em>
+     */
+    public void invalidateEntityCache() {
+        meta_internal.getEntityCache().ifPresent(EntityCache::invalidateAll);
+    }
+
     protected InsertWithOptions<ENTITY> insertInternal(ENTITY instance, boolean insertStatic, Optional<CassandraOptions> cassandraOptions) {
 
         validateNotNull(instance, "Entity to be inserted should not be null");
@@ -102,12 +122,6 @@ public abstract class AbstractManager<ENTITY> {
             LOGGER.trace(format("Create insert CRUD for entity %s", instance));
         }
 
-        if (insertStatic) {
-            validateColumnsForInsertOrUpdateStatic(instance, meta_internal, cassandraOptions);
-        } else {
-            validatePrimaryKey(instance, meta_internal, cassandraOptions);
-        }
-
         return new InsertWithOptions<>(meta_internal, rte, instance, insertStatic, cassandraOptions);
     }
 
@@ -119,13 +133,25 @@ public abstract class AbstractManager<ENTITY> {
             LOGGER.trace(format("Create update CRUD for entity %s", instance));
         }
 
-        if (updateStatic) {
-            validateColumnsForInsertOrUpdateStatic(instance, meta_internal, cassandraOptions);
-        } else {
-            validatePrimaryKey(instance, meta_internal, cassandraOptions);
+        return new UpdateWithOptions<>(meta_internal, rte, instance, updateStatic, cassandraOptions);
+    }
+
+    protected BulkWriter<ENTITY> bulkWriterInternal(Optional<CassandraOptions> cassandraOptions) {
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create bulk writer for entity class %s", entityClass.getCanonicalName()));
         }
 
-        return new UpdateWithOptions<>(meta_internal, rte, instance, updateStatic, cassandraOptions);
+        return new BulkWriter<>(meta_internal, rte, cassandraOptions);
+    }
+
+    protected TableScan<ENTITY> scanInternal(Optional<CassandraOptions> cassandraOptions) {
+
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("Create table scan for entity class %s", entityClass.getCanonicalName()));
+        }
+
+        return new TableScan<>(meta_internal, rte, cassandraOptions);
     }
 
     protected InsertJSONWithOptions insertJSONInternal(String json, Optional<CassandraOptions> cassandraOptions) {
@@ -146,7 +172,6 @@ public abstract class AbstractManager<ENTITY> {
             LOGGER.trace(format("Create delete CRUD for entity %s", instance));
         }
 
-        validatePrimaryKey(instance, meta_internal, cassandraOptions);
         final Tuple2<Object[], Object[]> tuple = BeanValueExtractor.extractPrimaryKeyValues(instance, meta_internal, cassandraOptions);
         return new DeleteWithOptions<>(entityClass, meta_internal, rte, tuple._1(), tuple._2(), Optional.of(instance), cassandraOptions);
     }
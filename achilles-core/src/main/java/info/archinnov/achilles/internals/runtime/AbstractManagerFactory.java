@@ -20,6 +20,8 @@ import static info.archinnov.achilles.internals.schema.SchemaCreator.generateSch
 import static info.archinnov.achilles.internals.schema.SchemaCreator.generateUDTAtRuntime;
 import static java.lang.String.format;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -39,6 +41,8 @@ import com.datastax.driver.extras.codecs.jdk8.LocalDateCodec;
 import com.datastax.driver.extras.codecs.jdk8.LocalTimeCodec;
 import com.datastax.driver.extras.codecs.jdk8.ZonedDateTimeCodec;
 
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterGauges;
+import info.archinnov.achilles.internals.cache.CacheKey;
 import info.archinnov.achilles.internals.cassandra_version.InternalCassandraVersion;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
@@ -47,6 +51,8 @@ import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractViewProperty;
 import info.archinnov.achilles.internals.metamodel.functions.FunctionProperty;
+import info.archinnov.achilles.internals.schema.ParallelSchemaBootstrapper;
+import info.archinnov.achilles.internals.statements.AsyncStatementsPreparer;
 import info.archinnov.achilles.internals.utils.CodecRegistryHelper;
 
 public abstract class AbstractManagerFactory {
@@ -92,6 +98,16 @@ public abstract class AbstractManagerFactory {
         return tableName;
     }
 
+    /**
+     * Current limit, in-flight count, queue size and rejected count of each concurrency limiter,
+     * indexed by keyspace or entity class name. Empty if no concurrency limiter is configured
+     *
+     * @return concurrency limiter gauges
+     */
+    public Map<String, ConcurrencyLimiterGauges> getConcurrencyLimiterGauges() {
+        return rte.concurrencyLimiters();
+    }
+
     /**
      * Shutdown the manager factory and the related session and executor service (if they are created by Achilles).
      * If the Java driver Session object and/or the executor service were provided as bootstrap parameter, Achilles
@@ -181,10 +197,18 @@ public abstract class AbstractManagerFactory {
 
     protected void validateSchema() {
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
-        entityProperties
+        final List<AbstractEntityProperty<?>> managedEntityProperties = entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.validateSchema(configContext));
+                .collect(Collectors.toList());
+
+        if (configContext.getSchemaBootstrapParallelism() > 1) {
+            new ParallelSchemaBootstrapper(configContext.getSession(), configContext.getExecutorService(),
+                    configContext.getSchemaBootstrapParallelism())
+                    .validateSchema(managedEntityProperties, configContext);
+        } else {
+            managedEntityProperties.forEach(x -> x.validateSchema(configContext));
+        }
 
         functionProperties
                 .stream()
@@ -195,6 +219,7 @@ public abstract class AbstractManagerFactory {
     protected void createSchema() {
         final Session session = configContext.getSession();
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
+        final List<AbstractUDTClassProperty<?>> udtClassProperties = new ArrayList<>();
         for (AbstractUDTClassProperty<?> x : getUdtClassProperties()) {
             final long udtCountForClass = entityProperties
                     .stream()
@@ -205,7 +230,7 @@ public abstract class AbstractManagerFactory {
                     .count();
 
             if(udtCountForClass>0)
-                generateUDTAtRuntime(session, x);
+                udtClassProperties.add(x);
         }
 
 
@@ -228,20 +253,38 @@ public abstract class AbstractManagerFactory {
                     .forEach(x -> x.setBaseClassProperty(entityPropertiesMap.get(x.getBaseEntityClass())));
         }
 
-        entityProperties
+        final List<AbstractEntityProperty<?>> managedEntityProperties = entityProperties
                 .stream()
                 .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> generateSchemaAtRuntime(session, x));
-
-
+                .collect(Collectors.toList());
+
+        if (configContext.getSchemaBootstrapParallelism() > 1) {
+            new ParallelSchemaBootstrapper(session, configContext.getExecutorService(), configContext.getSchemaBootstrapParallelism())
+                    .createSchema(udtClassProperties, managedEntityProperties);
+        } else {
+            udtClassProperties.forEach(x -> generateUDTAtRuntime(session, x));
+            managedEntityProperties.forEach(x -> generateSchemaAtRuntime(session, x));
+        }
     }
 
     protected void prepareStaticStatements() {
         final List<Class<?>> manageEntities = configContext.getManageEntities().isEmpty() ? entityClasses : configContext.getManageEntities();
-        entityProperties
-                .stream()
-                .filter(x -> manageEntities.contains(x.entityClass))
-                .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache));
+        if (configContext.isPrepareStaticStatementsAsync()) {
+            final Map<Class<?>, Map<CacheKey, RegularStatement>> statementsByEntity = new LinkedHashMap<>();
+            entityProperties
+                    .stream()
+                    .filter(x -> manageEntities.contains(x.entityClass))
+                    .forEach(x -> statementsByEntity.put(x.entityClass, x.generateStaticStatements(getCassandraVersion())));
+
+            new AsyncStatementsPreparer(configContext.getSession(), rte.cache, configContext.getExecutorService(),
+                    configContext.getPrepareStaticStatementsMaxInFlight())
+                    .prepareAll(statementsByEntity);
+        } else {
+            entityProperties
+                    .stream()
+                    .filter(x -> manageEntities.contains(x.entityClass))
+                    .forEach(x -> x.prepareStaticStatements(getCassandraVersion(), configContext.getSession(), rte.cache));
+        }
     }
 
 
@@ -18,78 +18,82 @@ package info.archinnov.achilles.internals.runtime;
 
 import static java.lang.String.format;
 
-import java.util.Optional;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
-import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.validation.Validator;
 
-
+/**
+ * Validate entity values before writing them.
+ * <br/>
+ * Checks are done on the encoded values extracted by {@link BeanValueExtractor}, so that
+ * each field is encoded only once per write and values encoding to null (empty <em>Optional</em>,
+ * codecs returning null) are rejected
+ */
 public class BeanInternalValidator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BeanInternalValidator.class);
 
-    public static <T> void validatePrimaryKey(T instance, AbstractEntityProperty<T> entityProperty, Optional<CassandraOptions> cassandraOptions) {
+    /**
+     * Values must be in the bind marker order of <em>allColumnsToBind</em>:
+     * partition keys, static columns then clustering columns
+     */
+    public static void validatePrimaryKey(AbstractEntityProperty<?> entityProperty, BoundValuesWrapper wrapper) {
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Validate primary key for instance %s of type %s",
-                    instance, entityProperty.entityClass.getCanonicalName()));
+            LOGGER.debug(format("Validate primary key for values %s of type %s",
+                    wrapper, entityProperty.entityClass.getCanonicalName()));
         }
 
-        entityProperty
-                .partitionKeys
-                .stream()
-                .map(x -> Tuple2.of(x.fieldName, x.encodeField(instance, cassandraOptions)))
-                .filter(x -> x._2() == null)
-                .forEach(tuple ->
-                                Validator.validateNotNull(tuple._2(),
-                                        "Field '%s' in entity of type '%s' should not be null because it is a partition key",
-                                        tuple._1(), entityProperty.entityClass.getCanonicalName())
-                );
-
-
-        entityProperty
-                .clusteringColumns
-                .stream()
-                .map(x -> Tuple2.of(x.fieldName, x.encodeField(instance, cassandraOptions)))
-                .filter(x -> x._2() == null)
-                .forEach(tuple ->
-                        Validator.validateNotNull(tuple._2(),
-                                "Field '%s' in entity of type '%s' should not be null because it is a clustering column",
-                                tuple._1(), entityProperty.entityClass.getCanonicalName())
-                );
+        final int partitionKeysCount = entityProperty.partitionKeys.size();
+        for (int i = 0; i < partitionKeysCount; i++) {
+            validatePartitionKeyNotNull(entityProperty, wrapper.properties[i], wrapper.encodedValues[i]);
+        }
 
+        final int clusteringColumnsStart = partitionKeysCount + entityProperty.staticColumns.size();
+        final int clusteringColumnsEnd = clusteringColumnsStart + entityProperty.clusteringColumns.size();
+        for (int i = clusteringColumnsStart; i < clusteringColumnsEnd; i++) {
+            validateClusteringColumnNotNull(entityProperty, wrapper.properties[i], wrapper.encodedValues[i]);
+        }
     }
 
-    public static <T> void validateColumnsForInsertOrUpdateStatic(T instance, AbstractEntityProperty<T> entityProperty, Optional<CassandraOptions> cassandraOptions) {
+    /**
+     * Values must be in the bind marker order of <em>partitionKeysAndStaticColumnsToBind</em>:
+     * partition keys then static columns
+     */
+    public static void validateColumnsForInsertOrUpdateStatic(AbstractEntityProperty<?> entityProperty, BoundValuesWrapper wrapper) {
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Validate partition columns and other columns for INSERT STATIC of instance %s of type %s",
-                    instance, entityProperty.entityClass.getCanonicalName()));
+            LOGGER.debug(format("Validate partition columns and other columns for INSERT STATIC of values %s of type %s",
+                    wrapper, entityProperty.entityClass.getCanonicalName()));
         }
 
-        entityProperty
-                .partitionKeys
-                .stream()
-                .map(x -> Tuple2.of(x.fieldName, x.encodeField(instance, cassandraOptions)))
-                .filter(x -> x._2() == null)
-                .forEach(tuple ->
-                        Validator.validateNotNull(tuple._2(),
-                                "Field '%s' in entity of type '%s' should not be null because it is a partition key",
-                                tuple._1(), entityProperty.entityClass.getCanonicalName())
-                );
+        final int partitionKeysCount = entityProperty.partitionKeys.size();
+        for (int i = 0; i < partitionKeysCount; i++) {
+            validatePartitionKeyNotNull(entityProperty, wrapper.properties[i], wrapper.encodedValues[i]);
+        }
 
-        final long nonNullStaticColumnsCount = entityProperty
-                .staticColumns
-                .stream()
-                .map(x -> x.encodeField(instance, cassandraOptions))
-                .filter(x -> x != null)
-                .count();
+        boolean hasNonNullStaticColumn = false;
+        final int staticColumnsEnd = partitionKeysCount + entityProperty.staticColumns.size();
+        for (int i = partitionKeysCount; i < staticColumnsEnd && !hasNonNullStaticColumn; i++) {
+            hasNonNullStaticColumn = wrapper.encodedValues[i] != null;
+        }
 
-        Validator.validateTrue(nonNullStaticColumnsCount > 0,
+        Validator.validateTrue(hasNonNullStaticColumn,
                 "There should be at least one non null static column in entity of type '%s' when calling insertStatic()",
                 entityProperty.entityClass.getCanonicalName());
     }
+
+    static void validatePartitionKeyNotNull(AbstractEntityProperty<?> entityProperty, AbstractProperty<?, ?, ?> partitionKey, Object value) {
+        Validator.validateNotNull(value,
+                "Field '%s' in entity of type '%s' should not be null because it is a partition key",
+                partitionKey.fieldName, entityProperty.entityClass.getCanonicalName());
+    }
+
+    static void validateClusteringColumnNotNull(AbstractEntityProperty<?> entityProperty, AbstractProperty<?, ?, ?> clusteringColumn, Object value) {
+        Validator.validateNotNull(value,
+                "Field '%s' in entity of type '%s' should not be null because it is a clustering column",
+                clusteringColumn.fieldName, entityProperty.entityClass.getCanonicalName());
+    }
 }
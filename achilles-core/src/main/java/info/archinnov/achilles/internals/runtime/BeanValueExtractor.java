@@ -17,162 +17,121 @@
 package info.archinnov.achilles.internals.runtime;
 
 import static java.lang.String.format;
-import static java.util.stream.Collectors.toList;
-import static org.apache.commons.lang3.ArrayUtils.addAll;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.function.BiConsumer;
-import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.datastax.driver.core.SettableData;
-
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.metamodel.AbstractProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
-import info.archinnov.achilles.internals.statements.BoundValueInfo;
 import info.archinnov.achilles.internals.statements.BoundValuesWrapper;
 import info.archinnov.achilles.internals.types.OverridingOptional;
 import info.archinnov.achilles.type.tuples.Tuple2;
 
+/**
+ * Extract raw and encoded values from an entity instance.
+ * <br/>
+ * Properties to extract are pre-computed as arrays in the entity meta so that each
+ * field getter is called only once and values are written directly into pre-sized arrays
+ */
 public class BeanValueExtractor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BeanValueExtractor.class);
 
+    /**
+     * Extract and encode all the values, validating that no primary key value is null
+     */
     public static <T> BoundValuesWrapper extractAllValues(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions cassandraOptions) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Extract values from entity %s of type %s",
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.clusteringColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.normalColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        boundValues.addAll(entityProperty.counterColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
-
-        final Optional<Integer> ttl = OverridingOptional
-                .from(cassandraOptions.getTimeToLive())
-                .andThen(entityProperty.staticTTL)
-                .getOptional();
-
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
-
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
-        }
-        return new BoundValuesWrapper(entityProperty, boundValues);
+        final BoundValuesWrapper wrapper = extractValuesWithTTL(instance, entityProperty, entityProperty.allColumnsToBind, cassandraOptions);
+        BeanInternalValidator.validatePrimaryKey(entityProperty, wrapper);
+        return wrapper;
     }
 
+    /**
+     * Extract and encode the primary key values, validating that none of them is null
+     */
     public static <T> Tuple2<Object[], Object[]> extractPrimaryKeyValues(T instance, AbstractEntityProperty<T> entityProperty, Optional<CassandraOptions> cassandraOptions) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Extract primary key values from entity %s of type %s",
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final Stream<Tuple2<Object, Object>> partitionKeys = entityProperty.partitionKeys
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-        final Stream<Tuple2<Object, Object>> partitionKeysCopy = entityProperty.partitionKeys
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-
-        final Stream<Tuple2<Object, Object>> clusteringColumns = entityProperty.clusteringColumns
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-        final Stream<Tuple2<Object, Object>> clusteringColumnsCopy = entityProperty.clusteringColumns
-                .stream().map(x -> Tuple2.of(x.getFieldValue(instance), x.encodeField(instance, cassandraOptions)));
-
-        final Object[] boundValues = addAll(partitionKeys.map(x -> x._1()).toArray(), clusteringColumns.map(x -> x._1()).toArray());
-        final Object[] encodedValues = addAll(partitionKeysCopy.map(x -> x._2()).toArray(), clusteringColumnsCopy.map(x -> x._2()).toArray());
+        final AbstractProperty<T, ?, ?>[] properties = entityProperty.primaryKeysToBind;
+        final Object[] boundValues = new Object[properties.length];
+        final Object[] encodedValues = new Object[properties.length];
+        extractValues(instance, properties, cassandraOptions, boundValues, encodedValues);
+
+        // Validate the encoded values in place rather than encoding the primary key again
+        final int partitionKeysCount = entityProperty.partitionKeys.size();
+        for (int i = 0; i < properties.length; i++) {
+            if (i < partitionKeysCount) {
+                BeanInternalValidator.validatePartitionKeyNotNull(entityProperty, properties[i], encodedValues[i]);
+            } else {
+                BeanInternalValidator.validateClusteringColumnNotNull(entityProperty, properties[i], encodedValues[i]);
+            }
+        }
 
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted primary key (encoded) : %s", encodedValues));
+            LOGGER.debug(format("Extracted primary key (encoded) : %s", Arrays.toString(encodedValues)));
         }
 
         return Tuple2.of(boundValues, encodedValues);
     }
 
+    /**
+     * Extract and encode the partition key and static values, validating that no partition key value
+     * is null and that at least one static value is not null
+     */
     public static <T> BoundValuesWrapper extractPartitionKeysAndStaticValues(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions cassandraOptions) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Extract partition key values and static columns from entity %s of type %s",
                     instance, entityProperty.entityClass.getCanonicalName()));
         }
 
-        final List<BoundValueInfo> boundValues = new ArrayList<>();
-        final List<BoundValueInfo> partitionKeys = entityProperty.partitionKeys
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    final BiConsumer<Object, SettableData> lambda = x1::encodeToSettable;
-                    return BoundValueInfo.of(lambda, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList());
-
-        boundValues.addAll(partitionKeys);
-
-        boundValues.addAll(entityProperty.staticColumns
-                .stream()
-                .map(x -> {
-                    final AbstractProperty x1 = (AbstractProperty) x;
-                    return BoundValueInfo.of(x1::encodeToSettable, x.getFieldValue(instance), x.encodeField(instance, Optional.ofNullable(cassandraOptions)));
-                })
-                .collect(toList()));
+        final BoundValuesWrapper wrapper = extractValuesWithTTL(instance, entityProperty, entityProperty.partitionKeysAndStaticColumnsToBind, cassandraOptions);
+        BeanInternalValidator.validateColumnsForInsertOrUpdateStatic(entityProperty, wrapper);
+        return wrapper;
+    }
+
+    private static <T> BoundValuesWrapper extractValuesWithTTL(T instance, AbstractEntityProperty<T> entityProperty,
+                                                               AbstractProperty<T, ?, ?>[] properties, CassandraOptions cassandraOptions) {
+        // Last slot is reserved for the TTL bind marker
+        final Object[] boundValues = new Object[properties.length + 1];
+        final Object[] encodedValues = new Object[properties.length + 1];
+        extractValues(instance, properties, Optional.ofNullable(cassandraOptions), boundValues, encodedValues);
 
         final Optional<Integer> ttl = OverridingOptional
                 .from(cassandraOptions.getTimeToLive())
                 .andThen(entityProperty.staticTTL)
                 .getOptional();
 
-        boundValues.add(ttl.isPresent()
-                ? BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", ttl.get()), ttl.get(), ttl.get())
-                : BoundValueInfo.of((Object value, SettableData settableData) -> settableData.setInt("ttl", 0), 0, 0));
+        final Integer ttlValue = ttl.orElse(0);
+        boundValues[properties.length] = ttlValue;
+        encodedValues[properties.length] = ttlValue;
 
+        final BoundValuesWrapper wrapper = new BoundValuesWrapper(entityProperty, properties, boundValues, encodedValues);
         if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Extracted encoded bound values : %s", boundValues));
+            LOGGER.debug(format("Extracted encoded bound values : %s", wrapper));
         }
-        return new BoundValuesWrapper(entityProperty, boundValues);
+        return wrapper;
+    }
 
+    @SuppressWarnings("unchecked")
+    private static <T> void extractValues(T instance, AbstractProperty<T, ?, ?>[] properties, Optional<CassandraOptions> cassandraOptions,
+                                          Object[] boundValues, Object[] encodedValues) {
+        for (int i = 0; i < properties.length; i++) {
+            final AbstractProperty<T, Object, ?> property = (AbstractProperty<T, Object, ?>) properties[i];
+            final Object javaValue = property.getFieldValue(instance);
+            boundValues[i] = javaValue;
+            encodedValues[i] = property.encodeFromJava(javaValue, cassandraOptions);
+        }
     }
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static java.lang.String.format;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig;
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterGauges;
+import info.archinnov.achilles.exception.AchillesConcurrencyLimitException;
+
+/**
+ * Adaptive limit of the statements in flight for one keyspace or one entity.
+ * <br/>
+ * The limit is re-computed on each response with the algorithm of the <em>ConcurrencyLimiterConfig</em>.
+ * Timeouts and overloaded errors, also when wrapped in a <em>NoHostAvailableException</em>, count as dropped
+ * requests and always decrease the limit.
+ * <br/>
+ * Queued statements are started by a single draining loop rather than from the completion callbacks
+ * themselves, so statements completing synchronously (closed session, immediate failures) cannot
+ * recurse once per queued statement
+ */
+public class ConcurrencyLimiter implements ConcurrencyLimiterGauges {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrencyLimiter.class);
+
+    private static final double GRADIENT_TOLERANCE = 1.5;
+    private static final double LONG_RTT_WEIGHT = 0.05;
+
+    private final String name;
+    private final ConcurrencyLimiterConfig config;
+    private final Ticker ticker;
+    private final ArrayDeque<PendingStatement> pendingStatements = new ArrayDeque<>();
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+
+    private int inFlight = 0;
+    private boolean draining = false;
+    private double limit;
+    private double longRttNanos = 0;
+
+    public ConcurrencyLimiter(String name, ConcurrencyLimiterConfig config) {
+        this(name, config, Ticker.systemTicker());
+    }
+
+    ConcurrencyLimiter(String name, ConcurrencyLimiterConfig config, Ticker ticker) {
+        this.name = name;
+        this.config = config;
+        this.ticker = ticker;
+        this.limit = config.getInitialLimit();
+    }
+
+    /**
+     * Execute the statement now if the limit allows it, otherwise queue it
+     * or fail with <em>AchillesConcurrencyLimitException</em>
+     */
+    public ListenableFuture<ResultSet> submit(Supplier<ListenableFuture<ResultSet>> statementExecution) {
+        final SettableFuture<ResultSet> queuedResult;
+        synchronized (this) {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                queuedResult = null;
+            } else if (pendingStatements.size() < config.getMaxQueueSize()) {
+                queuedResult = SettableFuture.create();
+                pendingStatements.addLast(new PendingStatement(statementExecution, queuedResult));
+            } else {
+                rejectedCount.incrementAndGet();
+                final String message = format("Concurrency limit %s reached for '%s' with %s statements queued",
+                        (int) limit, name, pendingStatements.size());
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(message);
+                }
+                return Futures.immediateFailedFuture(new AchillesConcurrencyLimitException(message));
+            }
+        }
+
+        if (queuedResult != null) {
+            return queuedResult;
+        }
+        return start(statementExecution);
+    }
+
+    private ListenableFuture<ResultSet> start(Supplier<ListenableFuture<ResultSet>> statementExecution) {
+        final long startNanos = ticker.read();
+        final ListenableFuture<ResultSet> futureRS;
+        try {
+            futureRS = statementExecution.get();
+        } catch (RuntimeException ex) {
+            release(ticker.read() - startNanos, false);
+            return Futures.immediateFailedFuture(ex);
+        }
+
+        Futures.addCallback(futureRS, new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet result) {
+                release(ticker.read() - startNanos, false);
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                release(ticker.read() - startNanos, isDropped(throwable));
+            }
+        }, MoreExecutors.directExecutor());
+        return futureRS;
+    }
+
+    private void release(long rttNanos, boolean dropped) {
+        synchronized (this) {
+            updateLimit(rttNanos, dropped);
+            inFlight--;
+            if (draining) {
+                // The thread already draining the queue will see the freed slot
+                return;
+            }
+            draining = true;
+        }
+        drainQueue();
+    }
+
+    private void drainQueue() {
+        while (true) {
+            final PendingStatement pending;
+            synchronized (this) {
+                // Statements whose future was cancelled while queued are dropped without being sent
+                while (!pendingStatements.isEmpty() && pendingStatements.peekFirst().result.isCancelled()) {
+                    pendingStatements.pollFirst();
+                }
+                if (inFlight >= (int) limit || pendingStatements.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                inFlight++;
+                pending = pendingStatements.pollFirst();
+            }
+
+            Futures.addCallback(start(pending.statementExecution), new FutureCallback<ResultSet>() {
+                @Override
+                public void onSuccess(ResultSet result) {
+                    pending.result.set(result);
+                }
+
+                @Override
+                public void onFailure(Throwable throwable) {
+                    pending.result.setException(throwable);
+                }
+            }, MoreExecutors.directExecutor());
+        }
+    }
+
+    private void updateLimit(long rttNanos, boolean dropped) {
+        final double previousLimit = limit;
+        switch (config.getAlgorithm()) {
+            case AIMD:
+                if (dropped || rttNanos > config.getLatencyThresholdNanos()) {
+                    limit = limit * config.getBackoffRatio();
+                } else if (inFlight * 2 >= limit) {
+                    limit = limit + 1;
+                }
+                break;
+            case GRADIENT:
+                final double shortRtt = Math.max(1, rttNanos);
+                if (longRttNanos == 0) {
+                    longRttNanos = shortRtt;
+                } else {
+                    longRttNanos = longRttNanos * (1 - LONG_RTT_WEIGHT) + shortRtt * LONG_RTT_WEIGHT;
+                }
+
+                // Let the baseline recover after a long period of high latencies
+                if (longRttNanos / shortRtt > 2) {
+                    longRttNanos = longRttNanos * 0.95;
+                }
+
+                if (dropped) {
+                    limit = limit * 0.5;
+                } else if (inFlight * 2 >= limit) {
+                    final double gradient = Math.max(0.5, Math.min(1.0, GRADIENT_TOLERANCE * longRttNanos / shortRtt));
+                    final double newLimit = limit * gradient + Math.sqrt(limit);
+                    limit = limit * (1 - config.getSmoothing()) + newLimit * config.getSmoothing();
+                }
+                break;
+        }
+        limit = Math.max(config.getMinLimit(), Math.min(config.getMaxLimit(), limit));
+
+        if (LOGGER.isTraceEnabled() && (int) previousLimit != (int) limit) {
+            LOGGER.trace(format("Concurrency limit for '%s' changed from %s to %s (rtt = %s ns, dropped = %s)",
+                    name, (int) previousLimit, (int) limit, rttNanos, dropped));
+        }
+    }
+
+    private static boolean isDropped(Throwable throwable) {
+        if (throwable instanceof NoHostAvailableException) {
+            return ((NoHostAvailableException) throwable)
+                    .getErrors()
+                    .values()
+                    .stream()
+                    .anyMatch(ConcurrencyLimiter::isDropped);
+        }
+        return throwable instanceof OperationTimedOutException
+                || throwable instanceof ReadTimeoutException
+                || throwable instanceof WriteTimeoutException
+                || throwable instanceof OverloadedException;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    @Override
+    public synchronized int getQueueSize() {
+        return pendingStatements.size();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private static final class PendingStatement {
+        private final Supplier<ListenableFuture<ResultSet>> statementExecution;
+        private final SettableFuture<ResultSet> result;
+
+        private PendingStatement(Supplier<ListenableFuture<ResultSet>> statementExecution, SettableFuture<ResultSet> result) {
+            this.statementExecution = statementExecution;
+            this.result = result;
+        }
+    }
+}
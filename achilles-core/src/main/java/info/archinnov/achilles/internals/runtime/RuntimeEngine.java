@@ -19,23 +19,44 @@ package info.archinnov.achilles.internals.runtime;
 import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
 import static java.lang.String.format;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.*;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig;
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterGauges;
 import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.ColumnMaskKey;
+import info.archinnov.achilles.internals.cache.QueryShape;
 import info.archinnov.achilles.internals.cache.StatementsCache;
 import info.archinnov.achilles.internals.context.ConfigurationContext;
 import info.archinnov.achilles.internals.factory.TupleTypeFactory;
 import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.futures.CallerThreadExecutor;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.statements.QueryIdGenerator;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.internals.types.QueryIdResultSetWrapper;
+import info.archinnov.achilles.metrics.MetricsRegistry;
+import info.archinnov.achilles.type.OperationType;
 import info.archinnov.achilles.type.SchemaNameProvider;
 
 public class RuntimeEngine {
@@ -47,6 +68,12 @@ public class RuntimeEngine {
     public final Session session;
     public final String currentKeyspace;
     public final ExecutorService executor;
+    public final Executor callbackExecutor;
+    public final boolean syncCallsOnCallerThread;
+    public final MetricsRegistry metrics;
+    public final Optional<ConcurrencyLimiterConfig> concurrencyLimiterConfig;
+
+    private final Map<String, ConcurrencyLimiter> concurrencyLimiters = new ConcurrentHashMap<>();
 
     public TupleTypeFactory tupleTypeFactory;
     public UserTypeFactory userTypeFactory;
@@ -57,6 +84,13 @@ public class RuntimeEngine {
         this.cache = configContext.getStatementsCache();
         this.currentKeyspace = configContext.getCurrentKeyspace().orElseGet(session::getLoggedKeyspace);
         this.executor = configContext.getExecutorService();
+        this.callbackExecutor = configContext.getCallbackExecutor();
+        this.syncCallsOnCallerThread = configContext.isSyncCallsOnCallerThread();
+        if (syncCallsOnCallerThread) {
+            CallerThreadExecutor.enable();
+        }
+        this.metrics = configContext.getMetricsRegistry();
+        this.concurrencyLimiterConfig = configContext.getConcurrencyLimiter();
     }
 
     public PreparedStatement getStaticCache(CacheKey cacheKey) {
@@ -69,14 +103,77 @@ public class RuntimeEngine {
         }
 
         wrapper.logDML();
-        return toCompletableFuture(session.executeAsync(wrapper.getBoundStatement()), executor);
+        final long queryId = metrics.isEnabled() ? wrapper.getQueryId() : 0L;
+        ListenableFuture<ResultSet> resultSetFuture = executeAsync(wrapper.getEntityClass(), wrapper.getBoundStatement());
+        // A query id is only assigned when DML logging, metrics or async listeners need it
+        if (wrapper.hasQueryId()) {
+            resultSetFuture = Futures.transform(resultSetFuture,
+                    (Function<ResultSet, ResultSet>) rs -> new QueryIdResultSetWrapper(rs, wrapper.getQueryId()),
+                    MoreExecutors.directExecutor());
+        }
+        return execute(wrapper.getEntityClass(), wrapper.getOperationType(), queryId, resultSetFuture);
+    }
+
+    /**
+     * Execute the statement and record its metrics for <em>entityClass</em> and <em>operationType</em>
+     * if a metrics registry is enabled
+     */
+    public CompletableFuture<ResultSet> execute(Class<?> entityClass, OperationType operationType, Statement statement) {
+        final long queryId = metrics.isEnabled() ? QueryIdGenerator.nextQueryId() : 0L;
+        return execute(entityClass, operationType, queryId, executeAsync(entityClass, statement));
+    }
+
+    private CompletableFuture<ResultSet> execute(Class<?> entityClass, OperationType operationType, long queryId,
+                                                 ListenableFuture<ResultSet> resultSetFuture) {
+        final Executor executor = currentCallbackExecutor();
+        if (!metrics.isEnabled()) {
+            return toCompletableFuture(resultSetFuture, executor);
+        }
+
+        metrics.onRequestStart(entityClass, operationType, queryId);
+        final long startNanos = System.nanoTime();
+        final AtomicLong responseNanos = new AtomicLong(0L);
+
+        // Called on the driver I/O thread as soon as the response is received
+        Futures.addCallback(resultSetFuture, new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet resultSet) {
+                responseNanos.set(System.nanoTime());
+                metrics.onRequestSuccess(entityClass, operationType, queryId, responseNanos.get() - startNanos,
+                        resultSet == null ? 0 : resultSet.getAvailableWithoutFetching());
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                responseNanos.set(System.nanoTime());
+                metrics.onRequestFailure(entityClass, operationType, queryId, responseNanos.get() - startNanos, throwable);
+            }
+        }, MoreExecutors.directExecutor());
+
+        // Measure how long the response waits for an executor thread before the callbacks run
+        final Executor dispatchMeasuringExecutor = task -> {
+            final int queueDepth = callbackQueueDepth(executor);
+            try {
+                executor.execute(() -> {
+                    metrics.onCallbackDispatch(entityClass, operationType, System.nanoTime() - responseNanos.get());
+                    task.run();
+                });
+            } catch (RejectedExecutionException ex) {
+                metrics.onCallbackRejected(entityClass, operationType);
+                throw ex;
+            }
+            if (queueDepth >= 0) {
+                metrics.onCallbackQueued(entityClass, operationType, queueDepth);
+            }
+        };
+        return toCompletableFuture(resultSetFuture, dispatchMeasuringExecutor);
     }
 
     public CompletableFuture<ResultSet> execute(BoundStatement boundStatement) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Executing bound statement %s", boundStatement.preparedStatement().getQueryString()));
         }
-        return toCompletableFuture(session.executeAsync(boundStatement), executor);
+        return toCompletableFuture(executeAsync(null, boundStatement), currentCallbackExecutor());
     }
 
     public CompletableFuture<ResultSet> execute(BatchStatement batchStatement) {
@@ -87,13 +184,24 @@ public class RuntimeEngine {
                             .map(Statement::toString)
                             .reduce("", (x, y) -> x + y)));
         }
-        return toCompletableFuture(session.executeAsync(batchStatement), executor);
+        return toCompletableFuture(executeAsync(null, batchStatement), currentCallbackExecutor());
     }
 
     public PreparedStatement prepareDynamicQuery(RegularStatement statement) {
         return prepareDynamicQuery(statement.getQueryString());
     }
 
+    public PreparedStatement prepareDynamicQuery(QueryShape queryShape, RegularStatement statement) {
+        if (!queryShape.isCacheable()) {
+            return prepareDynamicQuery(statement);
+        }
+        return cache.getShapeCache(queryShape, statement::getQueryString, session);
+    }
+
+    public PreparedStatement prepareUpdateQuery(ColumnMaskKey columnMaskKey, Supplier<RegularStatement> statementSupplier) {
+        return cache.getColumnMaskCache(columnMaskKey, statementSupplier, session);
+    }
+
     public PreparedStatement prepareDynamicQuery(String queryString) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Preparing dynamic query %s", queryString));
@@ -120,6 +228,60 @@ public class RuntimeEngine {
 
     }
 
+    /**
+     * Current state of the concurrency limiters, indexed by keyspace or entity class name
+     */
+    public Map<String, ConcurrencyLimiterGauges> concurrencyLimiters() {
+        return Collections.unmodifiableMap(concurrencyLimiters);
+    }
+
+    /**
+     * Send the statement, going through the concurrency limiter of its keyspace or entity if configured
+     */
+    private ListenableFuture<ResultSet> executeAsync(Class<?> entityClass, Statement statement) {
+        if (!concurrencyLimiterConfig.isPresent()) {
+            return session.executeAsync(statement);
+        }
+        final ConcurrencyLimiterConfig config = concurrencyLimiterConfig.get();
+        final String limiterName = limiterName(config, entityClass, statement);
+        return concurrencyLimiters
+                .computeIfAbsent(limiterName, name -> new ConcurrencyLimiter(name, config))
+                .submit(() -> session.executeAsync(statement));
+    }
+
+    private String limiterName(ConcurrencyLimiterConfig config, Class<?> entityClass, Statement statement) {
+        if (config.getScope() == ConcurrencyLimiterConfig.Scope.ENTITY && entityClass != null) {
+            return entityClass.getCanonicalName();
+        }
+        final String keyspace = statement.getKeyspace();
+        if (keyspace != null) {
+            return keyspace;
+        }
+        return currentKeyspace != null ? currentKeyspace : "default";
+    }
+
+    /**
+     * The calling thread itself when it is blocked in a synchronous call and
+     * SYNC_CALLS_ON_CALLER_THREAD is enabled, else the configured callback executor.
+     * <br/>
+     * Must be called on the thread issuing the query, before it blocks
+     */
+    public Executor currentCallbackExecutor() {
+        if (syncCallsOnCallerThread) {
+            final Executor callerThreadExecutor = CallerThreadExecutor.current(callbackExecutor);
+            if (callerThreadExecutor != null) {
+                return callerThreadExecutor;
+            }
+        }
+        return callbackExecutor;
+    }
+
+    private static int callbackQueueDepth(Executor executor) {
+        return executor instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) executor).getQueue().size()
+                : -1;
+    }
+
     public Cluster getCluster() {
         return session.getCluster();
     }
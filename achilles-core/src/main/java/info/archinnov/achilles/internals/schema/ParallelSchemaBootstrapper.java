@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.schema;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static info.archinnov.achilles.internals.schema.SchemaCreator.ACHILLES_DML_LOGGER;
+import static info.archinnov.achilles.internals.schema.SchemaCreator.generateSchemaStatementsAtRuntime;
+import static info.archinnov.achilles.internals.schema.SchemaCreator.generateUDTStatementAtRuntime;
+import static java.lang.String.format;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.context.ConfigurationContext;
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractUDTClassProperty;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Create and validate the schema at bootstrap with a bounded number of concurrent requests.
+ * <br/>
+ * DDL statements are executed in steps following their dependencies: UDTs (the most nested ones first),
+ * then tables, then indices and materialized views. Statements of a step are independent and executed
+ * concurrently with <em>Session.executeAsync()</em>; the schema agreement is only awaited between steps
+ */
+public class ParallelSchemaBootstrapper {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelSchemaBootstrapper.class);
+    private static final long SCHEMA_AGREEMENT_POLL_MILLIS = 200L;
+
+    private final Session session;
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    public ParallelSchemaBootstrapper(Session session, ExecutorService executor, int parallelism) {
+        Validator.validateTrue(parallelism > 0, "The schema bootstrap parallelism should be strictly positive");
+        this.session = session;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Create the given UDTs, with the UDTs they depend on, then the tables, indices and views of the given entities
+     */
+    public void createSchema(Collection<AbstractUDTClassProperty<?>> udtClassProperties, List<AbstractEntityProperty<?>> entityProperties) {
+        final long start = System.nanoTime();
+        final List<List<String>> steps = new ArrayList<>();
+
+        final Map<AbstractUDTClassProperty<?>, Integer> udtDepths = new LinkedHashMap<>();
+        udtClassProperties.forEach(x -> computeUDTDepth(x, udtDepths));
+        final TreeMap<Integer, List<String>> udtSteps = new TreeMap<>();
+        udtDepths.forEach((udt, depth) -> udtSteps
+                .computeIfAbsent(depth, key -> new ArrayList<>())
+                .add(generateUDTStatementAtRuntime(session, udt)));
+        steps.addAll(udtSteps.values());
+
+        final List<String> tables = new ArrayList<>();
+        final List<String> indicesAndViews = new ArrayList<>();
+        for (AbstractEntityProperty<?> entityProperty : entityProperties) {
+            final List<String> statements = generateSchemaStatementsAtRuntime(session, entityProperty);
+            if (entityProperty.isTable()) {
+                tables.add(statements.get(0));
+                indicesAndViews.addAll(statements.subList(1, statements.size()));
+            } else {
+                indicesAndViews.addAll(statements);
+            }
+        }
+        steps.add(tables);
+        steps.add(indicesAndViews);
+
+        int statementsCount = 0;
+        for (List<String> step : steps) {
+            executeStep(step);
+            statementsCount += step.size();
+        }
+
+        LOGGER.info(format("Created schema with %s DDL statement(s) in %s step(s) in %s ms (parallelism = %s)",
+                statementsCount, steps.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), parallelism));
+    }
+
+    /**
+     * Validate the schema of the given entities against the cluster metadata concurrently
+     *
+     * @throws RuntimeException the first validation error encountered
+     */
+    public void validateSchema(List<AbstractEntityProperty<?>> entityProperties, ConfigurationContext configContext) {
+        final Semaphore inFlight = new Semaphore(parallelism);
+        final List<CompletableFuture<Void>> futures = new ArrayList<>(entityProperties.size());
+        for (AbstractEntityProperty<?> entityProperty : entityProperties) {
+            inFlight.acquireUninterruptibly();
+            futures.add(CompletableFuture
+                    .runAsync(() -> entityProperty.validateSchema(configContext), executor)
+                    .whenComplete((ignored, throwable) -> inFlight.release()));
+        }
+
+        try {
+            Uninterruptibles.getUninterruptibly(CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])));
+        } catch (ExecutionException ex) {
+            final Throwable cause = unwrap(ex.getCause());
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new AchillesException("Fail validating schema", cause);
+        }
+    }
+
+    private void executeStep(List<String> statements) {
+        if (statements.isEmpty()) {
+            return;
+        }
+
+        final Semaphore inFlight = new Semaphore(parallelism);
+        final AtomicBoolean schemaInAgreement = new AtomicBoolean(true);
+        final List<CompletableFuture<?>> futures = new ArrayList<>(statements.size());
+        for (String statement : statements) {
+            if (ACHILLES_DML_LOGGER.isDebugEnabled()) {
+                ACHILLES_DML_LOGGER.debug(statement + "\n");
+            }
+            inFlight.acquireUninterruptibly();
+            try {
+                futures.add(toCompletableFuture(session.executeAsync(statement), executor)
+                        .whenComplete((rs, throwable) -> {
+                            inFlight.release();
+                            if (throwable == null && !rs.getExecutionInfo().isSchemaInAgreement()) {
+                                schemaInAgreement.set(false);
+                            }
+                        }));
+            } catch (RuntimeException ex) {
+                inFlight.release();
+                throw ex;
+            }
+        }
+
+        try {
+            Uninterruptibles.getUninterruptibly(CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])));
+        } catch (ExecutionException ex) {
+            throw new AchillesException("Fail creating schema", unwrap(ex.getCause()));
+        }
+
+        if (!schemaInAgreement.get()) {
+            awaitSchemaAgreement();
+        }
+    }
+
+    private void awaitSchemaAgreement() {
+        final Cluster cluster = session.getCluster();
+        final long maxWaitSeconds = cluster.getConfiguration().getProtocolOptions().getMaxSchemaAgreementWaitSeconds();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxWaitSeconds);
+        boolean agreement = cluster.getMetadata().checkSchemaAgreement();
+        while (!agreement && System.nanoTime() < deadline) {
+            Uninterruptibles.sleepUninterruptibly(SCHEMA_AGREEMENT_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            agreement = cluster.getMetadata().checkSchemaAgreement();
+        }
+        if (!agreement) {
+            LOGGER.warn(format("No schema agreement reached after %s seconds, continuing schema creation", maxWaitSeconds));
+        }
+    }
+
+    private static int computeUDTDepth(AbstractUDTClassProperty<?> udtClassProperty, Map<AbstractUDTClassProperty<?>, Integer> depths) {
+        final Integer knownDepth = depths.get(udtClassProperty);
+        if (knownDepth != null) {
+            return knownDepth;
+        }
+        final int depth = udtClassProperty.componentsProperty
+                .stream()
+                .flatMap(x -> x.getUDTClassProperties().stream())
+                .mapToInt(x -> computeUDTDepth(x, depths) + 1)
+                .max()
+                .orElse(0);
+        depths.put(udtClassProperty, depth);
+        return depth;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
@@ -204,6 +204,19 @@ public class SchemaCreator {
     }
 
     public static void generateSchemaAtRuntime(final Session session, AbstractEntityProperty<?> entityProperty) {
+        for(String schema: generateSchemaStatementsAtRuntime(session, entityProperty)) {
+            if (ACHILLES_DML_LOGGER.isDebugEnabled()) {
+                ACHILLES_DML_LOGGER.debug(schema + "\n");
+            }
+            final ResultSet resultSet = session.execute(schema);
+            resultSet.getExecutionInfo().isSchemaInAgreement();
+        }
+    }
+
+    /**
+     * Generate the DDL statements for an entity: the table followed by its indices, or the materialized view
+     */
+    public static List<String> generateSchemaStatementsAtRuntime(final Session session, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generating schema for entity of type %s",
@@ -213,37 +226,20 @@ public class SchemaCreator {
 
         final String keyspace = entityProperty.getKeyspace().orElseGet(session::getLoggedKeyspace);
         final SchemaContext schemaContext = new SchemaContext(keyspace, true, true);
-        final List<String> schemas;
         if (entityProperty.isTable()) {
-            schemas = generateTable_And_Indices(schemaContext, entityProperty);
+            return generateTable_And_Indices(schemaContext, entityProperty);
         } else {
-            schemas = generateView(schemaContext, (AbstractViewProperty) entityProperty);
-        }
-
-
-        for(String schema: schemas) {
-            if (ACHILLES_DML_LOGGER.isDebugEnabled()) {
-                ACHILLES_DML_LOGGER.debug(schema + "\n");
-            }
-            final ResultSet resultSet = session.execute(schema);
-            resultSet.getExecutionInfo().isSchemaInAgreement();
+            return generateView(schemaContext, (AbstractViewProperty) entityProperty);
         }
     }
 
     public static void generateUDTAtRuntime(final Session session, AbstractUDTClassProperty<?> udtClassProperty) {
-        if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(format("Generating schema for udt of type %s",
-                    udtClassProperty.udtClass.getCanonicalName()));
-        }
-
         udtClassProperty.componentsProperty
                 .stream()
                 .flatMap(x -> x.getUDTClassProperties().stream())
                 .forEach(x -> generateUDTAtRuntime(session, x));
 
-        final String udtKeyspace = udtClassProperty.staticKeyspace.orElseGet(session::getLoggedKeyspace);
-        final SchemaContext schemaContext = new SchemaContext(udtKeyspace, true, true);
-        final String udtSchema = udtClassProperty.generateSchema(schemaContext);
+        final String udtSchema = generateUDTStatementAtRuntime(session, udtClassProperty);
 
         if (ACHILLES_DML_LOGGER.isDebugEnabled()) {
             ACHILLES_DML_LOGGER.debug(udtSchema + "\n");
@@ -252,4 +248,18 @@ public class SchemaCreator {
         final ResultSet resultSet = session.execute(udtSchema);
         resultSet.getExecutionInfo().isSchemaInAgreement();
     }
+
+    /**
+     * Generate the DDL statement of a single UDT, <strong>without</strong> the UDTs it depends on
+     */
+    public static String generateUDTStatementAtRuntime(final Session session, AbstractUDTClassProperty<?> udtClassProperty) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(format("Generating schema for udt of type %s",
+                    udtClassProperty.udtClass.getCanonicalName()));
+        }
+
+        final String udtKeyspace = udtClassProperty.staticKeyspace.orElseGet(session::getLoggedKeyspace);
+        final SchemaContext schemaContext = new SchemaContext(udtKeyspace, true, true);
+        return udtClassProperty.generateSchema(schemaContext);
+    }
 }
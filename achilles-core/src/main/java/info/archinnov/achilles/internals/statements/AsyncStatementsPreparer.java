@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Prepare static statements of all entities using <em>Session.prepareAsync()</em>
+ * with a bounded number of in-flight requests. Each prepared statement is put
+ * into the static cache as soon as it is ready
+ */
+public class AsyncStatementsPreparer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncStatementsPreparer.class);
+
+    private final Session session;
+    private final StatementsCache cache;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+
+    public AsyncStatementsPreparer(Session session, StatementsCache cache, ExecutorService executor, int maxInFlight) {
+        Validator.validateTrue(maxInFlight > 0, "The max in-flight prepare requests count should be strictly positive");
+        this.session = session;
+        this.cache = cache;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Prepare all the given statements and wait for completion
+     *
+     * @param statementsByEntity static statements to prepare, grouped by entity class
+     * @return preparation duration in milliseconds for each entity class, from the first
+     * prepare request sent to the last prepared statement received
+     */
+    public Map<Class<?>, Long> prepareAll(Map<Class<?>, Map<CacheKey, RegularStatement>> statementsByEntity) {
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+        final List<CompletableFuture<PreparedStatement>> futures = new ArrayList<>();
+        final Map<Class<?>, EntityTiming> timings = new LinkedHashMap<>();
+        final long start = System.nanoTime();
+
+        for (Map.Entry<Class<?>, Map<CacheKey, RegularStatement>> entry : statementsByEntity.entrySet()) {
+            final Class<?> entityClass = entry.getKey();
+            final EntityTiming timing = new EntityTiming(entry.getValue().size());
+            timings.put(entityClass, timing);
+
+            for (Map.Entry<CacheKey, RegularStatement> statement : entry.getValue().entrySet()) {
+                final CacheKey cacheKey = statement.getKey();
+                inFlight.acquireUninterruptibly();
+                timing.markStarted();
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Preparing asynchronously static statement for key %s", cacheKey));
+                }
+
+                final CompletableFuture<PreparedStatement> future;
+                try {
+                    future = toCompletableFuture(session.prepareAsync(statement.getValue()), executor);
+                } catch (RuntimeException ex) {
+                    inFlight.release();
+                    throw ex;
+                }
+
+                futures.add(future.whenComplete((ps, throwable) -> {
+                    inFlight.release();
+                    if (throwable == null) {
+                        cache.putStaticCache(cacheKey, () -> ps);
+                        timing.markDone();
+                    }
+                }));
+            }
+        }
+
+        try {
+            Uninterruptibles.getUninterruptibly(CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])));
+        } catch (ExecutionException ex) {
+            final Throwable cause = ex.getCause() instanceof CompletionException ? ex.getCause().getCause() : ex.getCause();
+            throw new AchillesException("Fail preparing static statements asynchronously", cause);
+        }
+
+        final Map<Class<?>, Long> durations = new LinkedHashMap<>();
+        timings.forEach((entityClass, timing) -> {
+            final long duration = timing.durationInMillis();
+            durations.put(entityClass, duration);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug(format("Prepared %s static statement(s) for entity %s in %s ms",
+                        timing.statementsCount, entityClass.getCanonicalName(), duration));
+            }
+        });
+
+        LOGGER.info(format("Prepared %s static statement(s) for %s entities in %s ms (max in-flight requests = %s)",
+                futures.size(), timings.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), maxInFlight));
+
+        return durations;
+    }
+
+    private static class EntityTiming {
+        private final int statementsCount;
+        private final AtomicInteger remaining;
+        private final AtomicLong startNanos = new AtomicLong(0L);
+        private final AtomicLong endNanos = new AtomicLong(0L);
+
+        EntityTiming(int statementsCount) {
+            this.statementsCount = statementsCount;
+            this.remaining = new AtomicInteger(statementsCount);
+        }
+
+        void markStarted() {
+            startNanos.compareAndSet(0L, System.nanoTime());
+        }
+
+        void markDone() {
+            if (remaining.decrementAndGet() == 0) {
+                endNanos.set(System.nanoTime());
+            }
+        }
+
+        long durationInMillis() {
+            return endNanos.get() == 0L ? 0L : TimeUnit.NANOSECONDS.toMillis(endNanos.get() - startNanos.get());
+        }
+    }
+}
@@ -18,8 +18,6 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
-import java.util.UUID;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,6 +29,7 @@ import com.datastax.driver.core.Row;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.OperationType;
 
 public class BoundStatementWrapper implements StatementWrapper {
 
@@ -42,7 +41,7 @@ public class BoundStatementWrapper implements StatementWrapper {
     private final Object[] encodedBoundValues;
     private final Logger actualLogger;
     private BoundStatement bs;
-    private UUID queryId;
+    private long queryId;
 
 
     public BoundStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, PreparedStatement ps,
@@ -75,9 +74,35 @@ public class BoundStatementWrapper implements StatementWrapper {
         return bs;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public long getQueryId() {
+        if (queryId == 0L) {
+            queryId = QueryIdGenerator.nextQueryId();
+        }
+        return queryId;
+    }
+
+    @Override
+    public boolean hasQueryId() {
+        return queryId != 0L;
+    }
+
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, bs);
+        if (cassandraOptions.hasAsyncListeners()) {
+            getQueryId();
+        }
     }
 
     @Override
@@ -86,9 +111,8 @@ public class BoundStatementWrapper implements StatementWrapper {
             LOGGER.trace(format("Maybe log DML query %s", bs.preparedStatement().getQueryString()));
         }
 
-        queryId = UUID.randomUUID();
         if (actualLogger.isDebugEnabled()) {
-            writeDMLStatementLog(actualLogger, queryId, bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), boundValues, encodedBoundValues);
+            writeDMLStatementLog(actualLogger, getQueryId(), bs.preparedStatement().getQueryString(), bs.getConsistencyLevel(), boundValues, encodedBoundValues);
         }
     }
 
@@ -100,7 +124,7 @@ public class BoundStatementWrapper implements StatementWrapper {
 
         if (actualLogger.isDebugEnabled()) {
             final ResultSetWrapper wrapper = new ResultSetWrapper(originalResultSet);
-            logReturnedResultsInternal(actualLogger, queryId, wrapper, maxDisplayedRows);
+            logReturnedResultsInternal(actualLogger, getQueryId(), wrapper, maxDisplayedRows);
             return wrapper;
         } else {
             return originalResultSet;
@@ -114,7 +138,7 @@ public class BoundStatementWrapper implements StatementWrapper {
         }
 
         if (actualLogger.isDebugEnabled()) {
-            logReturnedRowInternal(actualLogger, queryId, row);
+            logReturnedRowInternal(actualLogger, getQueryId(), row);
         }
         return row;
     }
@@ -124,7 +148,9 @@ public class BoundStatementWrapper implements StatementWrapper {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Maybe display tracing for query %s", bs.preparedStatement().getQueryString()));
         }
-        tracingInternal(actualLogger, queryId, resultSet);
+        if (actualLogger.isTraceEnabled()) {
+            tracingInternal(actualLogger, getQueryId(), resultSet);
+        }
         return resultSet;
     }
 }
@@ -19,7 +19,8 @@ package info.archinnov.achilles.internals.statements;
 import static info.archinnov.achilles.type.strategy.InsertStrategy.ALL_FIELDS;
 import static java.lang.String.format;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.BitSet;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,40 +29,44 @@ import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.PreparedStatement;
 
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.type.OperationType;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
 
 
+/**
+ * Values extracted from an entity for INSERT/UPDATE statements.
+ * <br/>
+ * <em>boundValues</em> and <em>encodedValues</em> are indexed in bind marker order:
+ * the value at index <em>i</em> belongs to <em>properties[i]</em> and the last slot holds the TTL value
+ */
 public class BoundValuesWrapper {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BoundValuesWrapper.class);
 
-    public final List<BoundValueInfo> boundValuesInfo;
     public final AbstractEntityProperty<?> meta;
+    public final AbstractProperty<?, ?, ?>[] properties;
+    public final Object[] boundValues;
+    public final Object[] encodedValues;
 
-    public BoundValuesWrapper(AbstractEntityProperty<?> meta, List<BoundValueInfo> boundValuesInfo) {
+    public BoundValuesWrapper(AbstractEntityProperty<?> meta, AbstractProperty<?, ?, ?>[] properties, Object[] boundValues, Object[] encodedValues) {
         this.meta = meta;
-        this.boundValuesInfo = boundValuesInfo;
+        this.properties = properties;
+        this.boundValues = boundValues;
+        this.encodedValues = encodedValues;
     }
 
     public StatementWrapper bindWithInsertStrategy(PreparedStatement ps, InsertStrategy insertStrategy) {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s with insert strategy %s",
-                    boundValuesInfo, ps.getQueryString(), insertStrategy.name()));
+                    this, ps.getQueryString(), insertStrategy.name()));
         }
 
         if (insertStrategy == ALL_FIELDS) {
-            return new BoundStatementWrapper(OperationType.INSERT, meta, ps,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            return new BoundStatementWrapper(OperationType.INSERT, meta, ps, boundValues, encodedValues);
         } else {
-            BoundStatement bs = ps.bind();
-            boundValuesInfo.stream()
-                    .filter(x -> x.encodedValue != null)
-                    .forEach(x -> x.setter.accept(x.encodedValue, bs));
-            return new BoundStatementWrapper(OperationType.INSERT, meta, bs,
-                    boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                    boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+            return new BoundStatementWrapper(OperationType.INSERT, meta, bindNonNullValues(ps), boundValues, encodedValues);
         }
     }
 
@@ -69,16 +74,44 @@ public class BoundValuesWrapper {
 
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Bind values %s to query %s for UPDATE",
-                    boundValuesInfo, ps.getQueryString()));
+                    this, ps.getQueryString()));
+        }
+
+        return new BoundStatementWrapper(OperationType.UPDATE, meta, bindNonNullValues(ps), boundValues, encodedValues);
+    }
+
+    /**
+     * Bit <em>i</em> is set when the value of <em>properties[i]</em> is not null
+     */
+    public BitSet nonNullValuesMask() {
+        final BitSet mask = new BitSet(properties.length);
+        for (int i = 0; i < properties.length; i++) {
+            if (encodedValues[i] != null) {
+                mask.set(i);
+            }
         }
+        return mask;
+    }
 
-        BoundStatement bs = ps.bind();
-        boundValuesInfo.stream()
-                .filter(x -> x.encodedValue != null)
-                .forEach(x -> x.setter.accept(x.encodedValue, bs));
-        return new BoundStatementWrapper(OperationType.UPDATE, meta, bs,
-                boundValuesInfo.stream().map(x -> x.boundValue).toArray(),
-                boundValuesInfo.stream().map(x -> x.encodedValue).toArray());
+    @SuppressWarnings("unchecked")
+    private BoundStatement bindNonNullValues(PreparedStatement ps) {
+        final BoundStatement bs = ps.bind();
+        for (int i = 0; i < properties.length; i++) {
+            final Object encodedValue = encodedValues[i];
+            if (encodedValue != null) {
+                ((AbstractProperty<?, ?, Object>) properties[i]).encodeToSettable(encodedValue, bs);
+            }
+        }
+        bs.setInt("ttl", (Integer) encodedValues[properties.length]);
+        return bs;
+    }
 
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("BoundValuesWrapper{");
+        sb.append("boundValues=").append(Arrays.toString(boundValues));
+        sb.append(", encodedValues=").append(Arrays.toString(encodedValues));
+        sb.append('}');
+        return sb.toString();
     }
 }
@@ -18,8 +18,6 @@ package info.archinnov.achilles.internals.statements;
 
 import static java.lang.String.format;
 
-import java.util.UUID;
-
 import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
@@ -27,14 +25,15 @@ import com.datastax.driver.core.Row;
 import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
 import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.types.ResultSetWrapper;
+import info.archinnov.achilles.type.OperationType;
 
 public class NativeStatementWrapper implements StatementWrapper {
 
     private final AbstractEntityProperty<?> meta;
     private final BoundStatement boundStatement;
     private final Object[] encodedBoundValues;
-    private final UUID queryId = UUID.randomUUID();
     private final OperationType operationType;
+    private long queryId;
 
 
     public NativeStatementWrapper(OperationType operationType, AbstractEntityProperty<?> meta, BoundStatement boundStatement, Object[] encodedBoundValues) {
@@ -54,23 +53,51 @@ public class NativeStatementWrapper implements StatementWrapper {
         return boundStatement;
     }
 
+    @Override
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    @Override
+    public Class<?> getEntityClass() {
+        return meta.entityClass;
+    }
+
+    @Override
+    public long getQueryId() {
+        if (queryId == 0L) {
+            queryId = QueryIdGenerator.nextQueryId();
+        }
+        return queryId;
+    }
+
+    @Override
+    public boolean hasQueryId() {
+        return queryId != 0L;
+    }
+
     @Override
     public void applyOptions(CassandraOptions cassandraOptions) {
         cassandraOptions.applyOptions(operationType, meta, boundStatement);
+        if (cassandraOptions.hasAsyncListeners()) {
+            getQueryId();
+        }
     }
 
     @Override
     public void logDML() {
-        writeDMLStatementLog(DML_LOGGER, queryId,
-                boundStatement.preparedStatement().getQueryString(),
-                boundStatement.getConsistencyLevel(), new Object[0], encodedBoundValues);
+        if (DML_LOGGER.isDebugEnabled()) {
+            writeDMLStatementLog(DML_LOGGER, getQueryId(),
+                    boundStatement.preparedStatement().getQueryString(),
+                    boundStatement.getConsistencyLevel(), new Object[0], encodedBoundValues);
+        }
     }
 
     @Override
     public ResultSet logReturnResults(ResultSet originalResultSet, int maxDisplayedRows) {
         if (DML_LOGGER.isDebugEnabled()) {
             final ResultSetWrapper wrapper = new ResultSetWrapper(originalResultSet);
-            logReturnedResultsInternal(DML_LOGGER, queryId, wrapper, maxDisplayedRows);
+            logReturnedResultsInternal(DML_LOGGER, getQueryId(), wrapper, maxDisplayedRows);
             return wrapper;
         } else {
             return originalResultSet;
@@ -80,7 +107,7 @@ public class NativeStatementWrapper implements StatementWrapper {
     @Override
     public Row logReturnedRow(Row row) {
         if (DML_LOGGER.isDebugEnabled()) {
-            logReturnedRowInternal(DML_LOGGER, queryId, row);
+            logReturnedRowInternal(DML_LOGGER, getQueryId(), row);
         }
         return row;
     }
@@ -90,7 +117,9 @@ public class NativeStatementWrapper implements StatementWrapper {
         if (LOGGER.isTraceEnabled()) {
             LOGGER.trace(format("Maybe display tracing for query %s", boundStatement.preparedStatement().getQueryString()));
         }
-        tracingInternal(DML_LOGGER, queryId, resultSet);
+        if (DML_LOGGER.isTraceEnabled()) {
+            tracingInternal(DML_LOGGER, getQueryId(), resultSet);
+        }
         return resultSet;
     }
 }
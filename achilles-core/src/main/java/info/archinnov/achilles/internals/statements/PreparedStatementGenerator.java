@@ -20,6 +20,8 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.*;
 import static info.archinnov.achilles.internals.cache.CacheKey.Operation.*;
 import static java.lang.String.format;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -47,8 +49,13 @@ public class PreparedStatementGenerator {
     private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementGenerator.class);
 
     public static void generateStaticSelectQuery(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
-        final RegularStatement where = generateSelectQuery(entityProperty, Optional.empty());
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, FIND), () -> session.prepare(where));
+        putAllStaticCache(session, cache, generateStaticSelectStatements(entityProperty));
+    }
+
+    public static Map<CacheKey, RegularStatement> generateStaticSelectStatements(AbstractEntityProperty<?> entityProperty) {
+        final Map<CacheKey, RegularStatement> statements = new LinkedHashMap<>();
+        statements.put(new CacheKey(entityProperty.entityClass, FIND), generateSelectQuery(entityProperty, Optional.empty()));
+        return statements;
     }
 
     public static RegularStatement generateSelectQuery( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
@@ -104,23 +111,29 @@ public class PreparedStatementGenerator {
     }
 
     public static void generateStaticDeleteQueries(Session session, StatementsCache cache,  AbstractEntityProperty<?> entityProperty) {
+        putAllStaticCache(session, cache, generateStaticDeleteStatements(entityProperty));
+    }
+
+    public static Map<CacheKey, RegularStatement> generateStaticDeleteStatements(AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate DELETE queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE),
-                () -> session.prepare(generateDeleteByKeys(entityProperty, Optional.empty())));
+        final Map<CacheKey, RegularStatement> statements = new LinkedHashMap<>();
+        statements.put(new CacheKey(entityProperty.entityClass, DELETE),
+                generateDeleteByKeys(entityProperty, Optional.empty()));
 
         if (!entityProperty.isCounter()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
-                    () -> session.prepare(generateDeleteByKeysIfExists(entityProperty, Optional.empty())));
+            statements.put(new CacheKey(entityProperty.entityClass, DELETE_IF_EXISTS),
+                    generateDeleteByKeysIfExists(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.isClustered()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
-                    () -> session.prepare(generateDeleteByPartition(entityProperty, Optional.empty())));
+            statements.put(new CacheKey(entityProperty.entityClass, DELETE_BY_PARTITION),
+                    generateDeleteByPartition(entityProperty, Optional.empty()));
         }
+        return statements;
     }
 
     public static RegularStatement generateDeleteByKeys( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
@@ -195,32 +208,38 @@ public class PreparedStatementGenerator {
 
 
     public static void generateStaticInsertQueries(InternalCassandraVersion cassandraVersion, Session session, StatementsCache cache, AbstractEntityProperty<?> entityProperty) {
+        putAllStaticCache(session, cache, generateStaticInsertStatements(cassandraVersion, entityProperty));
+    }
+
+    public static Map<CacheKey, RegularStatement> generateStaticInsertStatements(InternalCassandraVersion cassandraVersion, AbstractEntityProperty<?> entityProperty) {
 
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate INSERT queries for entity of type %s", entityProperty.entityClass.getCanonicalName()));
         }
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT),
-                () -> session.prepare(generateInsert(entityProperty, Optional.empty())));
+        final Map<CacheKey, RegularStatement> statements = new LinkedHashMap<>();
+        statements.put(new CacheKey(entityProperty.entityClass, INSERT),
+                generateInsert(entityProperty, Optional.empty()));
 
-        cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
-                () -> session.prepare(generateInsertIfNotExists(entityProperty, Optional.empty())));
+        statements.put(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS),
+                generateInsertIfNotExists(entityProperty, Optional.empty()));
 
         if (cassandraVersion.supportsFeature(CassandraFeature.JSON)) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_JSON),
-                    () -> session.prepare(generateInsertJSON(entityProperty, Optional.empty())));
+            statements.put(new CacheKey(entityProperty.entityClass, INSERT_JSON),
+                    generateInsertJSON(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
-                    () -> session.prepare(generateInsertIfNotExistsJson(entityProperty, Optional.empty())));
+            statements.put(new CacheKey(entityProperty.entityClass, INSERT_IF_NOT_EXISTS_JSON),
+                    generateInsertIfNotExistsJson(entityProperty, Optional.empty()));
         }
 
         if (entityProperty.hasStaticColumn()) {
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
-                    () -> session.prepare(generateInsertStatic(entityProperty, Optional.empty())));
+            statements.put(new CacheKey(entityProperty.entityClass, INSERT_STATIC),
+                    generateInsertStatic(entityProperty, Optional.empty()));
 
-            cache.putStaticCache(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
-                    () -> session.prepare(generateInsertStaticIfNotExists(entityProperty, Optional.empty())));
+            statements.put(new CacheKey(entityProperty.entityClass, INSERT_STATIC_IF_NOT_EXISTS),
+                    generateInsertStaticIfNotExists(entityProperty, Optional.empty()));
         }
+        return statements;
     }
 
     public static RegularStatement generateInsert( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
@@ -237,7 +256,7 @@ public class PreparedStatementGenerator {
         return insert.using(ttl(bindMarker("ttl")));
     }
 
-    public static <T> RegularStatement generateUpdate(T instance, AbstractEntityProperty<T> entityProperty, CassandraOptions options,
+    public static <T> RegularStatement generateUpdate(BoundValuesWrapper wrapper, AbstractEntityProperty<T> entityProperty, CassandraOptions options,
                                                       boolean staticValuesOnly, boolean ifExists) {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(format("Generate UPDATE query for entity of type %s", entityProperty.entityClass.getCanonicalName()));
@@ -252,14 +271,16 @@ public class PreparedStatementGenerator {
 
         Update.Assignments assignments = update.with();
 
-        entityProperty
-                .allColumns
-                .stream()
-                .filter(x -> x.fieldInfo.columnType != ColumnType.PARTITION)
-                .filter(x -> x.fieldInfo.columnType != ColumnType.CLUSTERING)
-                .filter(x -> staticValuesOnly ? x.fieldInfo.columnType == ColumnType.STATIC : true)
-                .filter(x -> x.getJavaValue(instance) != null)
-                .forEach(x -> assignments.and(QueryBuilder.set(x.fieldInfo.quotedCqlColumn, bindMarker(x.fieldInfo.quotedCqlColumn))));
+        // Only columns having a non-null value are updated
+        for (int i = 0; i < wrapper.properties.length; i++) {
+            final AbstractProperty<?, ?, ?> property = wrapper.properties[i];
+            final ColumnType columnType = property.fieldInfo.columnType;
+            if (columnType != ColumnType.PARTITION && columnType != ColumnType.CLUSTERING
+                    && (!staticValuesOnly || columnType == ColumnType.STATIC)
+                    && wrapper.encodedValues[i] != null) {
+                assignments.and(QueryBuilder.set(property.fieldInfo.quotedCqlColumn, bindMarker(property.fieldInfo.quotedCqlColumn)));
+            }
+        }
 
         final Update.Where where = update.where();
         entityProperty
@@ -359,6 +380,10 @@ public class PreparedStatementGenerator {
         return insert.ifNotExists().using(ttl(bindMarker("ttl")));
     }
 
+    private static void putAllStaticCache(Session session, StatementsCache cache, Map<CacheKey, RegularStatement> statements) {
+        statements.forEach((cacheKey, statement) -> cache.putStaticCache(cacheKey, () -> session.prepare(statement)));
+    }
+
     private static Insert getInsertWithTableName( AbstractEntityProperty<?> entityProperty, Optional<SchemaNameProvider> schemaNameProvider) {
         final Optional<String> keyspace = entityProperty.getKeyspace();
         final Insert insert;
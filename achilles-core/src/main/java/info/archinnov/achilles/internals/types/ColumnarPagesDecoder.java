@@ -0,0 +1,432 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.ColumnarPage;
+
+/**
+ * Decode the rows of a SELECT query page by page into a {@link ColumnarPage}
+ * and hand each page to <em>pageConsumer</em>.
+ * <br/>
+ * The column decoders are chosen once from the column definitions of the first page.
+ * Primitive values are read straight into arrays which, like the null bitmaps, are
+ * re-used from one page to another. Text columns are dictionary encoded, the dictionary
+ * being keyed on the raw bytes so repeated values are decoded only once for the whole query.
+ * Past {@link ColumnarPage.StringColumn#MAX_SHARED_DICTIONARY_SIZE} distinct values the
+ * dictionary is reset on each page so memory stays bounded by the page size.
+ * <br/>
+ * Like {@link ResultSetPagesCollector} the next page is fetched asynchronously once
+ * the current one has been consumed. An instance decodes the results of a single query
+ * and should not be re-used
+ */
+public class ColumnarPagesDecoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ColumnarPagesDecoder.class);
+
+    private final StatementWrapper statementWrapper;
+    private final CassandraOptions options;
+    private final Map<String, String> fieldNameToCqlColumn;
+    private final Consumer<ColumnarPage> pageConsumer;
+    private final Executor executor;
+    private final int maxSharedDictionarySize;
+    private final CompletableFuture<ExecutionInfo> result = new CompletableFuture<>();
+    private ColumnDecoder[] decoders;
+    private Map<String, ColumnarPage.Column> columns;
+    private int pageCount = 0;
+    private long rowCount = 0L;
+
+    public ColumnarPagesDecoder(RuntimeEngine rte, StatementWrapper statementWrapper, CassandraOptions options,
+                                Map<String, String> fieldNameToCqlColumn, Consumer<ColumnarPage> pageConsumer) {
+        this(statementWrapper, options, fieldNameToCqlColumn, pageConsumer, rte.currentCallbackExecutor());
+    }
+
+    ColumnarPagesDecoder(StatementWrapper statementWrapper, CassandraOptions options, Map<String, String> fieldNameToCqlColumn,
+                         Consumer<ColumnarPage> pageConsumer, Executor executor) {
+        this(statementWrapper, options, fieldNameToCqlColumn, pageConsumer, executor, ColumnarPage.StringColumn.MAX_SHARED_DICTIONARY_SIZE);
+    }
+
+    ColumnarPagesDecoder(StatementWrapper statementWrapper, CassandraOptions options, Map<String, String> fieldNameToCqlColumn,
+                         Consumer<ColumnarPage> pageConsumer, Executor executor, int maxSharedDictionarySize) {
+        this.statementWrapper = statementWrapper;
+        this.options = options;
+        this.fieldNameToCqlColumn = fieldNameToCqlColumn;
+        this.pageConsumer = pageConsumer;
+        this.executor = executor;
+        this.maxSharedDictionarySize = maxSharedDictionarySize;
+    }
+
+    /**
+     * Decode all the pages of the given query result
+     *
+     * @return CompletableFuture&lt;ExecutionInfo&gt; with the execution info of the last fetched page
+     */
+    public CompletableFuture<ExecutionInfo> decode(CompletableFuture<ResultSet> futureRS) {
+        futureRS
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(statementWrapper::logTrace)
+                .whenComplete((rs, throwable) -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(unwrap(throwable));
+                    } else {
+                        decodePages(rs);
+                    }
+                });
+        return result;
+    }
+
+    private void decodePages(ResultSet rs) {
+        try {
+            decodeAvailableRows(rs);
+
+            if (rs.isFullyFetched()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Decoded %s rows in %s columnar pages for query : %s", rowCount, pageCount,
+                            statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                }
+                result.complete(rs.getExecutionInfo());
+            } else {
+                toCompletableFuture(rs.fetchMoreResults(), executor)
+                        .whenComplete((ignored, throwable) -> {
+                            if (throwable != null) {
+                                result.completeExceptionally(unwrap(throwable));
+                            } else {
+                                decodePages(rs);
+                            }
+                        });
+            }
+        } catch (Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+    }
+
+    private void decodeAvailableRows(ResultSet rs) {
+        final int available = rs.getAvailableWithoutFetching();
+        if (available == 0) {
+            return;
+        }
+
+        if (decoders == null) {
+            initDecoders(rs.getColumnDefinitions());
+        }
+
+        for (ColumnDecoder decoder : decoders) {
+            decoder.startPage(available);
+        }
+
+        for (int row = 0; row < available; row++) {
+            final Row cqlRow = rs.one();
+            statementWrapper.logReturnedRow(cqlRow);
+            options.rowAsyncListener(cqlRow);
+            for (int i = 0; i < decoders.length; i++) {
+                if (cqlRow.isNull(i)) {
+                    decoders[i].nulls.set(row);
+                } else {
+                    decoders[i].decode(cqlRow, i, row);
+                }
+            }
+        }
+
+        for (ColumnDecoder decoder : decoders) {
+            columns.put(decoder.name, decoder.column());
+        }
+
+        pageCount++;
+        rowCount += available;
+        pageConsumer.accept(new ColumnarPage(available, columns, fieldNameToCqlColumn));
+    }
+
+    private void initDecoders(ColumnDefinitions definitions) {
+        final int columnCount = definitions.size();
+        decoders = new ColumnDecoder[columnCount];
+        columns = new LinkedHashMap<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            decoders[i] = decoderFor(definitions.getName(i), definitions.getType(i).getName());
+        }
+    }
+
+    private ColumnDecoder decoderFor(String name, DataType.Name type) {
+        switch (type) {
+            case BIGINT:
+            case COUNTER:
+                return new LongDecoder(name, (row, i) -> row.getLong(i));
+            case TIMESTAMP:
+                return new LongDecoder(name, (row, i) -> {
+                    final ByteBuffer bytes = row.getBytesUnsafe(i);
+                    return bytes.getLong(bytes.position());
+                });
+            case TIME:
+                return new LongDecoder(name, (row, i) -> row.getTime(i));
+            case INT:
+                return new IntDecoder(name, (row, i) -> row.getInt(i));
+            case SMALLINT:
+                return new IntDecoder(name, (row, i) -> row.getShort(i));
+            case TINYINT:
+                return new IntDecoder(name, (row, i) -> row.getByte(i));
+            case DOUBLE:
+                return new DoubleDecoder(name, (row, i) -> row.getDouble(i));
+            case FLOAT:
+                return new DoubleDecoder(name, (row, i) -> row.getFloat(i));
+            case TEXT:
+            case VARCHAR:
+            case ASCII:
+                return new StringDecoder(name, maxSharedDictionarySize);
+            default:
+                return new ObjectDecoder(name);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+
+    private static abstract class ColumnDecoder {
+        protected final String name;
+        protected final BitSet nulls = new BitSet();
+        protected int capacity = 0;
+
+        ColumnDecoder(String name) {
+            this.name = name;
+        }
+
+        void startPage(int rows) {
+            nulls.clear();
+            if (rows > capacity) {
+                capacity = rows;
+                allocate(rows);
+            }
+        }
+
+        abstract void allocate(int rows);
+
+        abstract void decode(Row cqlRow, int index, int row);
+
+        abstract ColumnarPage.Column column();
+    }
+
+    @FunctionalInterface
+    private interface LongReader {
+        long read(Row row, int index);
+    }
+
+    @FunctionalInterface
+    private interface IntReader {
+        int read(Row row, int index);
+    }
+
+    @FunctionalInterface
+    private interface DoubleReader {
+        double read(Row row, int index);
+    }
+
+    private static class LongDecoder extends ColumnDecoder {
+        private final LongReader reader;
+        private ColumnarPage.LongColumn column;
+        private long[] values;
+
+        LongDecoder(String name, LongReader reader) {
+            super(name);
+            this.reader = reader;
+        }
+
+        @Override
+        void allocate(int rows) {
+            values = new long[rows];
+            column = new ColumnarPage.LongColumn(values, nulls);
+        }
+
+        @Override
+        void decode(Row cqlRow, int index, int row) {
+            values[row] = reader.read(cqlRow, index);
+        }
+
+        @Override
+        ColumnarPage.Column column() {
+            return column;
+        }
+    }
+
+    private static class IntDecoder extends ColumnDecoder {
+        private final IntReader reader;
+        private ColumnarPage.IntColumn column;
+        private int[] values;
+
+        IntDecoder(String name, IntReader reader) {
+            super(name);
+            this.reader = reader;
+        }
+
+        @Override
+        void allocate(int rows) {
+            values = new int[rows];
+            column = new ColumnarPage.IntColumn(values, nulls);
+        }
+
+        @Override
+        void decode(Row cqlRow, int index, int row) {
+            values[row] = reader.read(cqlRow, index);
+        }
+
+        @Override
+        ColumnarPage.Column column() {
+            return column;
+        }
+    }
+
+    private static class DoubleDecoder extends ColumnDecoder {
+        private final DoubleReader reader;
+        private ColumnarPage.DoubleColumn column;
+        private double[] values;
+
+        DoubleDecoder(String name, DoubleReader reader) {
+            super(name);
+            this.reader = reader;
+        }
+
+        @Override
+        void allocate(int rows) {
+            values = new double[rows];
+            column = new ColumnarPage.DoubleColumn(values, nulls);
+        }
+
+        @Override
+        void decode(Row cqlRow, int index, int row) {
+            values[row] = reader.read(cqlRow, index);
+        }
+
+        @Override
+        ColumnarPage.Column column() {
+            return column;
+        }
+    }
+
+    private static class StringDecoder extends ColumnDecoder {
+        private final Map<ByteBuffer, Integer> codesByBytes = new HashMap<>();
+        private final List<String> dictionary = new ArrayList<>();
+        private final List<String> readOnlyDictionary = Collections.unmodifiableList(dictionary);
+        private final int maxSharedDictionarySize;
+        private boolean sharedDictionary = true;
+        private ColumnarPage.StringColumn column;
+        private int[] codes;
+
+        StringDecoder(String name, int maxSharedDictionarySize) {
+            super(name);
+            this.maxSharedDictionarySize = maxSharedDictionarySize;
+        }
+
+        @Override
+        void startPage(int rows) {
+            // Too many distinct values for a query-wide dictionary, only keep the values of the current page
+            if (sharedDictionary && dictionary.size() > maxSharedDictionarySize) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("More than %s distinct values for column %s, switching to a per page dictionary",
+                            maxSharedDictionarySize, name));
+                }
+                sharedDictionary = false;
+                column = null;
+            }
+            if (!sharedDictionary) {
+                codesByBytes.clear();
+                dictionary.clear();
+            }
+            super.startPage(rows);
+            if (column == null) {
+                column = new ColumnarPage.StringColumn(codes, readOnlyDictionary, nulls, sharedDictionary);
+            }
+        }
+
+        @Override
+        void allocate(int rows) {
+            codes = new int[rows];
+            column = null;
+        }
+
+        @Override
+        void decode(Row cqlRow, int index, int row) {
+            final ByteBuffer bytes = cqlRow.getBytesUnsafe(index);
+            Integer code = codesByBytes.get(bytes);
+            if (code == null) {
+                final byte[] copy = new byte[bytes.remaining()];
+                bytes.duplicate().get(copy);
+                code = dictionary.size();
+                dictionary.add(new String(copy, StandardCharsets.UTF_8));
+                codesByBytes.put(ByteBuffer.wrap(copy), code);
+            }
+            codes[row] = code;
+        }
+
+        @Override
+        ColumnarPage.Column column() {
+            return column;
+        }
+    }
+
+    private static class ObjectDecoder extends ColumnDecoder {
+        private ColumnarPage.ObjectColumn column;
+        private Object[] values;
+
+        ObjectDecoder(String name) {
+            super(name);
+        }
+
+        @Override
+        void startPage(int rows) {
+            super.startPage(rows);
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        void allocate(int rows) {
+            values = new Object[rows];
+            column = new ColumnarPage.ObjectColumn(values, nulls);
+        }
+
+        @Override
+        void decode(Row cqlRow, int index, int row) {
+            values[row] = cqlRow.getObject(index);
+        }
+
+        @Override
+        ColumnarPage.Column column() {
+            return column;
+        }
+    }
+}
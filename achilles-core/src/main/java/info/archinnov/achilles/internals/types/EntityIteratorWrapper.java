@@ -31,9 +31,18 @@ import info.archinnov.achilles.internals.options.CassandraOptions;
 import info.archinnov.achilles.internals.statements.StatementWrapper;
 import info.archinnov.achilles.type.interceptor.Event;
 
+/**
+ * Iterator of entities decoded from the rows of a ResultSet.
+ * <br/>
+ * When a <em>prefetchThreshold</em> is set in the options, the next page is fetched
+ * asynchronously as soon as the number of rows left in the current page drops
+ * to the threshold, instead of blocking on the synchronous page fetch once the page is exhausted
+ */
 public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAware {
 
+    private final ResultSet resultSet;
     private final Iterator<Row> delegate;
+    private final int prefetchThreshold;
     private final AbstractEntityProperty<ENTITY> meta;
     private final StatementWrapper statementWrapper;
     private final CassandraOptions options;
@@ -44,18 +53,19 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
         this.meta = meta;
         this.statementWrapper = statementWrapper;
         this.options = cassandraOptions;
+        this.prefetchThreshold = cassandraOptions.getPrefetchThreshold().orElse(0);
         try {
-            this.delegate = Uninterruptibles.getUninterruptibly(futureRS
+            this.resultSet = Uninterruptibles.getUninterruptibly(futureRS
                     .thenApply(cassandraOptions::resultSetAsyncListener)
                     .thenApply(statementWrapper::logTrace)
                     .thenApply(rs -> {
                         EntityIteratorWrapper.this.executionInfo = rs.getExecutionInfo();
                         return rs;
-                    })
-                    .thenApply(rs -> rs.iterator()));
+                    }));
         } catch (ExecutionException e) {
             throw extractCauseFromExecutionException(e);
         }
+        this.delegate = resultSet.iterator();
     }
 
     public ExecutionInfo getExecutionInfo() {
@@ -71,6 +81,7 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
     public ENTITY next() {
         if (delegate.hasNext()) {
             final Row row = delegate.next();
+            maybePrefetchNextPage();
             statementWrapper.logReturnedRow(row);
             options.rowAsyncListener(row);
             final ENTITY instance = meta.createEntityFrom(row);
@@ -80,4 +91,13 @@ public class EntityIteratorWrapper<ENTITY> implements Iterator<ENTITY>, AsyncAwa
             return null;
         }
     }
+
+    private void maybePrefetchNextPage() {
+        // fetchMoreResults() does not trigger a new request if a fetch is already in progress
+        if (prefetchThreshold > 0
+                && resultSet.getAvailableWithoutFetching() <= prefetchThreshold
+                && !resultSet.isFullyFetched()) {
+            resultSet.fetchMoreResults();
+        }
+    }
 }
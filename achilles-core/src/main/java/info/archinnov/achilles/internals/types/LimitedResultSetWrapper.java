@@ -25,7 +25,9 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.google.common.util.concurrent.ListenableFuture;
 
-public class LimitedResultSetWrapper implements ResultSet {
+import info.archinnov.achilles.type.QueryIdAware;
+
+public class LimitedResultSetWrapper implements ResultSet, QueryIdAware {
 
     private final ResultSet delegate;
 
@@ -33,6 +35,14 @@ public class LimitedResultSetWrapper implements ResultSet {
         this.delegate = delegate;
     }
 
+    /**
+     * Id of the query producing the wrapped result set, or 0 if none was assigned
+     */
+    @Override
+    public long getQueryId() {
+        return QueryIdAware.queryIdOf(delegate).orElse(0L);
+    }
+
     @Override
     public ColumnDefinitions getColumnDefinitions() {
         return delegate.getColumnDefinitions();
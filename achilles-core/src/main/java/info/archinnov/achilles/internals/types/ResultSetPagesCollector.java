@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.tuples.Tuple2;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Collect <strong>all</strong> the rows of a SELECT query, mapped by <em>rowMapper</em>,
+ * into a list.
+ * <br/>
+ * Each page is decoded as soon as it is available and the next one is fetched asynchronously
+ * (<em>ResultSet.fetchMoreResults()</em>) so no thread is ever blocked waiting for a page.
+ * Collection stops as soon as <em>maxRows</em> rows have been mapped or the serialized size
+ * of the mapped rows reaches <em>maxBytes</em>, whichever comes first.
+ * <br/>
+ * An instance collects the results of a single query and should not be re-used
+ */
+public class ResultSetPagesCollector<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultSetPagesCollector.class);
+
+    private final StatementWrapper statementWrapper;
+    private final CassandraOptions options;
+    private final Function<Row, T> rowMapper;
+    private final Executor executor;
+    private final int maxRows;
+    private final long maxBytes;
+    private final CompletableFuture<Tuple2<List<T>, ExecutionInfo>> result = new CompletableFuture<>();
+    private ArrayList<T> values;
+    private long collectedBytes = 0L;
+
+    public ResultSetPagesCollector(RuntimeEngine rte, StatementWrapper statementWrapper, CassandraOptions options,
+                                   Function<Row, T> rowMapper, int maxRows, long maxBytes) {
+        this(statementWrapper, options, rowMapper, rte.currentCallbackExecutor(), maxRows, maxBytes);
+    }
+
+    ResultSetPagesCollector(StatementWrapper statementWrapper, CassandraOptions options, Function<Row, T> rowMapper,
+                            Executor executor, int maxRows, long maxBytes) {
+        Validator.validateTrue(maxRows > 0, "The maximum number of rows to collect should be strictly positive, got %s", maxRows);
+        Validator.validateTrue(maxBytes > 0, "The maximum number of bytes to collect should be strictly positive, got %s", maxBytes);
+        this.statementWrapper = statementWrapper;
+        this.options = options;
+        this.rowMapper = rowMapper;
+        this.executor = executor;
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Collect the rows of the given query result, paging through it until it is exhausted
+     * or one of the caps is reached
+     *
+     * @return CompletableFuture&lt;Tuple2&lt;List&lt;T&gt;, ExecutionInfo&gt;&gt; with the execution info of the last fetched page
+     */
+    public CompletableFuture<Tuple2<List<T>, ExecutionInfo>> collect(CompletableFuture<ResultSet> futureRS) {
+        futureRS
+                .thenApply(options::resultSetAsyncListener)
+                .thenApply(statementWrapper::logTrace)
+                .whenComplete((rs, throwable) -> {
+                    if (throwable != null) {
+                        result.completeExceptionally(unwrap(throwable));
+                    } else {
+                        collectPages(rs);
+                    }
+                });
+        return result;
+    }
+
+    private void collectPages(ResultSet rs) {
+        try {
+            final boolean capReached = decodeAvailableRows(rs);
+
+            if (capReached || rs.isFullyFetched()) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Collected %s rows (%s) for query : %s", values.size(),
+                            capReached ? "cap reached" : "fully fetched",
+                            statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+                }
+                result.complete(Tuple2.of(values, rs.getExecutionInfo()));
+            } else {
+                toCompletableFuture(rs.fetchMoreResults(), executor)
+                        .whenComplete((ignored, throwable) -> {
+                            if (throwable != null) {
+                                result.completeExceptionally(unwrap(throwable));
+                            } else {
+                                collectPages(rs);
+                            }
+                        });
+            }
+        } catch (Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Decode the rows of the current page into the result list, pre-sized for the page
+     *
+     * @return whether one of the caps has been reached
+     */
+    private boolean decodeAvailableRows(ResultSet rs) {
+        final int toDecode = Math.min(rs.getAvailableWithoutFetching(), maxRows - (values == null ? 0 : values.size()));
+        if (values == null) {
+            values = new ArrayList<>(toDecode);
+        } else {
+            values.ensureCapacity(values.size() + toDecode);
+        }
+
+        for (int i = 0; i < toDecode; i++) {
+            final Row row = rs.one();
+            statementWrapper.logReturnedRow(row);
+            options.rowAsyncListener(row);
+            values.add(rowMapper.apply(row));
+            if (maxBytes != Long.MAX_VALUE) {
+                collectedBytes += serializedSize(row);
+                if (collectedBytes >= maxBytes) {
+                    return true;
+                }
+            }
+        }
+        return values.size() >= maxRows;
+    }
+
+    private static long serializedSize(Row row) {
+        long size = 0L;
+        final int columnCount = row.getColumnDefinitions().size();
+        for (int i = 0; i < columnCount; i++) {
+            final ByteBuffer bytes = row.getBytesUnsafe(i);
+            if (bytes != null) {
+                size += bytes.remaining();
+            }
+        }
+        return size;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
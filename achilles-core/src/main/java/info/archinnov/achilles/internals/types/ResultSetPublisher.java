@@ -0,0 +1,243 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static info.archinnov.achilles.internals.futures.FutureUtils.toCompletableFuture;
+import static java.lang.String.format;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.runtime.RuntimeEngine;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.reactive.Publisher;
+import info.archinnov.achilles.type.reactive.Subscriber;
+import info.archinnov.achilles.type.reactive.Subscription;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Publisher of the rows of a SELECT query, mapped by <em>rowMapper</em>.
+ * <br/>
+ * The query is executed on the first request of each subscription. Rows are only
+ * emitted when there is demand and the next page is fetched asynchronously
+ * (<em>ResultSet.fetchMoreResults()</em>) only when the current page is exhausted and
+ * the subscriber still has outstanding demand, so no thread is ever blocked
+ * and at most one page is kept in memory.
+ * <br/>
+ * If the subscriber throws from <em>onNext()</em>, the subscription is cancelled and the
+ * exception is signalled to <em>onError()</em>
+ */
+public class ResultSetPublisher<T> implements Publisher<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResultSetPublisher.class);
+
+    private final Supplier<CompletableFuture<ResultSet>> query;
+    private final StatementWrapper statementWrapper;
+    private final CassandraOptions options;
+    private final Function<Row, T> rowMapper;
+    private final Executor executor;
+
+    public ResultSetPublisher(RuntimeEngine rte, StatementWrapper statementWrapper, CassandraOptions options, Function<Row, T> rowMapper) {
+        this(() -> rte.execute(statementWrapper), statementWrapper, options, rowMapper, rte.callbackExecutor);
+    }
+
+    ResultSetPublisher(Supplier<CompletableFuture<ResultSet>> query, StatementWrapper statementWrapper, CassandraOptions options,
+                       Function<Row, T> rowMapper, Executor executor) {
+        this.query = query;
+        this.statementWrapper = statementWrapper;
+        this.options = options;
+        this.rowMapper = rowMapper;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        Validator.validateNotNull(subscriber, "The subscriber should not be null");
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(format("New subscription to publisher for query : %s",
+                    statementWrapper.getBoundStatement().preparedStatement().getQueryString()));
+        }
+        subscriber.onSubscribe(new ResultSetSubscription(subscriber));
+    }
+
+    private class ResultSetSubscription implements Subscription {
+
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong(0L);
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private volatile ResultSet resultSet;
+        private volatile boolean fetching = false;
+        private volatile boolean cancelled = false;
+        private volatile Throwable error;
+        private boolean done = false;
+
+        ResultSetSubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException(format("The requested number of results should be strictly positive, got %s", n));
+                drain();
+                return;
+            }
+
+            demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+
+            if (started.compareAndSet(false, true)) {
+                executeQuery();
+            } else {
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void executeQuery() {
+            final CompletableFuture<ResultSet> futureRS;
+            try {
+                futureRS = query.get();
+            } catch (Throwable throwable) {
+                error = throwable;
+                drain();
+                return;
+            }
+
+            futureRS
+                    .thenApply(options::resultSetAsyncListener)
+                    .thenApply(statementWrapper::logTrace)
+                    .whenComplete((rs, throwable) -> {
+                        if (throwable != null) {
+                            error = unwrap(throwable);
+                        } else {
+                            resultSet = rs;
+                        }
+                        drain();
+                    });
+        }
+
+        private void fetchNextPage(ResultSet rs) {
+            fetching = true;
+            toCompletableFuture(rs.fetchMoreResults(), executor)
+                    .whenComplete((ignored, throwable) -> {
+                        if (throwable != null) {
+                            error = unwrap(throwable);
+                        }
+                        fetching = false;
+                        drain();
+                    });
+        }
+
+        /**
+         * Emit signals to the subscriber. Concurrent calls are serialized: only one thread
+         * emits at a time and re-checks the state if another call happened meanwhile
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                emitLoop();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitLoop() {
+            while (!done && !cancelled) {
+                if (error != null) {
+                    done = true;
+                    signalSafely(() -> subscriber.onError(error));
+                    return;
+                }
+
+                final ResultSet rs = resultSet;
+                if (rs == null || fetching) {
+                    return;
+                }
+
+                if (rs.getAvailableWithoutFetching() == 0) {
+                    if (rs.isFullyFetched()) {
+                        done = true;
+                        signalSafely(subscriber::onComplete);
+                    } else if (demand.get() > 0) {
+                        fetchNextPage(rs);
+                    }
+                    return;
+                }
+
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                final T item;
+                try {
+                    final Row row = rs.one();
+                    statementWrapper.logReturnedRow(row);
+                    options.rowAsyncListener(row);
+                    item = rowMapper.apply(row);
+                } catch (Throwable throwable) {
+                    error = throwable;
+                    continue;
+                }
+
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                try {
+                    subscriber.onNext(item);
+                } catch (Throwable throwable) {
+                    // Reactive Streams rule 2.13: consider the subscription cancelled and report the error
+                    error = throwable;
+                }
+            }
+        }
+
+        private void signalSafely(Runnable signal) {
+            try {
+                signal.run();
+            } catch (Throwable throwable) {
+                LOGGER.error("Error thrown by subscriber while signalling the end of the publication", throwable);
+            }
+        }
+
+        private Throwable unwrap(Throwable throwable) {
+            return throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+        }
+    }
+}
@@ -26,7 +26,9 @@ import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
 import com.google.common.util.concurrent.ListenableFuture;
 
-public class ResultSetWrapper implements ResultSet {
+import info.archinnov.achilles.type.QueryIdAware;
+
+public class ResultSetWrapper implements ResultSet, QueryIdAware {
 
     private final ResultSet delegate;
     private final LinkedList<Row> values = new LinkedList<>();
@@ -35,6 +37,14 @@ public class ResultSetWrapper implements ResultSet {
         this.delegate = delegate;
     }
 
+    /**
+     * Id of the query producing the wrapped result set, or 0 if none was assigned
+     */
+    @Override
+    public long getQueryId() {
+        return QueryIdAware.queryIdOf(delegate).orElse(0L);
+    }
+
     @Override
     public ColumnDefinitions getColumnDefinitions() {
         return delegate.getColumnDefinitions();
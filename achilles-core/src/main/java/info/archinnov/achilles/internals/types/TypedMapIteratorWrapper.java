@@ -20,7 +20,6 @@ import java.util.Iterator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
-import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
@@ -36,7 +35,10 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
     private final Iterator<Row> delegate;
     private final StatementWrapper statementWrapper;
     private final CassandraOptions options;
+    private final TypedMapRowMapper rowMapper = new TypedMapRowMapper();
     private ExecutionInfo executionInfo;
+    private boolean reuseRowBuffer = false;
+    private TypedMap rowBuffer;
 
 
     public TypedMapIteratorWrapper(CompletableFuture<ResultSet> futureRS, StatementWrapper statementWrapper, CassandraOptions cassandraOptions) {
@@ -60,6 +62,14 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
         return this.executionInfo;
     }
 
+    /**
+     * Return the same {@link info.archinnov.achilles.type.TypedMap} instance, refilled, for each row
+     */
+    public TypedMapIteratorWrapper reuseRowBuffer() {
+        this.reuseRowBuffer = true;
+        return this;
+    }
+
     @Override
     public boolean hasNext() {
         return delegate.hasNext();
@@ -71,20 +81,13 @@ public class TypedMapIteratorWrapper implements Iterator<TypedMap>, AsyncAware {
             final Row row = delegate.next();
             statementWrapper.logReturnedRow(row);
             options.rowAsyncListener(row);
-            return mapRowToTypedMap(row);
+            if (reuseRowBuffer) {
+                rowBuffer = rowMapper.applyTo(row, rowBuffer);
+                return rowBuffer;
+            }
+            return rowMapper.apply(row);
         } else {
             return null;
         }
     }
-
-    private TypedMap mapRowToTypedMap(Row row) {
-        final TypedMap typedMap = new TypedMap();
-        if (row != null) {
-            for (ColumnDefinitions.Definition def : row.getColumnDefinitions().asList()) {
-                final String cqlColumn = def.getName();
-                typedMap.put(cqlColumn, row.getObject(cqlColumn));
-            }
-        }
-        return typedMap;
-    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.type.IndexedTypedMap;
+import info.archinnov.achilles.type.IndexedTypedMap.Columns;
+import info.archinnov.achilles.type.TypedMap;
+
+/**
+ * Map {@link com.datastax.driver.core.Row} objects to {@link info.archinnov.achilles.type.IndexedTypedMap}.
+ * <br/>
+ * The {@link info.archinnov.achilles.type.IndexedTypedMap.Columns} dictionary is built once per
+ * {@link com.datastax.driver.core.ColumnDefinitions} instance, so all the rows of a result page share it
+ */
+public class TypedMapRowMapper implements Function<Row, TypedMap> {
+
+    private volatile RowLayout lastLayout;
+
+    @Override
+    public TypedMap apply(Row row) {
+        if (row == null) {
+            return new TypedMap();
+        }
+        final RowLayout layout = layoutFor(row.getColumnDefinitions());
+        return layout.fill(row, new IndexedTypedMap(layout.columns));
+    }
+
+    /**
+     * Map the row into the <em>buffer</em> if it is a compact row with the same columns,
+     * or else into a new {@link info.archinnov.achilles.type.IndexedTypedMap}
+     */
+    public TypedMap applyTo(Row row, TypedMap buffer) {
+        if (row == null) {
+            return new TypedMap();
+        }
+        final RowLayout layout = layoutFor(row.getColumnDefinitions());
+        if (buffer instanceof IndexedTypedMap) {
+            final IndexedTypedMap indexedBuffer = (IndexedTypedMap) buffer;
+            if (indexedBuffer.isCompact() && indexedBuffer.columns() == layout.columns) {
+                return layout.fill(row, indexedBuffer);
+            }
+        }
+        return layout.fill(row, new IndexedTypedMap(layout.columns));
+    }
+
+    private RowLayout layoutFor(ColumnDefinitions definitions) {
+        final RowLayout layout = lastLayout;
+        if (layout != null && layout.definitions == definitions) {
+            return layout;
+        }
+        final RowLayout newLayout = new RowLayout(definitions);
+        lastLayout = newLayout;
+        return newLayout;
+    }
+
+    private static class RowLayout {
+        private final ColumnDefinitions definitions;
+        private final Columns columns;
+        private final int[] rowIndexes;
+
+        RowLayout(ColumnDefinitions definitions) {
+            final int size = definitions.size();
+            final List<String> names = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                names.add(definitions.getName(i));
+            }
+            this.definitions = definitions;
+            this.columns = Columns.of(names);
+            // Like row.getObject(name), a duplicated column name maps to its first occurrence in the row
+            this.rowIndexes = new int[columns.size()];
+            for (int i = size - 1; i >= 0; i--) {
+                rowIndexes[columns.indexOf(names.get(i))] = i;
+            }
+        }
+
+        IndexedTypedMap fill(Row row, IndexedTypedMap typedMap) {
+            for (int slot = 0; slot < rowIndexes.length; slot++) {
+                typedMap.set(slot, row.getObject(rowIndexes[slot]));
+            }
+            return typedMap;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import info.archinnov.achilles.type.OperationType;
+
+
+/**
+ * Metrics registry keeping all metrics in memory, without any external dependency.
+ * <br/>
+ * Usage:
+ * <pre class="code"><code class="java">
+ * InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+ * ManagerFactory factory = ManagerFactoryBuilder.builder(cluster)
+ *     .withMetricsRegistry(metrics)
+ *     .build();
+ *
+ * ...
+ * OperationMetrics selects = metrics.getMetrics(User.class, OperationType.SELECT);
+ * long p99 = selects.getLatency().getPercentile(99, TimeUnit.MILLISECONDS);
+ * </code></pre>
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    private final Map<Class<?>, Map<OperationType, OperationMetrics>> operationMetrics = new ConcurrentHashMap<>();
+    private final Map<Class<?>, LatencyHistogram> decodeLatencies = new ConcurrentHashMap<>();
+
+    @Override
+    public void onRequestStart(Class<?> entityClass, OperationType operationType) {
+        getMetrics(entityClass, operationType).onStart();
+    }
+
+    @Override
+    public void onRequestSuccess(Class<?> entityClass, OperationType operationType, long latencyNanos, int rowCount) {
+        getMetrics(entityClass, operationType).onSuccess(latencyNanos, rowCount);
+    }
+
+    @Override
+    public void onRequestFailure(Class<?> entityClass, OperationType operationType, long latencyNanos, Throwable error) {
+        getMetrics(entityClass, operationType).onFailure(latencyNanos, MetricsRegistry.isTimeout(error));
+    }
+
+    @Override
+    public void onCallbackDispatch(Class<?> entityClass, OperationType operationType, long delayNanos) {
+        getMetrics(entityClass, operationType).onCallbackDispatch(delayNanos);
+    }
+
+    @Override
+    public void onCallbackQueued(Class<?> entityClass, OperationType operationType, int queueDepth) {
+        getMetrics(entityClass, operationType).onCallbackQueued(queueDepth);
+    }
+
+    @Override
+    public void onCallbackRejected(Class<?> entityClass, OperationType operationType) {
+        getMetrics(entityClass, operationType).onCallbackRejected();
+    }
+
+    @Override
+    public void onEntityDecoded(Class<?> entityClass, long decodeNanos) {
+        getDecodeLatency(entityClass).record(decodeNanos);
+    }
+
+    public OperationMetrics getMetrics(Class<?> entityClass, OperationType operationType) {
+        return operationMetrics.computeIfAbsent(entityClass, InMemoryMetricsRegistry::newOperationMetrics).get(operationType);
+    }
+
+    /**
+     * Time spent to map Cassandra rows to instances of <em>entityClass</em>
+     */
+    public LatencyHistogram getDecodeLatency(Class<?> entityClass) {
+        return decodeLatencies.computeIfAbsent(entityClass, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Entity classes for which at least one statement has been executed
+     */
+    public Set<Class<?>> getEntityClasses() {
+        return Collections.unmodifiableSet(operationMetrics.keySet());
+    }
+
+    private static Map<OperationType, OperationMetrics> newOperationMetrics(Class<?> entityClass) {
+        final Map<OperationType, OperationMetrics> metrics = new EnumMap<>(OperationType.class);
+        for (OperationType operationType : OperationType.values()) {
+            metrics.put(operationType, new OperationMetrics());
+        }
+        return Collections.unmodifiableMap(metrics);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds, with a fixed memory footprint.
+ * <br/>
+ * Values are counted in log-linear buckets, the same layout as HdrHistogram: each power of 2
+ * is split into 32 linear buckets, so a recorded value is known with
+ * a relative precision of about 3%
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (64 - SUB_BUCKET_BITS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public void record(long valueNanos) {
+        final long value = Math.max(valueNanos, 0L);
+        counts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        total.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getMin(TimeUnit unit) {
+        return getCount() == 0 ? 0L : unit.convert(min.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMax(TimeUnit unit) {
+        return unit.convert(max.get(), TimeUnit.NANOSECONDS);
+    }
+
+    public long getMean(TimeUnit unit) {
+        final long currentCount = getCount();
+        return currentCount == 0 ? 0L : unit.convert(total.sum() / currentCount, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Value below which <em>percentile</em>% of the recorded values fall, e.g. <em>getPercentile(99.9, MILLISECONDS)</em>
+     */
+    public long getPercentile(double percentile, TimeUnit unit) {
+        Validator.validateTrue(percentile >= 0 && percentile <= 100, "The percentile should be between 0 and 100, got %s", percentile);
+        final long currentCount = getCount();
+        if (currentCount == 0) {
+            return 0L;
+        }
+
+        final long rank = Math.max((long) Math.ceil(percentile / 100 * currentCount), 1L);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return unit.convert(Math.min(highestValueInBucket(i), max.get()), TimeUnit.NANOSECONDS);
+            }
+        }
+        return getMax(unit);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT << 1) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT * (shift + 1) + subBucket;
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKET_COUNT << 1) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("LatencyHistogram{");
+        sb.append("count=").append(getCount());
+        sb.append(", minNanos=").append(getMin(TimeUnit.NANOSECONDS));
+        sb.append(", p50Nanos=").append(getPercentile(50, TimeUnit.NANOSECONDS));
+        sb.append(", p99Nanos=").append(getPercentile(99, TimeUnit.NANOSECONDS));
+        sb.append(", maxNanos=").append(getMax(TimeUnit.NANOSECONDS));
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.ReadTimeoutException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+
+import info.archinnov.achilles.type.OperationType;
+
+
+/**
+ * Interface to be implemented to collect metrics about the statements executed by <strong>Achilles</strong>,
+ * per entity class and operation type.
+ * <br/>
+ * For each statement:
+ * <ol>
+ *     <li><em>onRequestStart()</em> is called before the statement is sent</li>
+ *     <li><em>onRequestSuccess()</em> or <em>onRequestFailure()</em> is called on the driver I/O thread
+ *     as soon as the response is received, with the Cassandra round-trip latency</li>
+ *     <li><em>onCallbackDispatch()</em> is called on the <strong>Achilles</strong> executor thread with
+ *     the delay between the response reception and the execution of the callbacks. <em>onCallbackQueued()</em>
+ *     or <em>onCallbackRejected()</em> is called when the callbacks are submitted to the executor</li>
+ * </ol>
+ * <em>onEntityDecoded()</em> is called each time a row is mapped to an entity.
+ * <br/>
+ * All methods are called concurrently and on latency-sensitive threads, they should not block
+ */
+public interface MetricsRegistry {
+
+    /**
+     * When false, <strong>Achilles</strong> does not call this registry nor measure anything
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    void onRequestStart(Class<?> entityClass, OperationType operationType);
+
+    /**
+     * @param rowCount number of rows in the first page of results
+     */
+    void onRequestSuccess(Class<?> entityClass, OperationType operationType, long latencyNanos, int rowCount);
+
+    void onRequestFailure(Class<?> entityClass, OperationType operationType, long latencyNanos, Throwable error);
+
+    /**
+     * Same as {@link #onRequestStart(Class, OperationType)} with the id of the query, as found in the DML logs,
+     * the query traces and in async listeners with {@link info.archinnov.achilles.type.QueryIdAware#queryIdOf(com.datastax.driver.core.ResultSet)}.
+     * Override the <em>queryId</em> variants to correlate per-query diagnostics
+     */
+    default void onRequestStart(Class<?> entityClass, OperationType operationType, long queryId) {
+        onRequestStart(entityClass, operationType);
+    }
+
+    default void onRequestSuccess(Class<?> entityClass, OperationType operationType, long queryId, long latencyNanos, int rowCount) {
+        onRequestSuccess(entityClass, operationType, latencyNanos, rowCount);
+    }
+
+    default void onRequestFailure(Class<?> entityClass, OperationType operationType, long queryId, long latencyNanos, Throwable error) {
+        onRequestFailure(entityClass, operationType, latencyNanos, error);
+    }
+
+    void onCallbackDispatch(Class<?> entityClass, OperationType operationType, long delayNanos);
+
+    /**
+     * Called when the callbacks are submitted to a <em>ThreadPoolExecutor</em>, with its queue size at that time
+     */
+    default void onCallbackQueued(Class<?> entityClass, OperationType operationType, int queueDepth) {
+    }
+
+    /**
+     * Called when the executor rejects the callbacks, which then run on the driver I/O thread
+     */
+    default void onCallbackRejected(Class<?> entityClass, OperationType operationType) {
+    }
+
+    void onEntityDecoded(Class<?> entityClass, long decodeNanos);
+
+    static boolean isTimeout(Throwable error) {
+        return error instanceof ReadTimeoutException
+                || error instanceof WriteTimeoutException
+                || error instanceof OperationTimedOutException;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import info.archinnov.achilles.type.OperationType;
+
+
+/**
+ * Default metrics registry if none is configured with parameter {@link info.archinnov.achilles.configuration.ConfigurationParameters}.METRICS_REGISTRY.
+ * <br/>
+ * Nothing is measured nor recorded
+ */
+public final class NoOpMetricsRegistry implements MetricsRegistry {
+
+    public static final NoOpMetricsRegistry INSTANCE = new NoOpMetricsRegistry();
+
+    private NoOpMetricsRegistry() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void onRequestStart(Class<?> entityClass, OperationType operationType) {
+    }
+
+    @Override
+    public void onRequestSuccess(Class<?> entityClass, OperationType operationType, long latencyNanos, int rowCount) {
+    }
+
+    @Override
+    public void onRequestFailure(Class<?> entityClass, OperationType operationType, long latencyNanos, Throwable error) {
+    }
+
+    @Override
+    public void onCallbackDispatch(Class<?> entityClass, OperationType operationType, long delayNanos) {
+    }
+
+    @Override
+    public void onEntityDecoded(Class<?> entityClass, long decodeNanos) {
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live metrics of an operation type on an entity class, recorded by {@link InMemoryMetricsRegistry}
+ */
+public class OperationMetrics {
+
+    private final LongAdder inFlight = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram callbackDelay = new LatencyHistogram();
+    private final LongAccumulator maxCallbackQueueDepth = new LongAccumulator(Math::max, 0L);
+    private final LongAdder rejectedCallbacks = new LongAdder();
+
+    void onStart() {
+        inFlight.increment();
+    }
+
+    void onSuccess(long latencyNanos, int rowCount) {
+        inFlight.decrement();
+        successes.increment();
+        rows.add(rowCount);
+        latency.record(latencyNanos);
+    }
+
+    void onFailure(long latencyNanos, boolean timeout) {
+        inFlight.decrement();
+        errors.increment();
+        if (timeout) {
+            timeouts.increment();
+        }
+        latency.record(latencyNanos);
+    }
+
+    void onCallbackDispatch(long delayNanos) {
+        callbackDelay.record(delayNanos);
+    }
+
+    void onCallbackQueued(int queueDepth) {
+        maxCallbackQueueDepth.accumulate(queueDepth);
+    }
+
+    void onCallbackRejected() {
+        rejectedCallbacks.increment();
+    }
+
+    /**
+     * Number of statements sent and not yet answered
+     */
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * Number of answered statements, successful or not
+     */
+    public long getRequestCount() {
+        return successes.sum() + errors.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Number of read, write or client timeouts. Timeouts are also counted as errors
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    public double getErrorRate() {
+        final long requestCount = getRequestCount();
+        return requestCount == 0 ? 0d : (double) getErrorCount() / requestCount;
+    }
+
+    public double getTimeoutRate() {
+        final long requestCount = getRequestCount();
+        return requestCount == 0 ? 0d : (double) getTimeoutCount() / requestCount;
+    }
+
+    /**
+     * Number of rows received in the first page of results
+     */
+    public long getRowCount() {
+        return rows.sum();
+    }
+
+    /**
+     * Round-trip latency to Cassandra, measured on the driver I/O thread
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Delay between the reception of the response and the execution of the callbacks on the executor
+     */
+    public LatencyHistogram getCallbackDelay() {
+        return callbackDelay;
+    }
+
+    /**
+     * Largest executor queue size seen when submitting the callbacks
+     */
+    public long getMaxCallbackQueueDepth() {
+        return maxCallbackQueueDepth.get();
+    }
+
+    /**
+     * Number of callbacks rejected by the executor and run on the driver I/O thread instead
+     */
+    public long getRejectedCallbackCount() {
+        return rejectedCallbacks.sum();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("OperationMetrics{");
+        sb.append("inFlight=").append(getInFlight());
+        sb.append(", requestCount=").append(getRequestCount());
+        sb.append(", errorCount=").append(getErrorCount());
+        sb.append(", timeoutCount=").append(getTimeoutCount());
+        sb.append(", rowCount=").append(getRowCount());
+        sb.append(", latency=").append(latency);
+        sb.append(", callbackDelay=").append(callbackDelay);
+        sb.append(", maxCallbackQueueDepth=").append(getMaxCallbackQueueDepth());
+        sb.append(", rejectedCallbackCount=").append(getRejectedCallbackCount());
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.Row;
+import com.google.common.base.Ticker;
+
+import info.archinnov.achilles.cache.EntityCacheConfig;
+import info.archinnov.achilles.internals.metamodel.AbstractProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong(0L);
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Row row;
+
+    @Mock
+    private AbstractProperty<String, Object, Object> partitionKey;
+
+    @Mock
+    private AbstractProperty<String, Object, Object> clusteringColumn;
+
+    @Test
+    public void should_not_cache_row_read_before_an_invalidation() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.empty(), EntityCacheConfig.maximumWeight(1024));
+        final long epoch = cache.epoch();
+
+        //When
+        cache.invalidateAround(new Object[]{1L, "a"}, () -> CompletableFuture.completedFuture(null)).get();
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, epoch);
+
+        //Then
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isNull();
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, cache.epoch());
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isSameAs(row);
+        assertThat(cache.stats().hitCount()).isEqualTo(1L);
+        assertThat(cache.stats().missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_invalidate_all_rows_of_partition() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.empty(), EntityCacheConfig.maximumWeight(1024));
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, cache.epoch());
+        cache.putIfNotInvalidated(new Object[]{1L, "b"}, row, cache.epoch());
+        cache.putIfNotInvalidated(new Object[]{2L, "a"}, row, cache.epoch());
+
+        //When
+        cache.invalidatePartitionAround(new Object[]{1L}, () -> CompletableFuture.completedFuture(null)).get();
+
+        //Then
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isNull();
+        assertThat(cache.getIfPresent(new Object[]{1L, "b"})).isNull();
+        assertThat(cache.getIfPresent(new Object[]{2L, "a"})).isSameAs(row);
+    }
+
+    @Test
+    public void should_cache_rows_of_partition_read_after_its_invalidation() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.empty(), EntityCacheConfig.maximumWeight(1024));
+        final long epochBeforeInvalidation = cache.epoch();
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, epochBeforeInvalidation);
+        cache.invalidatePartitionAround(new Object[]{1L}, () -> CompletableFuture.completedFuture(null)).get();
+
+        //When
+        cache.putIfNotInvalidated(new Object[]{1L, "b"}, row, epochBeforeInvalidation);
+        cache.putIfNotInvalidated(new Object[]{1L, "c"}, row, cache.epoch());
+
+        //Then
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isNull();
+        assertThat(cache.getIfPresent(new Object[]{1L, "b"})).isNull();
+        assertThat(cache.getIfPresent(new Object[]{1L, "c"})).isSameAs(row);
+        assertThat(cache.size()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_invalidate_row_of_written_entity() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.empty(), EntityCacheConfig.maximumWeight(1024));
+        when(partitionKey.getFieldValue("entity")).thenReturn(1L);
+        when(partitionKey.encodeFromJava(eq(1L), any())).thenReturn(1L);
+        when(clusteringColumn.getFieldValue("entity")).thenReturn("a");
+        when(clusteringColumn.encodeFromJava(eq("a"), any())).thenReturn("a");
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, cache.epoch());
+        cache.putIfNotInvalidated(new Object[]{1L, "b"}, row, cache.epoch());
+
+        //When
+        cache.invalidateAround("entity", false, new CassandraOptions(), () -> CompletableFuture.completedFuture(null)).get();
+
+        //Then
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isNull();
+        assertThat(cache.getIfPresent(new Object[]{1L, "b"})).isSameAs(row);
+    }
+
+    @Test
+    public void should_not_cache_row_written_with_statement_ttl_until_it_elapses() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.empty(), EntityCacheConfig.maximumWeight(1024).timeToLive(60));
+        when(partitionKey.getFieldValue("entity")).thenReturn(1L);
+        when(partitionKey.encodeFromJava(eq(1L), any())).thenReturn(1L);
+        when(clusteringColumn.getFieldValue("entity")).thenReturn("a");
+        when(clusteringColumn.encodeFromJava(eq("a"), any())).thenReturn("a");
+        final CassandraOptions options = new CassandraOptions();
+        options.setTimeToLive(Optional.of(5));
+
+        //When
+        cache.invalidateAround("entity", false, options, () -> CompletableFuture.completedFuture(null)).get();
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, cache.epoch());
+        cache.putIfNotInvalidated(new Object[]{1L, "b"}, row, cache.epoch());
+
+        //Then
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isNull();
+        assertThat(cache.getIfPresent(new Object[]{1L, "b"})).isSameAs(row);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(6));
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, cache.epoch());
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isSameAs(row);
+    }
+
+    @Test
+    public void should_not_cache_rows_of_partition_written_with_static_statement_ttl() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.empty(), EntityCacheConfig.maximumWeight(1024));
+        when(partitionKey.getFieldValue("entity")).thenReturn(1L);
+        when(partitionKey.encodeFromJava(eq(1L), any())).thenReturn(1L);
+        final CassandraOptions options = new CassandraOptions();
+        options.setTimeToLive(Optional.of(5));
+
+        //When
+        cache.invalidateAround("entity", true, options, () -> CompletableFuture.completedFuture(null)).get();
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, cache.epoch());
+        cache.putIfNotInvalidated(new Object[]{2L, "a"}, row, cache.epoch());
+
+        //Then
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isNull();
+        assertThat(cache.getIfPresent(new Object[]{2L, "a"})).isSameAs(row);
+    }
+
+    @Test
+    public void should_expire_rows_after_entity_ttl_when_shorter() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.of(10), EntityCacheConfig.maximumWeight(1024).timeToLive(3600));
+        cache.putIfNotInvalidated(new Object[]{1L, "a"}, row, cache.epoch());
+
+        //When
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(11));
+
+        //Then
+        assertThat(cache.getIfPresent(new Object[]{1L, "a"})).isNull();
+        assertThat(EntityCache.timeToLive(Optional.of(5), Optional.of(10))).isEqualTo(Optional.of(5));
+        assertThat(EntityCache.timeToLive(Optional.empty(), Optional.of(0))).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    public void should_evict_rows_by_serialized_size() throws Exception {
+        //Given
+        final EntityCache<String> cache = newCache(Optional.empty(), EntityCacheConfig.maximumWeight(1000));
+
+        //When
+        for (long id = 0; id < 40; id++) {
+            cache.putIfNotInvalidated(new Object[]{id, "a"}, row, cache.epoch());
+        }
+
+        //Then
+        assertThat(cache.size()).isGreaterThan(0L).isLessThanOrEqualTo(1000L / 64);
+        assertThat(cache.stats().evictionCount()).isEqualTo(40L - cache.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private EntityCache<String> newCache(Optional<Integer> entityTTL, EntityCacheConfig config) {
+        return new EntityCache<>(String.class, new AbstractProperty[]{partitionKey, clusteringColumn}, 1,
+                entityTTL, config, ticker);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatementsCacheTest {
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Test
+    public void should_render_query_string_only_on_shape_cache_miss() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        final AtomicInteger renderCount = new AtomicInteger(0);
+        when(session.prepare("SELECT * FROM ks.table WHERE id=?")).thenReturn(preparedStatement);
+
+        //When
+        final PreparedStatement first = cache.getShapeCache(new QueryShape().add("select.all()").add("where.and(id)"), () -> {
+            renderCount.incrementAndGet();
+            return "SELECT * FROM ks.table WHERE id=?";
+        }, session);
+        final PreparedStatement second = cache.getShapeCache(new QueryShape().add("select.all()").add("where.and(id)"), () -> {
+            renderCount.incrementAndGet();
+            return "SELECT * FROM ks.table WHERE id=?";
+        }, session);
+
+        //Then
+        assertThat(first).isSameAs(preparedStatement);
+        assertThat(second).isSameAs(preparedStatement);
+        assertThat(renderCount.get()).isEqualTo(1);
+        verify(session, times(1)).prepare("SELECT * FROM ks.table WHERE id=?");
+    }
+
+    @Test
+    public void should_not_share_prepared_statement_between_different_shapes() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        final PreparedStatement otherPreparedStatement = mock(PreparedStatement.class);
+        when(session.prepare("SELECT * FROM ks.table WHERE id=?")).thenReturn(preparedStatement);
+        when(session.prepare("SELECT * FROM ks.table WHERE id=? LIMIT ?")).thenReturn(otherPreparedStatement);
+        final QueryShape queryShape = new QueryShape().add("select.all()").add("where.and(id)");
+
+        //When
+        final PreparedStatement first = cache.getShapeCache(queryShape, () -> "SELECT * FROM ks.table WHERE id=?", session);
+        queryShape.add("where.limit(lim)");
+        final PreparedStatement second = cache.getShapeCache(queryShape, () -> "SELECT * FROM ks.table WHERE id=? LIMIT ?", session);
+
+        //Then
+        assertThat(first).isSameAs(preparedStatement);
+        assertThat(second).isSameAs(otherPreparedStatement);
+    }
+
+    @Test
+    public void should_prepare_update_statement_once_per_column_mask() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        final RegularStatement statement = mock(RegularStatement.class);
+        final AtomicInteger generateCount = new AtomicInteger(0);
+        when(session.prepare(statement)).thenReturn(preparedStatement);
+        final BitSet mask = new BitSet();
+        mask.set(0);
+        mask.set(2);
+
+        //When
+        final PreparedStatement first = cache.getColumnMaskCache(new ColumnMaskKey(String.class, null, null, mask, false, false, false), () -> {
+            generateCount.incrementAndGet();
+            return statement;
+        }, session);
+        final PreparedStatement second = cache.getColumnMaskCache(new ColumnMaskKey(String.class, null, null, (BitSet) mask.clone(), false, false, false), () -> {
+            generateCount.incrementAndGet();
+            return statement;
+        }, session);
+        cache.getColumnMaskCache(new ColumnMaskKey(String.class, null, null, mask, false, false, true), () -> {
+            generateCount.incrementAndGet();
+            return statement;
+        }, session);
+
+        //Then
+        assertThat(first).isSameAs(preparedStatement);
+        assertThat(second).isSameAs(preparedStatement);
+        assertThat(generateCount.get()).isEqualTo(2);
+        verify(session, times(2)).prepare(statement);
+    }
+
+    @Test
+    public void should_bound_column_mask_cache_by_lru_size() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(2);
+        final RegularStatement statement = mock(RegularStatement.class);
+        final AtomicInteger generateCount = new AtomicInteger(0);
+        when(session.prepare(statement)).thenReturn(preparedStatement);
+
+        //When
+        for (int i = 0; i < 3; i++) {
+            final BitSet mask = new BitSet();
+            mask.set(i);
+            cache.getColumnMaskCache(new ColumnMaskKey(String.class, null, null, mask, false, false, false), () -> {
+                generateCount.incrementAndGet();
+                return statement;
+            }, session);
+        }
+        final BitSet firstMask = new BitSet();
+        firstMask.set(0);
+        cache.getColumnMaskCache(new ColumnMaskKey(String.class, null, null, firstMask, false, false, false), () -> {
+            generateCount.incrementAndGet();
+            return statement;
+        }, session);
+
+        //Then
+        assertThat(generateCount.get()).isEqualTo(4);
+    }
+}
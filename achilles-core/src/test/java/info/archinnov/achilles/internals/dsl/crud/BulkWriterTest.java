@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.dsl.crud;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.WriteType;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.datastax.driver.core.exceptions.OverloadedException;
+import com.datastax.driver.core.exceptions.UnavailableException;
+import com.datastax.driver.core.exceptions.WriteTimeoutException;
+
+public class BulkWriterTest {
+
+    private static final InetSocketAddress HOST = new InetSocketAddress("127.0.0.1", 9042);
+
+    @Test
+    public void should_retry_unavailable_and_overloaded_errors() throws Exception {
+        //Given
+        final UnavailableException unavailable = new UnavailableException(ConsistencyLevel.QUORUM, 2, 1);
+        final OverloadedException overloaded = new OverloadedException(HOST, "overloaded");
+
+        //When
+        //Then
+        assertThat(BulkWriter.isRetryable(unavailable, false)).isTrue();
+        assertThat(BulkWriter.isRetryable(overloaded, false)).isTrue();
+    }
+
+    @Test
+    public void should_retry_timeouts_only_for_idempotent_statements() throws Exception {
+        //Given
+        final WriteTimeoutException writeTimeout = new WriteTimeoutException(ConsistencyLevel.ONE, WriteType.UNLOGGED_BATCH, 0, 1);
+        final OperationTimedOutException clientTimeout = new OperationTimedOutException(HOST);
+
+        //When
+        //Then
+        assertThat(BulkWriter.isRetryable(writeTimeout, true)).isTrue();
+        assertThat(BulkWriter.isRetryable(clientTimeout, true)).isTrue();
+        assertThat(BulkWriter.isRetryable(writeTimeout, false)).isFalse();
+        assertThat(BulkWriter.isRetryable(clientTimeout, false)).isFalse();
+    }
+
+    @Test
+    public void should_not_retry_other_errors() throws Exception {
+        //Given
+        final InvalidQueryException invalidQuery = new InvalidQueryException("unconfigured table");
+
+        //When
+        //Then
+        assertThat(BulkWriter.isRetryable(invalidQuery, true)).isFalse();
+        assertThat(BulkWriter.isRetryable(new IllegalStateException("mapping error"), true)).isFalse();
+    }
+
+    @Test
+    public void should_retry_no_host_available_only_when_all_errors_are_retryable() throws Exception {
+        //Given
+        final NoHostAvailableException retryable = new NoHostAvailableException(
+                Collections.singletonMap(HOST, new OverloadedException(HOST, "overloaded")));
+        final NoHostAvailableException notRetryable = new NoHostAvailableException(
+                Collections.singletonMap(HOST, new InvalidQueryException("unconfigured table")));
+
+        //When
+        //Then
+        assertThat(BulkWriter.isRetryable(retryable, false)).isTrue();
+        assertThat(BulkWriter.isRetryable(notRetryable, false)).isFalse();
+        assertThat(BulkWriter.isRetryable(new NoHostAvailableException(Collections.emptyMap()), false)).isFalse();
+    }
+
+    @Test
+    public void should_double_retry_delay_at_each_attempt() throws Exception {
+        //Given
+        final long baseDelayMillis = 100;
+
+        //When
+        final long firstDelay = BulkWriter.retryDelayMillis(baseDelayMillis, 0);
+        final long secondDelay = BulkWriter.retryDelayMillis(baseDelayMillis, 1);
+        final long thirdDelay = BulkWriter.retryDelayMillis(baseDelayMillis, 2);
+
+        //Then
+        assertThat(firstDelay).isBetween(50L, 100L);
+        assertThat(secondDelay).isBetween(100L, 200L);
+        assertThat(thirdDelay).isBetween(200L, 400L);
+    }
+
+    @Test
+    public void should_cap_retry_delay() throws Exception {
+        //Given
+        final long baseDelayMillis = 100;
+
+        //When
+        final long delay = BulkWriter.retryDelayMillis(baseDelayMillis, 30);
+        final long overflowingDelay = BulkWriter.retryDelayMillis(Long.MAX_VALUE / 2, 10);
+
+        //Then
+        assertThat(delay).isBetween(BulkWriter.MAX_RETRY_DELAY_MILLIS / 2, BulkWriter.MAX_RETRY_DELAY_MILLIS);
+        assertThat(overflowingDelay).isBetween(BulkWriter.MAX_RETRY_DELAY_MILLIS / 2, BulkWriter.MAX_RETRY_DELAY_MILLIS);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+
+import info.archinnov.achilles.internals.factory.UserTypeFactory;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnInfo;
+import info.archinnov.achilles.internals.metamodel.columns.ColumnType;
+import info.archinnov.achilles.internals.metamodel.columns.FieldInfo;
+import info.archinnov.achilles.internals.metamodel.index.IndexInfo;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.strategy.naming.InternalNamingStrategy;
+import info.archinnov.achilles.type.SchemaNameProvider;
+
+public class AbstractUDTClassPropertyTest {
+
+    private final UserTypeFactory userTypeFactory = new UserTypeFactory(ProtocolVersion.V4, CodecRegistry.DEFAULT_INSTANCE);
+
+    private final OuterUDTMeta outerMeta = new OuterUDTMeta();
+
+    @Before
+    public void setUp() {
+        outerMeta.inject(userTypeFactory, null);
+        outerMeta.injectKeyspace("ks");
+    }
+
+    @Test
+    public void should_return_cached_user_type_for_same_keyspace() throws Exception {
+        //Given
+        final UserType userType = outerMeta.getUserType(false, Optional.empty());
+
+        //When
+        final UserType cachedUserType = outerMeta.getUserType(false, Optional.empty());
+        final UserType frozenUserType = outerMeta.getUserType(true, Optional.empty());
+
+        //Then
+        assertThat(cachedUserType).isSameAs(userType);
+        assertThat(frozenUserType).isNotSameAs(userType);
+        assertThat(frozenUserType.isFrozen()).isTrue();
+        assertThat(outerMeta.getUserType(true, Optional.empty())).isSameAs(frozenUserType);
+    }
+
+    @Test
+    public void should_clear_cached_user_type_on_injection() throws Exception {
+        //Given
+        final UserType userType = outerMeta.getUserType(false, Optional.empty());
+
+        //When
+        outerMeta.inject(userTypeFactory, null);
+        final UserType rebuiltUserType = outerMeta.getUserType(false, Optional.empty());
+        outerMeta.injectKeyspace("other_ks");
+        final UserType otherKeyspaceUserType = outerMeta.getUserType(false, Optional.empty());
+
+        //Then
+        assertThat(rebuiltUserType).isNotSameAs(userType);
+        assertThat(otherKeyspaceUserType.getKeyspace()).isEqualTo("other_ks");
+        assertThat(((UserType) otherKeyspaceUserType.getFieldType("nested")).getKeyspace()).isEqualTo("other_ks");
+    }
+
+    @Test
+    public void should_resolve_nested_udt_keyspace_for_each_schema_name_provider() throws Exception {
+        //Given
+        final Optional<CassandraOptions> firstOptions = Optional.of(CassandraOptions
+                .withSchemaNameProvider(schemaNameProvider("ks1", "nested_ks1")));
+        final Optional<CassandraOptions> secondOptions = Optional.of(CassandraOptions
+                .withSchemaNameProvider(schemaNameProvider("ks1", "nested_ks2")));
+
+        //When
+        final UserType firstUserType = outerMeta.getUserType(false, firstOptions);
+        final UserType secondUserType = outerMeta.getUserType(false, secondOptions);
+
+        //Then
+        assertThat(firstUserType.getKeyspace()).isEqualTo("ks1");
+        assertThat(secondUserType.getKeyspace()).isEqualTo("ks1");
+        assertThat(((UserType) firstUserType.getFieldType("nested")).getKeyspace()).isEqualTo("nested_ks1");
+        assertThat(((UserType) secondUserType.getFieldType("nested")).getKeyspace()).isEqualTo("nested_ks2");
+        assertThat(outerMeta.getUserType(false, firstOptions)).isSameAs(firstUserType);
+    }
+
+    private SchemaNameProvider schemaNameProvider(String outerKeyspace, String nestedKeyspace) {
+        return new SchemaNameProvider() {
+            @Override
+            public <T> String keyspaceFor(Class<T> entityClass) {
+                return entityClass.equals(NestedUDT.class) ? nestedKeyspace : outerKeyspace;
+            }
+
+            @Override
+            public <T> String tableNameFor(Class<T> entityClass) {
+                return entityClass.getSimpleName();
+            }
+        };
+    }
+
+    private static abstract class TestUDTMeta extends AbstractUDTClassProperty<Object> {
+        @Override
+        protected Optional<String> getStaticKeyspace() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<InternalNamingStrategy> getStaticNamingStrategy() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Optional<String> getStaticUdtName() {
+            return Optional.empty();
+        }
+
+        @Override
+        protected Class<Object> getUdtClass() {
+            return Object.class;
+        }
+
+        @Override
+        protected List<AbstractProperty<Object, ?, ?>> getConstructorInjectedProperty() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected UDTValue createUDTFromBean(Object instance, boolean frozen, Optional<CassandraOptions> cassandraOptions) {
+            return null;
+        }
+
+        @Override
+        protected Object newInstanceFromCustomConstructor(UDTValue udtValue) {
+            return null;
+        }
+    }
+
+    private static class NestedUDTMeta extends TestUDTMeta {
+        @Override
+        protected String getUdtName() {
+            return "nested_udt";
+        }
+
+        @Override
+        protected List<AbstractProperty<Object, ?, ?>> getComponentsProperty() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected Class<?> getParentEntityClass() {
+            return NestedUDT.class;
+        }
+    }
+
+    private static class OuterUDTMeta extends TestUDTMeta {
+        private static final UDTProperty<Object, NestedUDTMeta, Object> nested = new UDTProperty<>(
+                new FieldInfo<>(entity -> null, (entity, value) -> {}, "nested", "nested",
+                        ColumnType.NORMAL, new ColumnInfo(true), IndexInfo.noIndex()),
+                Object.class, new NestedUDTMeta());
+
+        @Override
+        protected String getUdtName() {
+            return "outer_udt";
+        }
+
+        @Override
+        protected List<AbstractProperty<Object, ?, ?>> getComponentsProperty() {
+            return Arrays.asList(nested);
+        }
+
+        @Override
+        protected Class<?> getParentEntityClass() {
+            return OuterUDT.class;
+        }
+    }
+
+    private static class OuterUDT {
+    }
+
+    private static class NestedUDT {
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.metamodel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+@RunWith(MockitoJUnitRunner.class)
+public class RowDecodingPlanTest {
+
+    @Mock
+    private AbstractProperty<Object, Long, Long> id;
+
+    @Mock
+    private AbstractProperty<Object, String, String> value;
+
+    @Mock
+    private AbstractProperty<Object, String, String> name;
+
+    @Mock
+    private Row row;
+
+    @Test
+    public void should_map_properties_to_column_indexes() throws Exception {
+        //Given
+        final ColumnDefinitions definitions = columnDefinitions("id", "value", "name");
+        stubColumns();
+
+        //When
+        final RowDecodingPlan<Object> plan = new RowDecodingPlan<>(definitions, allColumns(), Collections.emptyList());
+
+        //Then
+        assertThat(plan.cqlColumns).containsExactly("id", "value", "name");
+        assertThat(plan.columnIndexes).containsExactly(0, 1, 2);
+        assertThat(plan.isPlanFor(definitions)).isTrue();
+        assertThat(plan.isPlanFor(columnDefinitions("id", "value", "name"))).isFalse();
+    }
+
+    @Test
+    public void should_map_reordered_columns() throws Exception {
+        //Given
+        final ColumnDefinitions definitions = columnDefinitions("name", "id", "value");
+        stubColumns();
+
+        //When
+        final RowDecodingPlan<Object> plan = new RowDecodingPlan<>(definitions, allColumns(), Collections.emptyList());
+
+        //Then
+        assertThat(plan.cqlColumns).containsExactly("name", "id", "value");
+        assertThat(plan.columnIndexes).containsExactly(1, 2, 0);
+    }
+
+    @Test
+    public void should_mark_missing_columns_as_absent() throws Exception {
+        //Given
+        final ColumnDefinitions definitions = columnDefinitions("value", "id");
+        stubColumns();
+
+        //When
+        final RowDecodingPlan<Object> plan = new RowDecodingPlan<>(definitions, allColumns(), Collections.emptyList());
+
+        //Then
+        assertThat(plan.columnIndexes).containsExactly(1, 0, RowDecodingPlan.ABSENT);
+    }
+
+    @Test
+    public void should_decode_properties_not_injected_by_constructor() throws Exception {
+        //Given
+        final ColumnDefinitions definitions = columnDefinitions("value", "id");
+        stubColumns();
+        final Object instance = new Object();
+        final RowDecodingPlan<Object> plan = new RowDecodingPlan<>(definitions, allColumns(), Arrays.asList(id));
+
+        //When
+        plan.decodeInto(row, instance);
+
+        //Then
+        verify(id, never()).decodeField(row, instance);
+        verify(id, never()).decodeField(eq(row), anyInt(), eq(instance));
+        verify(value).decodeField(row, 0, instance);
+        verify(name).decodeField(row, instance);
+    }
+
+    private void stubColumns() {
+        when(id.getColumnForSelect()).thenReturn("id");
+        when(value.getColumnForSelect()).thenReturn("value");
+        when(name.getColumnForSelect()).thenReturn("name");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<AbstractProperty<Object, ?, ?>> allColumns() {
+        return Arrays.asList(id, value, name);
+    }
+
+    private static ColumnDefinitions columnDefinitions(String... columns) throws Exception {
+        // Definition has a package-private constructor and final equals() that cannot be mocked
+        final Constructor<ColumnDefinitions.Definition> constructor = ColumnDefinitions.Definition.class
+                .getDeclaredConstructor(String.class, String.class, String.class, DataType.class);
+        constructor.setAccessible(true);
+        final List<ColumnDefinitions.Definition> list = new ArrayList<>();
+        for (String column : columns) {
+            list.add(constructor.newInstance("ks", "table", column, DataType.text()));
+        }
+        final ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+        when(definitions.asList()).thenReturn(list);
+        return definitions;
+    }
+}
@@ -63,6 +63,29 @@ public class EntityParserTest extends AbstractTestProcessor {
 
     }
 
+    @Test
+    public void should_set_entity_as_originating_element_of_meta_class_javac() throws Exception {
+        //Given
+        setExec(aptUtils -> {
+            try {
+                final EntityParser parser = new EntityParser(aptUtils);
+                final TypeElement typeElement = aptUtils.elementUtils.getTypeElement(TestEntityWithComplexTypes.class.getCanonicalName());
+                final EntityMetaCodeGen.EntityMetaSignature metaSignature = parser.parseEntity(typeElement, globalParsingContext);
+
+                assertThat(metaSignature.sourceCode.originatingElements).containsExactly(typeElement);
+            } catch (Exception ex) {
+                ex.printStackTrace();
+                aptUtils.messager.printMessage(Diagnostic.Kind.ERROR, ex.getMessage());
+            }
+        });
+
+        Truth.ASSERT.about(JavaSourceSubjectFactory.javaSource())
+                .that(loadClass(TestEntityForAnnotationTree.class))
+                .processedWith(this)
+                .compilesWithoutError();
+
+    }
+
     @Test
     public void should_generate_meta_signature_for_view_javac() throws Exception {
         //Given
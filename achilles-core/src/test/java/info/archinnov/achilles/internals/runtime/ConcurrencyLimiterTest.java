@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+import com.google.common.base.Ticker;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig;
+import info.archinnov.achilles.exception.AchillesConcurrencyLimitException;
+
+public class ConcurrencyLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(0L);
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    private final ResultSet resultSet = mock(ResultSet.class);
+
+    @Test
+    public void should_queue_statement_and_start_it_on_release() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(1)
+                .maxLimit(1)
+                .queueWhenLimitReached(10), ticker);
+        final SettableFuture<ResultSet> first = SettableFuture.create();
+        final SettableFuture<ResultSet> second = SettableFuture.create();
+
+        //When
+        final ListenableFuture<ResultSet> firstResult = limiter.submit(() -> first);
+        final ListenableFuture<ResultSet> secondResult = limiter.submit(() -> second);
+
+        //Then
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueSize()).isEqualTo(1);
+
+        first.set(resultSet);
+        assertThat(firstResult.get()).isSameAs(resultSet);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueSize()).isEqualTo(0);
+        assertThat(secondResult.isDone()).isFalse();
+
+        second.set(resultSet);
+        assertThat(secondResult.get()).isSameAs(resultSet);
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_not_send_queued_statement_cancelled_before_release() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(1)
+                .maxLimit(1)
+                .queueWhenLimitReached(10), ticker);
+        final SettableFuture<ResultSet> first = SettableFuture.create();
+        final SettableFuture<ResultSet> third = SettableFuture.create();
+        final AtomicLong sentCount = new AtomicLong(0L);
+        limiter.submit(() -> first);
+        final ListenableFuture<ResultSet> cancelled = limiter.submit(() -> {
+            sentCount.incrementAndGet();
+            return SettableFuture.create();
+        });
+        final ListenableFuture<ResultSet> thirdResult = limiter.submit(() -> third);
+
+        //When
+        cancelled.cancel(true);
+        first.set(resultSet);
+
+        //Then
+        assertThat(sentCount.get()).isEqualTo(0L);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueSize()).isEqualTo(0);
+
+        third.set(resultSet);
+        assertThat(thirdResult.get()).isSameAs(resultSet);
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_drain_queued_statements_completing_synchronously_without_recursion() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(1)
+                .maxLimit(1)
+                .queueWhenLimitReached(100000), ticker);
+        final SettableFuture<ResultSet> first = SettableFuture.create();
+        limiter.submit(() -> first);
+        final List<ListenableFuture<ResultSet>> queued = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            queued.add(limiter.submit(() -> Futures.immediateFuture(resultSet)));
+        }
+
+        //When
+        first.set(resultSet);
+
+        //Then
+        assertThat(queued.get(queued.size() - 1).get()).isSameAs(resultSet);
+        assertThat(limiter.getQueueSize()).isEqualTo(0);
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_queue_statements_by_default() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(1), ticker);
+        limiter.submit(SettableFuture::create);
+
+        //When
+        final ListenableFuture<ResultSet> queued = limiter.submit(SettableFuture::create);
+
+        //Then
+        assertThat(queued.isDone()).isFalse();
+        assertThat(limiter.getQueueSize()).isEqualTo(1);
+        assertThat(limiter.getRejectedCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_reject_statement_when_limit_reached() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(1)
+                .failWhenLimitReached(), ticker);
+        limiter.submit(SettableFuture::create);
+
+        //When
+        final ListenableFuture<ResultSet> rejected = limiter.submit(SettableFuture::create);
+
+        //Then
+        assertThat(rejected.isDone()).isTrue();
+        Throwable failure = null;
+        try {
+            rejected.get();
+        } catch (ExecutionException ex) {
+            failure = ex.getCause();
+        }
+        assertThat(failure).isInstanceOf(AchillesConcurrencyLimitException.class);
+        assertThat(limiter.getRejectedCount()).isEqualTo(1L);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_decrease_limit_on_timeout_and_slow_response() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(100)
+                .latencyThreshold(10, TimeUnit.MILLISECONDS)
+                .backoffRatio(0.5), ticker);
+        final SettableFuture<ResultSet> timedOut = SettableFuture.create();
+        final SettableFuture<ResultSet> slow = SettableFuture.create();
+        limiter.submit(() -> timedOut);
+        limiter.submit(() -> slow);
+
+        //When
+        timedOut.setException(new OperationTimedOutException(null));
+
+        //Then
+        assertThat(limiter.getLimit()).isEqualTo(50);
+
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(20));
+        slow.set(resultSet);
+        assertThat(limiter.getLimit()).isEqualTo(25);
+        assertThat(limiter.getInFlight()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_decrease_limit_on_timeout_wrapped_in_no_host_available() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(100)
+                .backoffRatio(0.5), ticker);
+        final SettableFuture<ResultSet> timedOut = SettableFuture.create();
+        limiter.submit(() -> timedOut);
+
+        //When
+        timedOut.setException(new NoHostAvailableException(Collections.singletonMap(
+                new InetSocketAddress("127.0.0.1", 9042), new OperationTimedOutException(null))));
+
+        //Then
+        assertThat(limiter.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    public void should_increase_limit_when_saturated_with_fast_responses() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .aimd()
+                .initialLimit(2)
+                .maxLimit(3)
+                .latencyThreshold(10, TimeUnit.MILLISECONDS), ticker);
+
+        //When
+        for (int i = 0; i < 5; i++) {
+            final SettableFuture<ResultSet> first = SettableFuture.create();
+            limiter.submit(() -> first);
+            limiter.submit(SettableFuture::create);
+            first.set(resultSet);
+        }
+
+        //Then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    public void should_shrink_gradient_limit_when_latency_rises() throws Exception {
+        //Given
+        final ConcurrencyLimiter limiter = new ConcurrencyLimiter("ks", ConcurrencyLimiterConfig
+                .gradient()
+                .initialLimit(4)
+                .smoothing(1.0), ticker);
+        completeAfter(limiter, 4, TimeUnit.MILLISECONDS.toNanos(1));
+        final int limitWithLowLatency = limiter.getLimit();
+
+        //When
+        completeAfter(limiter, limitWithLowLatency, TimeUnit.MILLISECONDS.toNanos(50));
+
+        //Then
+        assertThat(limitWithLowLatency).isGreaterThan(4);
+        assertThat(limiter.getLimit()).isLessThan(limitWithLowLatency);
+    }
+
+    private void completeAfter(ConcurrencyLimiter limiter, int count, long latencyNanos) {
+        final List<SettableFuture<ResultSet>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final SettableFuture<ResultSet> future = SettableFuture.create();
+            futures.add(future);
+            limiter.submit(() -> future);
+        }
+        nanos.addAndGet(latencyNanos);
+        for (SettableFuture<ResultSet> future : futures) {
+            future.set(resultSet);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.statements;
+
+import static info.archinnov.achilles.internals.cache.CacheKey.Operation.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.internals.cache.CacheKey;
+import info.archinnov.achilles.internals.cache.StatementsCache;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncStatementsPreparerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private RegularStatement statement;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void should_prepare_all_statements_and_put_them_into_static_cache() throws Exception {
+        //Given
+        final StatementsCache cache = new StatementsCache(10);
+        when(session.prepareAsync(any(RegularStatement.class))).thenReturn(Futures.immediateFuture(preparedStatement));
+        final AsyncStatementsPreparer preparer = new AsyncStatementsPreparer(session, cache, executor, 2);
+
+        final Map<Class<?>, Map<CacheKey, RegularStatement>> statements = new LinkedHashMap<>();
+        statements.put(String.class, statementsFor(String.class));
+        statements.put(Long.class, statementsFor(Long.class));
+
+        //When
+        final Map<Class<?>, Long> timings = preparer.prepareAll(statements);
+
+        //Then
+        assertThat(timings.keySet()).containsExactly(String.class, Long.class);
+        assertThat(cache.getStaticCache(new CacheKey(String.class, INSERT))).isSameAs(preparedStatement);
+        assertThat(cache.getStaticCache(new CacheKey(String.class, FIND))).isSameAs(preparedStatement);
+        assertThat(cache.getStaticCache(new CacheKey(Long.class, DELETE))).isSameAs(preparedStatement);
+        verify(session, times(6)).prepareAsync(statement);
+    }
+
+    @Test
+    public void should_limit_in_flight_prepare_requests() throws Exception {
+        //Given
+        final AtomicInteger inFlight = new AtomicInteger(0);
+        final AtomicInteger maxInFlight = new AtomicInteger(0);
+        when(session.prepareAsync(any(RegularStatement.class))).then(invocation -> {
+            final SettableFuture<PreparedStatement> future = SettableFuture.create();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            scheduler.schedule(() -> {
+                inFlight.decrementAndGet();
+                future.set(preparedStatement);
+            }, 5, TimeUnit.MILLISECONDS);
+            return future;
+        });
+        final AsyncStatementsPreparer preparer = new AsyncStatementsPreparer(session, new StatementsCache(10), executor, 2);
+
+        final Map<Class<?>, Map<CacheKey, RegularStatement>> statements = new LinkedHashMap<>();
+        statements.put(String.class, statementsFor(String.class));
+        statements.put(Long.class, statementsFor(Long.class));
+        statements.put(Integer.class, statementsFor(Integer.class));
+
+        //When
+        preparer.prepareAll(statements);
+
+        //Then
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        verify(session, times(9)).prepareAsync(statement);
+    }
+
+    @Test
+    public void should_raise_exception_when_a_prepare_request_fails() throws Exception {
+        //Given
+        final IllegalStateException failure = new IllegalStateException("prepare failure");
+        when(session.prepareAsync(any(RegularStatement.class)))
+                .thenReturn(Futures.immediateFuture(preparedStatement))
+                .thenReturn(Futures.immediateFailedFuture(failure));
+        final AsyncStatementsPreparer preparer = new AsyncStatementsPreparer(session, new StatementsCache(10), executor, 4);
+
+        final Map<Class<?>, Map<CacheKey, RegularStatement>> statements = new LinkedHashMap<>();
+        statements.put(String.class, statementsFor(String.class));
+
+        //When
+        AchillesException exception = null;
+        try {
+            preparer.prepareAll(statements);
+        } catch (AchillesException ex) {
+            exception = ex;
+        }
+
+        //Then
+        assertThat(exception).isNotNull();
+        assertThat(exception.getCause()).isSameAs(failure);
+    }
+
+    private Map<CacheKey, RegularStatement> statementsFor(Class<?> entityClass) {
+        final Map<CacheKey, RegularStatement> statements = new LinkedHashMap<>();
+        statements.put(new CacheKey(entityClass, INSERT), statement);
+        statements.put(new CacheKey(entityClass, DELETE), statement);
+        statements.put(new CacheKey(entityClass, FIND), statement);
+        return statements;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.ColumnarPage;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ColumnarPagesDecoderTest {
+
+    private final ExecutorService executor = MoreExecutors.newDirectExecutorService();
+
+    private final CassandraOptions options = new CassandraOptions();
+
+    private final LinkedList<List<Row>> pages = new LinkedList<>();
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private StatementWrapper statementWrapper;
+
+    @Mock
+    private ColumnDefinitions columnDefinitions;
+
+    @Mock
+    private ExecutionInfo executionInfo;
+
+    @Before
+    public void setUp() {
+        when(statementWrapper.logTrace(resultSet)).thenReturn(resultSet);
+        when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+        when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+        when(resultSet.getAvailableWithoutFetching()).thenAnswer(invocation -> pages.isEmpty() ? 0 : pages.getFirst().size());
+        when(resultSet.isFullyFetched()).thenAnswer(invocation -> pages.size() <= 1);
+        when(resultSet.one()).thenAnswer(invocation -> pages.getFirst().remove(0));
+        when(resultSet.fetchMoreResults()).thenAnswer(invocation -> {
+            pages.removeFirst();
+            return Futures.immediateFuture(resultSet);
+        });
+
+        when(columnDefinitions.size()).thenReturn(3);
+        when(columnDefinitions.getName(0)).thenReturn("id");
+        when(columnDefinitions.getType(0)).thenReturn(DataType.bigint());
+        when(columnDefinitions.getName(1)).thenReturn("sensor_value");
+        when(columnDefinitions.getType(1)).thenReturn(DataType.cdouble());
+        when(columnDefinitions.getName(2)).thenReturn("type");
+        when(columnDefinitions.getType(2)).thenReturn(DataType.text());
+    }
+
+    @Test
+    public void should_decode_all_pages_into_columns() throws Exception {
+        //Given
+        pages.add(new ArrayList<>(Arrays.asList(row(1L, 10.5, "TEMPERATURE"), row(2L, null, "PRESSURE"))));
+        pages.add(new ArrayList<>(Arrays.asList(row(3L, 12.0, "TEMPERATURE"))));
+        final List<String> decoded = new ArrayList<>();
+
+        //When
+        final ExecutionInfo actual = new ColumnarPagesDecoder(statementWrapper, options, ImmutableMap.of("value", "sensor_value"),
+                page -> {
+                    final ColumnarPage.LongColumn ids = page.longColumn("id");
+                    final ColumnarPage.DoubleColumn values = page.doubleColumn("value");
+                    final ColumnarPage.StringColumn types = page.stringColumn("type");
+                    for (int row = 0; row < page.rowCount(); row++) {
+                        decoded.add(ids.get(row) + ":" + (values.isNull(row) ? "null" : values.get(row))
+                                + ":" + types.get(row) + ":" + types.code(row));
+                    }
+                }, executor)
+                .decode(CompletableFuture.completedFuture(resultSet))
+                .get();
+
+        //Then
+        assertThat(actual).isSameAs(executionInfo);
+        assertThat(decoded).containsExactly("1:10.5:TEMPERATURE:0", "2:null:PRESSURE:1", "3:12.0:TEMPERATURE:0");
+        verify(resultSet, times(1)).fetchMoreResults();
+    }
+
+    @Test
+    public void should_switch_to_per_page_dictionary_when_too_many_distinct_values() throws Exception {
+        //Given
+        pages.add(new ArrayList<>(Arrays.asList(row(1L, 1.0, "a"), row(2L, 2.0, "b"), row(3L, 3.0, "c"))));
+        pages.add(new ArrayList<>(Arrays.asList(row(4L, 4.0, "d"), row(5L, 5.0, "a"))));
+        pages.add(new ArrayList<>(Arrays.asList(row(6L, 6.0, "e"))));
+        final List<String> decoded = new ArrayList<>();
+
+        //When
+        new ColumnarPagesDecoder(statementWrapper, options, ImmutableMap.of(),
+                page -> {
+                    final ColumnarPage.StringColumn types = page.stringColumn("type");
+                    for (int row = 0; row < page.rowCount(); row++) {
+                        decoded.add(types.get(row) + ":" + types.code(row) + ":" + types.isDictionaryShared());
+                    }
+                    decoded.add("dictionary size " + types.dictionary().size());
+                }, executor, 2)
+                .decode(CompletableFuture.completedFuture(resultSet))
+                .get();
+
+        //Then
+        assertThat(decoded).containsExactly(
+                "a:0:true", "b:1:true", "c:2:true", "dictionary size 3",
+                "d:0:false", "a:1:false", "dictionary size 2",
+                "e:0:false", "dictionary size 1");
+    }
+
+    @Test
+    public void should_fail_when_column_is_not_decoded_as_requested_type() throws Exception {
+        //Given
+        pages.add(new ArrayList<>(Arrays.asList(row(1L, 10.5, "TEMPERATURE"))));
+
+        //When
+        Throwable actual = null;
+        try {
+            new ColumnarPagesDecoder(statementWrapper, options, ImmutableMap.of(), page -> page.intColumn("id"), executor)
+                    .decode(CompletableFuture.completedFuture(resultSet))
+                    .get();
+        } catch (ExecutionException e) {
+            actual = e.getCause();
+        }
+
+        //Then
+        assertThat(actual).hasMessage("Column 'id' is decoded as LongColumn, not as IntColumn");
+    }
+
+    private Row row(long id, Double value, String type) {
+        final Row row = mock(Row.class);
+        when(row.isNull(1)).thenReturn(value == null);
+        when(row.getLong(0)).thenReturn(id);
+        if (value != null) {
+            when(row.getDouble(1)).thenReturn(value);
+        }
+        when(row.getBytesUnsafe(2)).thenReturn(ByteBuffer.wrap(type.getBytes(StandardCharsets.UTF_8)));
+        return row;
+    }
+}
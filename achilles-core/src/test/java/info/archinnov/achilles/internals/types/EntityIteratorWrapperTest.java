@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.internals.metamodel.AbstractEntityProperty;
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityIteratorWrapperTest {
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private AbstractEntityProperty<String> meta;
+
+    @Mock
+    private StatementWrapper statementWrapper;
+
+    @Mock
+    private Row row;
+
+    @Before
+    public void setUp() {
+        final List<Row> rows = Arrays.asList(row, row, row, row, row);
+        when(resultSet.iterator()).thenReturn(rows.iterator());
+        when(resultSet.getAvailableWithoutFetching()).thenReturn(4, 3, 2, 1, 0);
+        when(resultSet.isFullyFetched()).thenReturn(false);
+        when(statementWrapper.logTrace(resultSet)).thenReturn(resultSet);
+        when(meta.createEntityFrom(row)).thenReturn("entity");
+    }
+
+    @Test
+    public void should_prefetch_next_page_when_remaining_rows_drop_to_threshold() throws Exception {
+        //Given
+        final CassandraOptions options = new CassandraOptions();
+        options.setPrefetchThreshold(Optional.of(2));
+
+        //When
+        final EntityIteratorWrapper<String> iterator = new EntityIteratorWrapper<>(CompletableFuture.completedFuture(resultSet),
+                meta, statementWrapper, options);
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertThat(iterator.next()).isEqualTo("entity");
+            count++;
+        }
+
+        //Then
+        assertThat(count).isEqualTo(5);
+        verify(resultSet, times(3)).fetchMoreResults();
+    }
+
+    @Test
+    public void should_not_prefetch_without_threshold() throws Exception {
+        //Given
+        final CassandraOptions options = new CassandraOptions();
+
+        //When
+        final EntityIteratorWrapper<String> iterator = new EntityIteratorWrapper<>(CompletableFuture.completedFuture(resultSet),
+                meta, statementWrapper, options);
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+
+        //Then
+        verify(resultSet, never()).fetchMoreResults();
+    }
+}
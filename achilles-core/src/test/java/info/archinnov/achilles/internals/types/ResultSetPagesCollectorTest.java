@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResultSetPagesCollectorTest {
+
+    private final ExecutorService executor = MoreExecutors.newDirectExecutorService();
+
+    private final CassandraOptions options = new CassandraOptions();
+
+    private final AtomicInteger availableRows = new AtomicInteger(0);
+
+    private final AtomicInteger remainingPages = new AtomicInteger(0);
+
+    private final AtomicInteger rowIndex = new AtomicInteger(0);
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private StatementWrapper statementWrapper;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Row row;
+
+    @Mock
+    private ExecutionInfo executionInfo;
+
+    @Before
+    public void setUp() {
+        when(statementWrapper.logTrace(resultSet)).thenReturn(resultSet);
+        when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+        when(resultSet.getAvailableWithoutFetching()).thenAnswer(invocation -> availableRows.get());
+        when(resultSet.isFullyFetched()).thenAnswer(invocation -> remainingPages.get() == 0);
+        when(resultSet.one()).thenAnswer(invocation -> {
+            availableRows.decrementAndGet();
+            return row;
+        });
+    }
+
+    @Test
+    public void should_collect_all_pages() throws Exception {
+        //Given
+        availableRows.set(3);
+        remainingPages.set(2);
+        when(resultSet.fetchMoreResults()).thenAnswer(invocation -> {
+            remainingPages.decrementAndGet();
+            availableRows.set(3);
+            return Futures.immediateFuture(resultSet);
+        });
+
+        //When
+        final Tuple2<List<String>, ExecutionInfo> result = collect(Integer.MAX_VALUE, Long.MAX_VALUE);
+
+        //Then
+        assertThat(result._1()).hasSize(9);
+        assertThat(result._1().get(0)).isEqualTo("row0");
+        assertThat(result._1().get(8)).isEqualTo("row8");
+        assertThat(result._2()).isSameAs(executionInfo);
+        verify(resultSet, times(2)).fetchMoreResults();
+    }
+
+    @Test
+    public void should_stop_fetching_when_max_rows_reached() throws Exception {
+        //Given
+        availableRows.set(3);
+        remainingPages.set(5);
+        when(resultSet.fetchMoreResults()).thenAnswer(invocation -> {
+            remainingPages.decrementAndGet();
+            availableRows.set(3);
+            return Futures.immediateFuture(resultSet);
+        });
+
+        //When
+        final Tuple2<List<String>, ExecutionInfo> result = collect(4, Long.MAX_VALUE);
+
+        //Then
+        assertThat(result._1()).containsExactly("row0", "row1", "row2", "row3");
+        verify(resultSet, times(1)).fetchMoreResults();
+    }
+
+    @Test
+    public void should_stop_fetching_when_max_bytes_reached() throws Exception {
+        //Given
+        availableRows.set(3);
+        remainingPages.set(5);
+        when(row.getColumnDefinitions().size()).thenReturn(1);
+        when(row.getBytesUnsafe(0)).thenAnswer(invocation -> ByteBuffer.allocate(10));
+
+        //When
+        final Tuple2<List<String>, ExecutionInfo> result = collect(Integer.MAX_VALUE, 20L);
+
+        //Then
+        assertThat(result._1()).containsExactly("row0", "row1");
+        verify(resultSet, never()).fetchMoreResults();
+    }
+
+    @Test
+    public void should_fail_when_next_page_fetch_fails() throws Exception {
+        //Given
+        availableRows.set(1);
+        remainingPages.set(1);
+        final IllegalStateException failure = new IllegalStateException("boom");
+        when(resultSet.fetchMoreResults()).thenReturn(Futures.immediateFailedFuture(failure));
+
+        //When
+        Throwable actual = null;
+        try {
+            collect(Integer.MAX_VALUE, Long.MAX_VALUE);
+        } catch (ExecutionException e) {
+            actual = e.getCause();
+        }
+
+        //Then
+        assertThat(actual).isSameAs(failure);
+    }
+
+    private Tuple2<List<String>, ExecutionInfo> collect(int maxRows, long maxBytes) throws Exception {
+        return new ResultSetPagesCollector<>(statementWrapper, options, row -> "row" + rowIndex.getAndIncrement(),
+                executor, maxRows, maxBytes)
+                .collect(CompletableFuture.completedFuture(resultSet))
+                .get();
+    }
+}
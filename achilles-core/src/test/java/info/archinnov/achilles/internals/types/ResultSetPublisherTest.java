@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import info.archinnov.achilles.internals.options.CassandraOptions;
+import info.archinnov.achilles.internals.statements.StatementWrapper;
+import info.archinnov.achilles.type.reactive.Subscriber;
+import info.archinnov.achilles.type.reactive.Subscription;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ResultSetPublisherTest {
+
+    private final ExecutorService executor = MoreExecutors.newDirectExecutorService();
+
+    private final CassandraOptions options = new CassandraOptions();
+
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    private final AtomicInteger executionCount = new AtomicInteger(0);
+
+    private final AtomicInteger availableRows = new AtomicInteger(0);
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private StatementWrapper statementWrapper;
+
+    @Mock
+    private Row row;
+
+    @Before
+    public void setUp() {
+        when(statementWrapper.logTrace(resultSet)).thenReturn(resultSet);
+        when(resultSet.getAvailableWithoutFetching()).thenAnswer(invocation -> availableRows.get());
+        when(resultSet.one()).thenAnswer(invocation -> {
+            availableRows.decrementAndGet();
+            return row;
+        });
+    }
+
+    @Test
+    public void should_only_emit_requested_rows() throws Exception {
+        //Given
+        availableRows.set(3);
+        when(resultSet.isFullyFetched()).thenReturn(true);
+        final ResultSetPublisher<String> publisher = buildPublisher();
+
+        //When
+        publisher.subscribe(subscriber);
+
+        //Then
+        assertThat(executionCount.get()).isEqualTo(0);
+
+        //When
+        subscriber.subscription.request(2);
+
+        //Then
+        assertThat(executionCount.get()).isEqualTo(1);
+        assertThat(subscriber.items).containsExactly("row", "row");
+        assertThat(subscriber.completed).isFalse();
+
+        //When
+        subscriber.subscription.request(5);
+
+        //Then
+        assertThat(subscriber.items).hasSize(3);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(executionCount.get()).isEqualTo(1);
+        verify(resultSet, never()).fetchMoreResults();
+    }
+
+    @Test
+    public void should_fetch_next_page_only_when_there_is_demand() throws Exception {
+        //Given
+        availableRows.set(1);
+        when(resultSet.isFullyFetched()).thenAnswer(invocation -> executionCount.get() > 1);
+        when(resultSet.fetchMoreResults()).thenAnswer(invocation -> {
+            executionCount.incrementAndGet();
+            availableRows.set(1);
+            return Futures.immediateFuture(resultSet);
+        });
+        final ResultSetPublisher<String> publisher = buildPublisher();
+        publisher.subscribe(subscriber);
+
+        //When
+        subscriber.subscription.request(1);
+
+        //Then
+        assertThat(subscriber.items).hasSize(1);
+        verify(resultSet, never()).fetchMoreResults();
+
+        //When
+        subscriber.subscription.request(1);
+
+        //Then
+        assertThat(subscriber.items).hasSize(2);
+        assertThat(subscriber.completed).isTrue();
+        verify(resultSet, times(1)).fetchMoreResults();
+    }
+
+    @Test
+    public void should_signal_error_on_non_positive_request() throws Exception {
+        //Given
+        final ResultSetPublisher<String> publisher = buildPublisher();
+        publisher.subscribe(subscriber);
+
+        //When
+        subscriber.subscription.request(0);
+
+        //Then
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        assertThat(executionCount.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void should_stop_emitting_after_cancel() throws Exception {
+        //Given
+        availableRows.set(3);
+        final ResultSetPublisher<String> publisher = buildPublisher();
+        publisher.subscribe(subscriber);
+        subscriber.cancelAfter = 1;
+
+        //When
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //Then
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void should_cancel_and_signal_error_when_on_next_throws() throws Exception {
+        //Given
+        availableRows.set(3);
+        when(resultSet.isFullyFetched()).thenReturn(true);
+        final ResultSetPublisher<String> publisher = buildPublisher();
+        publisher.subscribe(subscriber);
+        final IllegalStateException failure = new IllegalStateException("failure");
+        subscriber.failure = failure;
+
+        //When
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        //Then
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(subscriber.error).isSameAs(failure);
+        assertThat(subscriber.completed).isFalse();
+
+        //When
+        subscriber.subscription.request(1);
+
+        //Then
+        assertThat(subscriber.items).hasSize(1);
+        assertThat(availableRows.get()).isEqualTo(2);
+    }
+
+    private ResultSetPublisher<String> buildPublisher() {
+        return new ResultSetPublisher<>(() -> {
+            executionCount.incrementAndGet();
+            return CompletableFuture.completedFuture(resultSet);
+        }, statementWrapper, options, row -> "row", executor);
+    }
+
+    private static class RecordingSubscriber implements Subscriber<String> {
+        private final List<String> items = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed = false;
+        private int cancelAfter = -1;
+        private RuntimeException failure;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+            if (items.size() == cancelAfter) {
+                subscription.cancel();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
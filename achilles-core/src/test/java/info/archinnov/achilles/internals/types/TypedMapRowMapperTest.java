@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.internals.types;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+import info.archinnov.achilles.type.IndexedTypedMap;
+import info.archinnov.achilles.type.TypedMap;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TypedMapRowMapperTest {
+
+    private final TypedMapRowMapper rowMapper = new TypedMapRowMapper();
+
+    @Mock
+    private ColumnDefinitions definitions;
+
+    @Mock
+    private Row row1;
+
+    @Mock
+    private Row row2;
+
+    @Before
+    public void setUp() {
+        when(definitions.size()).thenReturn(2);
+        when(definitions.getName(0)).thenReturn("id");
+        when(definitions.getName(1)).thenReturn("value");
+        when(row1.getColumnDefinitions()).thenReturn(definitions);
+        when(row1.getObject(0)).thenReturn(1L);
+        when(row1.getObject(1)).thenReturn("one");
+        when(row2.getColumnDefinitions()).thenReturn(definitions);
+        when(row2.getObject(0)).thenReturn(2L);
+        when(row2.getObject(1)).thenReturn("two");
+    }
+
+    @Test
+    public void should_share_column_dictionary_between_rows() throws Exception {
+        //When
+        final TypedMap typedMap1 = rowMapper.apply(row1);
+        final TypedMap typedMap2 = rowMapper.apply(row2);
+
+        //Then
+        assertThat(typedMap1.<Long>getTyped("id")).isEqualTo(1L);
+        assertThat(typedMap1.<String>getTyped("value")).isEqualTo("one");
+        assertThat(typedMap2.<Long>getTyped("id")).isEqualTo(2L);
+        assertThat(((IndexedTypedMap) typedMap1).columns()).isSameAs(((IndexedTypedMap) typedMap2).columns());
+        verify(definitions, times(1)).size();
+    }
+
+    @Test
+    public void should_reuse_row_buffer() throws Exception {
+        //Given
+        final TypedMap buffer = rowMapper.applyTo(row1, null);
+
+        //When
+        final TypedMap actual = rowMapper.applyTo(row2, buffer);
+
+        //Then
+        assertThat(actual).isSameAs(buffer);
+        assertThat(actual.<Long>getTyped("id")).isEqualTo(2L);
+        assertThat(actual.<String>getTyped("value")).isEqualTo("two");
+    }
+
+    @Test
+    public void should_not_reuse_modified_row_buffer() throws Exception {
+        //Given
+        final TypedMap buffer = rowMapper.applyTo(row1, null);
+        buffer.put("other", "value");
+
+        //When
+        final TypedMap actual = rowMapper.applyTo(row2, buffer);
+
+        //Then
+        assertThat(actual).isNotSameAs(buffer);
+        assertThat(buffer.<Long>getTyped("id")).isEqualTo(1L);
+        assertThat(actual.<Long>getTyped("id")).isEqualTo(2L);
+    }
+
+    @Test
+    public void should_map_null_row_to_empty_typed_map() throws Exception {
+        //When
+        final TypedMap actual = rowMapper.apply(null);
+
+        //Then
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    public void should_keep_first_value_of_duplicated_column() throws Exception {
+        //Given
+        final ColumnDefinitions duplicatedDefinitions = mock(ColumnDefinitions.class);
+        final Row row = mock(Row.class);
+        when(duplicatedDefinitions.size()).thenReturn(3);
+        when(duplicatedDefinitions.getName(0)).thenReturn("id");
+        when(duplicatedDefinitions.getName(1)).thenReturn("value");
+        when(duplicatedDefinitions.getName(2)).thenReturn("value");
+        when(row.getColumnDefinitions()).thenReturn(duplicatedDefinitions);
+        when(row.getObject(0)).thenReturn(1L);
+        when(row.getObject(1)).thenReturn("first");
+        when(row.getObject(2)).thenReturn("second");
+
+        //When
+        final TypedMap typedMap = rowMapper.apply(row);
+
+        //Then
+        assertThat(typedMap.<String>getTyped("value")).isEqualTo("first");
+        assertThat(typedMap.size()).isEqualTo(2);
+        verify(row, never()).getObject(2);
+    }
+}
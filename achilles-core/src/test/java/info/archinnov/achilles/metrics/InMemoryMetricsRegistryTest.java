@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.OperationTimedOutException;
+
+import info.archinnov.achilles.type.OperationType;
+
+
+public class InMemoryMetricsRegistryTest {
+
+    private final InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+
+    @Test
+    public void should_record_metrics_per_entity_and_operation() throws Exception {
+        //Given
+        registry.onRequestStart(String.class, OperationType.SELECT);
+        registry.onRequestStart(String.class, OperationType.SELECT);
+        registry.onRequestStart(Long.class, OperationType.INSERT);
+
+        //When
+        registry.onRequestSuccess(String.class, OperationType.SELECT, TimeUnit.MILLISECONDS.toNanos(2), 10);
+        registry.onCallbackDispatch(String.class, OperationType.SELECT, 500L);
+
+        //Then
+        final OperationMetrics selects = registry.getMetrics(String.class, OperationType.SELECT);
+        assertThat(selects.getInFlight()).isEqualTo(1L);
+        assertThat(selects.getRequestCount()).isEqualTo(1L);
+        assertThat(selects.getRowCount()).isEqualTo(10L);
+        assertThat(selects.getLatency().getMax(TimeUnit.MILLISECONDS)).isEqualTo(2L);
+        assertThat(selects.getCallbackDelay().getCount()).isEqualTo(1L);
+
+        assertThat(registry.getMetrics(String.class, OperationType.INSERT).getInFlight()).isEqualTo(0L);
+        assertThat(registry.getMetrics(Long.class, OperationType.INSERT).getInFlight()).isEqualTo(1L);
+        assertThat(registry.getEntityClasses()).containsOnly(String.class, Long.class);
+    }
+
+    @Test
+    public void should_count_errors_and_timeouts() throws Exception {
+        //Given
+        for (int i = 0; i < 4; i++) {
+            registry.onRequestStart(String.class, OperationType.UPDATE);
+        }
+
+        //When
+        registry.onRequestSuccess(String.class, OperationType.UPDATE, 1_000L, 0);
+        registry.onRequestSuccess(String.class, OperationType.UPDATE, 1_000L, 0);
+        registry.onRequestFailure(String.class, OperationType.UPDATE, 1_000L, new InvalidQueryException("invalid"));
+        registry.onRequestFailure(String.class, OperationType.UPDATE, 1_000L,
+                new OperationTimedOutException(new InetSocketAddress("127.0.0.1", 9042)));
+
+        //Then
+        final OperationMetrics updates = registry.getMetrics(String.class, OperationType.UPDATE);
+        assertThat(updates.getInFlight()).isEqualTo(0L);
+        assertThat(updates.getRequestCount()).isEqualTo(4L);
+        assertThat(updates.getErrorCount()).isEqualTo(2L);
+        assertThat(updates.getTimeoutCount()).isEqualTo(1L);
+        assertThat(updates.getErrorRate()).isEqualTo(0.5d);
+        assertThat(updates.getTimeoutRate()).isEqualTo(0.25d);
+    }
+
+    @Test
+    public void should_record_decode_latency_per_entity() throws Exception {
+        //When
+        registry.onEntityDecoded(String.class, 100L);
+        registry.onEntityDecoded(String.class, 300L);
+
+        //Then
+        assertThat(registry.getDecodeLatency(String.class).getCount()).isEqualTo(2L);
+        assertThat(registry.getDecodeLatency(String.class).getMean(TimeUnit.NANOSECONDS)).isEqualTo(200L);
+        assertThat(registry.getDecodeLatency(Long.class).getCount()).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void should_compute_exact_percentiles_for_small_values() throws Exception {
+        //Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        //When
+        for (long value = 1; value <= 50; value++) {
+            histogram.record(value);
+        }
+
+        //Then
+        assertThat(histogram.getCount()).isEqualTo(50L);
+        assertThat(histogram.getMin(TimeUnit.NANOSECONDS)).isEqualTo(1L);
+        assertThat(histogram.getMax(TimeUnit.NANOSECONDS)).isEqualTo(50L);
+        assertThat(histogram.getMean(TimeUnit.NANOSECONDS)).isEqualTo(25L);
+        assertThat(histogram.getPercentile(50, TimeUnit.NANOSECONDS)).isEqualTo(25L);
+        assertThat(histogram.getPercentile(100, TimeUnit.NANOSECONDS)).isEqualTo(50L);
+    }
+
+    @Test
+    public void should_compute_percentiles_with_bounded_relative_error() throws Exception {
+        //Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        //When
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        //Then
+        final long p50 = histogram.getPercentile(50, TimeUnit.NANOSECONDS);
+        final long p99 = histogram.getPercentile(99, TimeUnit.NANOSECONDS);
+        assertThat(p50).isBetween(500_000L, 500_000L * 33 / 32);
+        assertThat(p99).isBetween(990_000L, 990_000L * 33 / 32);
+        assertThat(histogram.getPercentile(100, TimeUnit.MICROSECONDS)).isEqualTo(1000L);
+    }
+
+    @Test
+    public void should_map_every_bucket_to_its_highest_value() throws Exception {
+        //Given
+        final long[] values = {0L, 63L, 64L, 65L, 1_000_000L, Long.MAX_VALUE};
+
+        for (long value : values) {
+            //When
+            final int index = LatencyHistogram.bucketIndex(value);
+
+            //Then
+            assertThat(LatencyHistogram.highestValueInBucket(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestValueInBucket(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    public void should_return_zero_when_empty() throws Exception {
+        //Given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        //Then
+        assertThat(histogram.getCount()).isEqualTo(0L);
+        assertThat(histogram.getMin(TimeUnit.NANOSECONDS)).isEqualTo(0L);
+        assertThat(histogram.getPercentile(99, TimeUnit.NANOSECONDS)).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import info.archinnov.achilles.type.IndexedTypedMap.Columns;
+
+public class IndexedTypedMapTest {
+
+    private final Columns columns = Columns.of(asList("id", "value", "id"));
+
+    @Test
+    public void should_read_values_by_column_name() throws Exception {
+        //Given
+        final IndexedTypedMap typedMap = new IndexedTypedMap(columns);
+
+        //When
+        typedMap.set(0, 10L);
+        typedMap.set(1, "val");
+
+        //Then
+        assertThat(columns.size()).isEqualTo(2);
+        assertThat(typedMap.<Long>getTyped("id")).isEqualTo(10L);
+        assertThat(typedMap.<String>getTypedOr("value", "default")).isEqualTo("val");
+        assertThat(typedMap.<String>getTypedOr("unknown", "default")).isEqualTo("default");
+        assertThat(typedMap.keySet()).containsExactly("id", "value");
+        assertThat(typedMap.values()).containsExactly(10L, "val");
+        assertThat(typedMap.toString()).isEqualTo("{id=10, value=val}");
+        assertThat(typedMap.isCompact()).isTrue();
+    }
+
+    @Test
+    public void should_be_equal_to_regular_map() throws Exception {
+        //Given
+        final IndexedTypedMap typedMap = new IndexedTypedMap(columns);
+        typedMap.set(0, 10L);
+        typedMap.set(1, null);
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("id", 10L);
+        expected.put("value", null);
+
+        //When
+        //Then
+        assertThat(typedMap).isEqualTo(expected);
+        assertThat(expected).isEqualTo(typedMap);
+        assertThat(typedMap.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(new HashMap<>(typedMap)).isEqualTo(expected);
+    }
+
+    @Test
+    public void should_update_existing_column_in_place() throws Exception {
+        //Given
+        final IndexedTypedMap typedMap = new IndexedTypedMap(columns);
+        typedMap.set(0, 10L);
+
+        //When
+        final Object previous = typedMap.put("id", 11L);
+        typedMap.entrySet().iterator().next().setValue(12L);
+
+        //Then
+        assertThat(previous).isEqualTo(10L);
+        assertThat(typedMap.get("id")).isEqualTo(12L);
+        assertThat(typedMap.isCompact()).isTrue();
+    }
+
+    @Test
+    public void should_switch_to_regular_map_when_adding_or_removing_columns() throws Exception {
+        //Given
+        final IndexedTypedMap typedMap = new IndexedTypedMap(columns);
+        typedMap.set(0, 10L);
+        typedMap.set(1, "val");
+
+        //When
+        typedMap.put("other", "other_val");
+        typedMap.remove("id");
+
+        //Then
+        assertThat(typedMap.isCompact()).isFalse();
+        assertThat(typedMap).hasSize(2);
+        assertThat(typedMap.keySet()).containsExactly("value", "other");
+        assertThat(typedMap.<String>getTyped("other")).isEqualTo("other_val");
+    }
+
+    @Test
+    public void should_serialize_as_regular_typed_map() throws Exception {
+        //Given
+        final IndexedTypedMap typedMap = new IndexedTypedMap(columns);
+        typedMap.set(0, 10L);
+        typedMap.set(1, "val");
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(typedMap);
+        }
+
+        //When
+        final Object actual;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            actual = in.readObject();
+        }
+
+        //Then
+        assertThat(actual.getClass()).isEqualTo(TypedMap.class);
+        assertThat(actual).isEqualTo(typedMap);
+    }
+}
@@ -18,8 +18,10 @@ package info.archinnov.achilles.junit;
 
 import static info.archinnov.achilles.junit.AchillesTestResource.Steps.BOTH;
 import static info.archinnov.achilles.validation.Validator.validateTrue;
+import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -33,6 +35,7 @@ import org.slf4j.LoggerFactory;
 
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
 
 import info.archinnov.achilles.embedded.CassandraEmbeddedServer;
@@ -95,15 +98,18 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
     private static final StatementsCache STATEMENTS_CACHE = new StatementsCache(10000);
     private static final Logger DML_LOG = LoggerFactory.getLogger(AchillesLoggers.ACHILLES_DML_STATEMENT);
     private static final Map<String, PreparedStatement> TABLES_TO_TRUNCATE = new ConcurrentHashMap<>();
+    private static final Map<String, PreparedStatement> TABLES_TO_PROBE = new ConcurrentHashMap<>();
 
     private final TypedMap cassandraParams;
     private final Optional<String> keyspaceName;
     private final List<PreparedStatement> truncateStatements;
+    private final List<PreparedStatement> probeStatements;
     private final CassandraEmbeddedServer server;
     private final T managerFactory;
     private final Session session;
     private final ScriptExecutor scriptExecutor;
     private final Steps steps;
+    private final boolean skipEmptyTables;
 
     public AchillesTestResource(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder, TypedMap cassandraParams,
                                 Optional<String> keyspaceName, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
@@ -112,14 +118,25 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
 
     public AchillesTestResource(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder, TypedMap cassandraParams,
                                 Optional<String> keyspaceName, Steps cleanUpSteps, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
+        this(managerFactoryBuilder, cassandraParams, keyspaceName, cleanUpSteps, false, tablesToTruncate, entityClassesToTruncate);
+    }
+
+    public AchillesTestResource(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder, TypedMap cassandraParams,
+                                Optional<String> keyspaceName, Steps cleanUpSteps, boolean skipEmptyTables,
+                                List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
         this.cassandraParams = cassandraParams;
         this.keyspaceName = keyspaceName;
         this.steps = cleanUpSteps;
+        this.skipEmptyTables = skipEmptyTables;
         this.server = buildServer();
         this.session = buildSession(this.server);
         this.scriptExecutor = new ScriptExecutor(this.session);
         this.managerFactory = buildManagerFactory(this.server, managerFactoryBuilder);
-        this.truncateStatements = determineTableToTruncate(this.managerFactory, this.session, tablesToTruncate, entityClassesToTruncate);
+        final List<String> tables = determineTableToTruncate(this.managerFactory, this.session, tablesToTruncate, entityClassesToTruncate);
+        this.truncateStatements = tables.stream().map(TABLES_TO_TRUNCATE::get).collect(toList());
+        this.probeStatements = skipEmptyTables
+                ? determineTableToProbe(this.session, tables)
+                : new ArrayList<>();
     }
 
     public Session getNativeSession() {
@@ -158,7 +175,7 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
         return session;
     }
 
-    private List<PreparedStatement> determineTableToTruncate(T managerFactory, Session session, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
+    private List<String> determineTableToTruncate(T managerFactory, Session session, List<String> tablesToTruncate, List<Class<?>> entityClassesToTruncate) {
 
         entityClassesToTruncate
                 .forEach(clazz -> validateTrue(managerFactory.staticTableNameFor(clazz).isPresent(),
@@ -174,7 +191,6 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
         return
                 Stream.concat(tablesToTruncate.stream(),
                         entityClassesToTruncate.stream().map(clazz -> managerFactory.staticTableNameFor(clazz).get().toLowerCase()))
-                        .map(TABLES_TO_TRUNCATE::get)
                         .collect(toList());
     }
 
@@ -185,6 +201,13 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
                 .forEach(table -> TABLES_TO_TRUNCATE.put(table, session.prepare("TRUNCATE " + table)));
     }
 
+    private List<PreparedStatement> determineTableToProbe(Session session, List<String> tables) {
+        return tables
+                .stream()
+                .map(table -> TABLES_TO_PROBE.computeIfAbsent(table, x -> session.prepare("SELECT * FROM " + table + " LIMIT 1")))
+                .collect(toList());
+    }
+
 
     protected void before() throws Throwable {
         if (steps.isBefore())
@@ -196,14 +219,47 @@ public class AchillesTestResource<T extends AbstractManagerFactory> extends Exte
             truncateTables();
     }
 
+    /**
+     * Truncate all the registered tables. The TRUNCATE statements are sent
+     * concurrently and this method returns once all of them have completed.
+     * <br/>
+     * If the resource has been built with <em>skipTruncateOfEmptyTables()</em>,
+     * each table is first probed with a <em>SELECT * ... LIMIT 1</em> and only
+     * tables having at least one row are truncated
+     */
     public void truncateTables() {
-        truncateStatements
-                .forEach(statement -> {
+        final List<PreparedStatement> statements = skipEmptyTables
+                ? determineNonEmptyTables()
+                : truncateStatements;
+
+        final List<ResultSetFuture> futures = statements
+                .stream()
+                .map(statement -> {
                     if (DML_LOG.isDebugEnabled()) {
                         DML_LOG.debug(statement.getQueryString());
                     }
-                    session.execute(statement.bind());
-                });
+                    return session.executeAsync(statement.bind());
+                })
+                .collect(toList());
+
+        futures.forEach(ResultSetFuture::getUninterruptibly);
+    }
+
+    private List<PreparedStatement> determineNonEmptyTables() {
+        final List<ResultSetFuture> probes = probeStatements
+                .stream()
+                .map(statement -> session.executeAsync(statement.bind()))
+                .collect(toList());
+
+        final List<PreparedStatement> nonEmptyTables = new ArrayList<>(truncateStatements.size());
+        for (int i = 0; i < probes.size(); i++) {
+            if (probes.get(i).getUninterruptibly().one() != null) {
+                nonEmptyTables.add(truncateStatements.get(i));
+            } else if (DML_LOG.isDebugEnabled()) {
+                DML_LOG.debug(format("Skip %s, the table is empty", truncateStatements.get(i).getQueryString()));
+            }
+        }
+        return nonEmptyTables;
     }
 
     public enum Steps {
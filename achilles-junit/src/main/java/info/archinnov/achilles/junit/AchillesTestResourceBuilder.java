@@ -57,6 +57,7 @@ import info.archinnov.achilles.validation.Validator;
 public class AchillesTestResourceBuilder {
 
     private Steps cleanupSteps = Steps.BOTH;
+    private boolean skipEmptyTables = false;
     private List<Class<?>> entityClassesToCleanUp = new ArrayList<>();
     private Optional<String> keyspace = Optional.empty();
     private TypedMap cassandraParams = new TypedMap();
@@ -205,6 +206,18 @@ public class AchillesTestResourceBuilder {
         return this;
     }
 
+    /**
+     * Before truncating, probe each table with a <em>SELECT * ... LIMIT 1</em>
+     * and skip the TRUNCATE of tables having no row. A TRUNCATE
+     * is much more expensive than the probe for an empty table
+     *
+     * @return AchillesTestResourceBuilder
+     */
+    public AchillesTestResourceBuilder skipTruncateOfEmptyTables() {
+        this.skipEmptyTables = true;
+        return this;
+    }
+
     /**
      * Provide a lambda function to build the ManagerFactory instance with the given Cluster object
      *
@@ -213,7 +226,7 @@ public class AchillesTestResourceBuilder {
      */
     public <T extends AbstractManagerFactory> AchillesTestResource<T> build(BiFunction<Cluster, StatementsCache, T> managerFactoryBuilder) {
         final TypedMap cassandraParams = buildCassandraParams();
-        return new AchillesTestResource<>(managerFactoryBuilder, cassandraParams, keyspace, cleanupSteps, tablesToTruncate, entityClassesToCleanUp);
+        return new AchillesTestResource<>(managerFactoryBuilder, cassandraParams, keyspace, cleanupSteps, skipEmptyTables, tablesToTruncate, entityClassesToCleanUp);
     }
 
     private TypedMap buildCassandraParams() {
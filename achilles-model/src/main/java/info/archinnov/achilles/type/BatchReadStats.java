@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregated statistics of a batch read (<em>findByIds()</em>)
+ * <br/>
+ * Latencies are measured per key, from the request submission to the reception of its result
+ */
+public class BatchReadStats {
+
+    private final int requestCount;
+    private final int foundCount;
+    private final int retries;
+    private final int speculativeExecutions;
+    private final long totalElapsedNanos;
+    private final long minLatencyNanos;
+    private final long p50LatencyNanos;
+    private final long p99LatencyNanos;
+    private final long maxLatencyNanos;
+
+    public BatchReadStats(long[] latenciesNanos, int foundCount, int retries, int speculativeExecutions, long totalElapsedNanos) {
+        final LatencyPercentiles percentiles = new LatencyPercentiles(latenciesNanos);
+        this.requestCount = latenciesNanos.length;
+        this.foundCount = foundCount;
+        this.retries = retries;
+        this.speculativeExecutions = speculativeExecutions;
+        this.totalElapsedNanos = totalElapsedNanos;
+        this.minLatencyNanos = percentiles.percentile(0);
+        this.p50LatencyNanos = percentiles.percentile(50);
+        this.p99LatencyNanos = percentiles.percentile(99);
+        this.maxLatencyNanos = percentiles.percentile(100);
+    }
+
+    /**
+     * Number of keys requested
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Number of keys for which an entity has been found
+     */
+    public int getFoundCount() {
+        return foundCount;
+    }
+
+    /**
+     * Number of retries on another host, summed over all requests
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    /**
+     * Number of speculative executions, summed over all requests
+     */
+    public int getSpeculativeExecutions() {
+        return speculativeExecutions;
+    }
+
+    public long getTotalElapsed(TimeUnit unit) {
+        return unit.convert(totalElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMinLatency(TimeUnit unit) {
+        return unit.convert(minLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getP50Latency(TimeUnit unit) {
+        return unit.convert(p50LatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getP99Latency(TimeUnit unit) {
+        return unit.convert(p99LatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(maxLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("BatchReadStats{");
+        sb.append("requestCount=").append(requestCount);
+        sb.append(", foundCount=").append(foundCount);
+        sb.append(", retries=").append(retries);
+        sb.append(", speculativeExecutions=").append(speculativeExecutions);
+        sb.append(", totalElapsedNanos=").append(totalElapsedNanos);
+        sb.append(", minLatencyNanos=").append(minLatencyNanos);
+        sb.append(", p50LatencyNanos=").append(p50LatencyNanos);
+        sb.append(", p99LatencyNanos=").append(p99LatencyNanos);
+        sb.append(", maxLatencyNanos=").append(maxLatencyNanos);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregated statistics of a bulk write (<em>BulkWriter.write()</em>)
+ * <br/>
+ * Latencies are measured per batch, from its submission to its acknowledgement,
+ * and computed over a bounded random sample of the batches
+ */
+public class BulkWriteStats {
+
+    private final long entityCount;
+    private final long batchCount;
+    private final long retries;
+    private final long totalElapsedNanos;
+    private final long minLatencyNanos;
+    private final long p50LatencyNanos;
+    private final long p99LatencyNanos;
+    private final long maxLatencyNanos;
+
+    public BulkWriteStats(long entityCount, long batchCount, long retries, long totalElapsedNanos, long[] latencySampleNanos) {
+        final LatencyPercentiles percentiles = new LatencyPercentiles(latencySampleNanos);
+        this.entityCount = entityCount;
+        this.batchCount = batchCount;
+        this.retries = retries;
+        this.totalElapsedNanos = totalElapsedNanos;
+        this.minLatencyNanos = percentiles.percentile(0);
+        this.p50LatencyNanos = percentiles.percentile(50);
+        this.p99LatencyNanos = percentiles.percentile(99);
+        this.maxLatencyNanos = percentiles.percentile(100);
+    }
+
+    /**
+     * Number of entities written
+     */
+    public long getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Number of statements sent, a statement being either an UNLOGGED batch or a single INSERT
+     */
+    public long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Number of statements re-sent after a failure
+     */
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * Number of entities written per second
+     */
+    public double getThroughput() {
+        return totalElapsedNanos == 0 ? 0 : entityCount * 1_000_000_000.0 / totalElapsedNanos;
+    }
+
+    public long getTotalElapsed(TimeUnit unit) {
+        return unit.convert(totalElapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMinLatency(TimeUnit unit) {
+        return unit.convert(minLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getP50Latency(TimeUnit unit) {
+        return unit.convert(p50LatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getP99Latency(TimeUnit unit) {
+        return unit.convert(p99LatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(maxLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("BulkWriteStats{");
+        sb.append("entityCount=").append(entityCount);
+        sb.append(", batchCount=").append(batchCount);
+        sb.append(", retries=").append(retries);
+        sb.append(", totalElapsedNanos=").append(totalElapsedNanos);
+        sb.append(", minLatencyNanos=").append(minLatencyNanos);
+        sb.append(", p50LatencyNanos=").append(p50LatencyNanos);
+        sb.append(", p99LatencyNanos=").append(p99LatencyNanos);
+        sb.append(", maxLatencyNanos=").append(maxLatencyNanos);
+        sb.append('}');
+        return sb.toString();
+    }
+}
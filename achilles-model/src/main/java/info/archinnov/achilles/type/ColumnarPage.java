@@ -0,0 +1,264 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * A page of SELECT results decoded column by column. Example:
+ * <pre class="code"><code class="java">
+ * manager
+ *   .dsl()
+ *   .select()
+ *   .sensorId()
+ *   .value()
+ *   .fromBaseTable()
+ *   .where()
+ *   ...
+ *   .forEachColumnarPage(page -&gt; {
+ *       final ColumnarPage.DoubleColumn values = page.doubleColumn("value");
+ *       final double[] raw = values.values();
+ *       for (int row = 0; row &lt; page.rowCount(); row++) {
+ *           if (!values.isNull(row)) {
+ *               sum += raw[row];
+ *           }
+ *       }
+ *   });
+ * </code></pre>
+ * Columns are decoded depending on their CQL type:
+ * <ul>
+ *     <li><strong>bigint</strong>, <strong>counter</strong>, <strong>timestamp</strong> (epoch millis) and <strong>time</strong> (nanos): {@link LongColumn}</li>
+ *     <li><strong>int</strong>, <strong>smallint</strong> and <strong>tinyint</strong>: {@link IntColumn}</li>
+ *     <li><strong>double</strong> and <strong>float</strong>: {@link DoubleColumn}</li>
+ *     <li><strong>text</strong>, <strong>varchar</strong> and <strong>ascii</strong>: dictionary encoded {@link StringColumn}, with a bounded dictionary</li>
+ *     <li>other types: {@link ObjectColumn} with the values decoded by the Java driver</li>
+ * </ul>
+ * Columns can be looked up by CQL column name or by entity field name.
+ * <br/>
+ * <strong>The arrays are re-used from one page to another and are larger than <em>rowCount()</em></strong>,
+ * only read the first <em>rowCount()</em> values and do not keep references to a page after the consumer returns
+ */
+public class ColumnarPage {
+
+    private final int rowCount;
+    private final Map<String, Column> columns;
+    private final Map<String, String> fieldNameToCqlColumn;
+
+    public ColumnarPage(int rowCount, Map<String, Column> columns, Map<String, String> fieldNameToCqlColumn) {
+        this.rowCount = rowCount;
+        this.columns = columns;
+        this.fieldNameToCqlColumn = fieldNameToCqlColumn;
+    }
+
+    /**
+     * Number of rows in this page
+     */
+    public int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * CQL names of the decoded columns, in SELECT order
+     */
+    public Set<String> columnNames() {
+        return columns.keySet();
+    }
+
+    /**
+     * Column for the given CQL column name or entity field name
+     */
+    public Column column(String name) {
+        Column column = columns.get(name);
+        if (column == null && fieldNameToCqlColumn.containsKey(name)) {
+            column = columns.get(fieldNameToCqlColumn.get(name));
+        }
+        Validator.validateNotNull(column, "Cannot find column '%s' in the columnar page, available columns are %s", name, columns.keySet());
+        return column;
+    }
+
+    public LongColumn longColumn(String name) {
+        return as(name, LongColumn.class);
+    }
+
+    public IntColumn intColumn(String name) {
+        return as(name, IntColumn.class);
+    }
+
+    public DoubleColumn doubleColumn(String name) {
+        return as(name, DoubleColumn.class);
+    }
+
+    public StringColumn stringColumn(String name) {
+        return as(name, StringColumn.class);
+    }
+
+    public ObjectColumn objectColumn(String name) {
+        return as(name, ObjectColumn.class);
+    }
+
+    private <T extends Column> T as(String name, Class<T> columnType) {
+        final Column column = column(name);
+        Validator.validateTrue(columnType.isInstance(column), "Column '%s' is decoded as %s, not as %s",
+                name, column.getClass().getSimpleName(), columnType.getSimpleName());
+        return columnType.cast(column);
+    }
+
+    public static abstract class Column {
+        private final BitSet nulls;
+
+        protected Column(BitSet nulls) {
+            this.nulls = nulls;
+        }
+
+        public boolean isNull(int row) {
+            return nulls.get(row);
+        }
+
+        /**
+         * Null bitmap, bit <em>n</em> is set if the value of row <em>n</em> is null
+         */
+        public BitSet nulls() {
+            return nulls;
+        }
+    }
+
+    public static class LongColumn extends Column {
+        private final long[] values;
+
+        public LongColumn(long[] values, BitSet nulls) {
+            super(nulls);
+            this.values = values;
+        }
+
+        public long get(int row) {
+            return values[row];
+        }
+
+        public long[] values() {
+            return values;
+        }
+    }
+
+    public static class IntColumn extends Column {
+        private final int[] values;
+
+        public IntColumn(int[] values, BitSet nulls) {
+            super(nulls);
+            this.values = values;
+        }
+
+        public int get(int row) {
+            return values[row];
+        }
+
+        public int[] values() {
+            return values;
+        }
+    }
+
+    public static class DoubleColumn extends Column {
+        private final double[] values;
+
+        public DoubleColumn(double[] values, BitSet nulls) {
+            super(nulls);
+            this.values = values;
+        }
+
+        public double get(int row) {
+            return values[row];
+        }
+
+        public double[] values() {
+            return values;
+        }
+    }
+
+    /**
+     * Dictionary encoded strings.
+     * <br/>
+     * The dictionary is shared by all the pages of a query, so a code designates the same string in every page,
+     * until it holds more than {@value #MAX_SHARED_DICTIONARY_SIZE} distinct values. Past this cap, e.g. for
+     * high cardinality columns like ids, the dictionary only holds the values of the current page and codes
+     * can only be compared within a page, see {@link #isDictionaryShared()}
+     */
+    public static class StringColumn extends Column {
+
+        public static final int MAX_SHARED_DICTIONARY_SIZE = 65536;
+
+        private final int[] codes;
+        private final List<String> dictionary;
+        private final boolean dictionaryShared;
+
+        public StringColumn(int[] codes, List<String> dictionary, BitSet nulls) {
+            this(codes, dictionary, nulls, true);
+        }
+
+        public StringColumn(int[] codes, List<String> dictionary, BitSet nulls, boolean dictionaryShared) {
+            super(nulls);
+            this.codes = codes;
+            this.dictionary = dictionary;
+            this.dictionaryShared = dictionaryShared;
+        }
+
+        public String get(int row) {
+            return isNull(row) ? null : dictionary.get(codes[row]);
+        }
+
+        public int code(int row) {
+            return codes[row];
+        }
+
+        public int[] codes() {
+            return codes;
+        }
+
+        public List<String> dictionary() {
+            return dictionary;
+        }
+
+        /**
+         * Whether the dictionary, hence the codes, are shared by all the pages of the query
+         * or only valid for the current page
+         */
+        public boolean isDictionaryShared() {
+            return dictionaryShared;
+        }
+    }
+
+    public static class ObjectColumn extends Column {
+        private final Object[] values;
+
+        public ObjectColumn(Object[] values, BitSet nulls) {
+            super(nulls);
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <T> T get(int row) {
+            return (T) values[row];
+        }
+
+        public Object[] values() {
+            return values;
+        }
+    }
+}
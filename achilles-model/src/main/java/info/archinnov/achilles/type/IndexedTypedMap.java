@@ -0,0 +1,418 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.io.ObjectStreamException;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Compact {@link TypedMap} used for rows returned by native queries and <em>getTypedMaps()</em>.
+ * <br/>
+ * The column names are held by a {@link Columns} dictionary shared by all the rows of a result set
+ * and the values are stored in an <em>Object[]</em>, so no hash entry is allocated per column and per row.
+ * <br/>
+ * Reading and updating the value of an existing column do not change the representation. Any other
+ * modification (adding or removing a column, <em>clear()</em>, <em>compute()</em> ...) first copies
+ * the row into a regular {@link TypedMap}.
+ * <br/>
+ * Keys cannot be removed through <em>keySet()</em>, <em>values()</em> or <em>entrySet()</em> of a compact row,
+ * use <em>remove(key)</em> instead
+ */
+public final class IndexedTypedMap extends TypedMap {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Columns columns;
+    private transient Object[] values;
+
+    public IndexedTypedMap(Columns columns) {
+        this.columns = columns;
+        this.values = new Object[columns.size()];
+    }
+
+    /**
+     * Dictionary of the columns of this row
+     */
+    public Columns columns() {
+        return columns;
+    }
+
+    /**
+     * Whether this row still uses the compact representation
+     */
+    public boolean isCompact() {
+        return values != null;
+    }
+
+    /**
+     * Set the value of the column at <em>index</em> in the {@link Columns} dictionary
+     */
+    public void set(int index, Object value) {
+        if (values != null) {
+            values[index] = value;
+        } else {
+            super.put(columns.name(index), value);
+        }
+    }
+
+    @Override
+    public int size() {
+        return values != null ? values.length : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values != null ? columns.indexOf(key) >= 0 : super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (values != null) {
+            for (Object x : values) {
+                if (Objects.equals(x, value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (values != null) {
+            final int index = columns.indexOf(key);
+            return index >= 0 ? values[index] : null;
+        }
+        return super.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        if (values != null) {
+            final int index = columns.indexOf(key);
+            return index >= 0 ? values[index] : defaultValue;
+        }
+        return super.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (values != null) {
+            final int index = columns.indexOf(key);
+            if (index >= 0) {
+                final Object previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            inflate();
+        }
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        inflate();
+        super.putAll(map);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        inflate();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        inflate();
+        super.clear();
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        inflate();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        inflate();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        inflate();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        inflate();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        inflate();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        inflate();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        inflate();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        inflate();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = function.apply(columns.name(i), values[i]);
+            }
+        } else {
+            super.replaceAll(function);
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        if (values != null) {
+            for (int i = 0; i < values.length; i++) {
+                action.accept(columns.name(i), values[i]);
+            }
+        } else {
+            super.forEach(action);
+        }
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (values != null) {
+            return new AbstractSet<String>() {
+                @Override
+                public Iterator<String> iterator() {
+                    return new IndexIterator<String>() {
+                        @Override
+                        String valueAt(int index) {
+                            return columns.name(index);
+                        }
+                    };
+                }
+
+                @Override
+                public boolean contains(Object key) {
+                    return columns.indexOf(key) >= 0;
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        if (values != null) {
+            return new AbstractCollection<Object>() {
+                @Override
+                public Iterator<Object> iterator() {
+                    return new IndexIterator<Object>() {
+                        @Override
+                        Object valueAt(int index) {
+                            return values[index];
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (values != null) {
+            return new AbstractSet<Map.Entry<String, Object>>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    return new IndexIterator<Map.Entry<String, Object>>() {
+                        @Override
+                        Map.Entry<String, Object> valueAt(int index) {
+                            return new IndexedEntry(index);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+        return super.entrySet();
+    }
+
+    @Override
+    public Object clone() {
+        return TypedMap.fromMap(this);
+    }
+
+    private Object writeReplace() throws ObjectStreamException {
+        return TypedMap.fromMap(this);
+    }
+
+    private void inflate() {
+        if (values != null) {
+            final Object[] currentValues = values;
+            values = null;
+            for (int i = 0; i < currentValues.length; i++) {
+                super.put(columns.name(i), currentValues[i]);
+            }
+        }
+    }
+
+    private abstract class IndexIterator<T> implements Iterator<T> {
+        private int index = 0;
+
+        abstract T valueAt(int index);
+
+        @Override
+        public boolean hasNext() {
+            return index < columns.size();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return valueAt(index++);
+        }
+    }
+
+    private class IndexedEntry implements Map.Entry<String, Object> {
+        private final int index;
+
+        IndexedEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return columns.name(index);
+        }
+
+        @Override
+        public Object getValue() {
+            return IndexedTypedMap.this.get(getKey());
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return IndexedTypedMap.this.put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) return false;
+            final Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+            return Objects.equals(getKey(), that.getKey()) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * Column name to index dictionary, shared by all the {@link IndexedTypedMap} rows of a result set
+     */
+    public static final class Columns {
+        private final String[] names;
+        private final Map<String, Integer> indices;
+
+        private Columns(String[] names, Map<String, Integer> indices) {
+            this.names = names;
+            this.indices = indices;
+        }
+
+        /**
+         * Build the dictionary. Duplicated names are only kept once, at the position of their first occurrence
+         */
+        public static Columns of(List<String> names) {
+            final Map<String, Integer> indices = new HashMap<>(names.size() * 2);
+            final List<String> uniqueNames = new ArrayList<>(names.size());
+            for (String name : names) {
+                if (!indices.containsKey(name)) {
+                    indices.put(name, uniqueNames.size());
+                    uniqueNames.add(name);
+                }
+            }
+            return new Columns(uniqueNames.toArray(new String[uniqueNames.size()]), indices);
+        }
+
+        public int size() {
+            return names.length;
+        }
+
+        public String name(int index) {
+            return names[index];
+        }
+
+        /**
+         * @return index of the column or -1 if the column does not exist
+         */
+        public int indexOf(Object name) {
+            final Integer index = indices.get(name);
+            return index != null ? index : -1;
+        }
+    }
+}
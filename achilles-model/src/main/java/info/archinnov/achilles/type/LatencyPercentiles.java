@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.Arrays;
+
+/**
+ * Nearest-rank percentiles over a sample of latencies
+ */
+final class LatencyPercentiles {
+
+    private final long[] sorted;
+
+    LatencyPercentiles(long[] latenciesNanos) {
+        this.sorted = Arrays.copyOf(latenciesNanos, latenciesNanos.length);
+        Arrays.sort(this.sorted);
+    }
+
+    long percentile(int percentile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)];
+    }
+}
@@ -14,7 +14,7 @@
  * limitations under the License.
  */
 
-package info.archinnov.achilles.internals.statements;
+package info.archinnov.achilles.type;
 
 public enum OperationType {
 
@@ -24,7 +24,7 @@ public enum OperationType {
     SELECT(false),
     OTHER(false);
 
-    public boolean isUpsert;
+    public final boolean isUpsert;
 
     OperationType(boolean isUpsert) {
         this.isUpsert = isUpsert;
@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.OptionalLong;
+
+import com.datastax.driver.core.ResultSet;
+
+/**
+ * Result set carrying the id of the query that produced it, the same id as in the DML logs,
+ * the query traces and the metrics registry callbacks.
+ * <br/>
+ * Usage in an async listener:
+ * <pre class="code"><code class="java">
+ * manager
+ *     .crud()
+ *     .findById(id)
+ *     .withResultSetAsyncListener(rs -> {
+ *         QueryIdAware.queryIdOf(rs).ifPresent(queryId -> ...);
+ *         return rs;
+ *     })
+ *     .get();
+ * </code></pre>
+ * Query ids are only assigned when needed, i.e. when DML logging, tracing, metrics or async listeners are enabled
+ */
+public interface QueryIdAware {
+
+    /**
+     * Query id, strictly positive, or 0 if no id was assigned to the query
+     */
+    long getQueryId();
+
+    static OptionalLong queryIdOf(ResultSet resultSet) {
+        final long queryId = resultSet instanceof QueryIdAware ? ((QueryIdAware) resultSet).getQueryId() : 0L;
+        return queryId > 0 ? OptionalLong.of(queryId) : OptionalLong.empty();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Progress of a full table scan (<em>TableScan.forEach()</em>): the token ranges already scanned,
+ * identified by a string like <em>]start, end]</em>
+ * <br/>
+ * A checkpoint can be persisted (<em>getCompletedRanges()</em>) and rebuilt later with
+ * <em>ScanCheckpoint.of(completedRanges)</em> to resume an interrupted scan. It is only meaningful
+ * for the same token ring: if the cluster topology changed, the ranges which do not match
+ * any completed range are scanned again
+ */
+public class ScanCheckpoint {
+
+    private final Set<String> completedRanges;
+    private final int totalRangeCount;
+    private final long entityCount;
+
+    public ScanCheckpoint(Set<String> completedRanges, int totalRangeCount, long entityCount) {
+        this.completedRanges = Collections.unmodifiableSet(completedRanges);
+        this.totalRangeCount = totalRangeCount;
+        this.entityCount = entityCount;
+    }
+
+    /**
+     * Checkpoint with no scanned range, to start a scan from scratch
+     */
+    public static ScanCheckpoint empty() {
+        return new ScanCheckpoint(Collections.emptySet(), 0, 0L);
+    }
+
+    /**
+     * Rebuild a checkpoint from persisted completed ranges
+     */
+    public static ScanCheckpoint of(Collection<String> completedRanges) {
+        return new ScanCheckpoint(new HashSet<>(completedRanges), 0, 0L);
+    }
+
+    /**
+     * Identifiers of the token ranges already scanned
+     */
+    public Set<String> getCompletedRanges() {
+        return completedRanges;
+    }
+
+    public boolean isCompleted(String range) {
+        return completedRanges.contains(range);
+    }
+
+    /**
+     * Number of token ranges of the scan, or 0 for a checkpoint rebuilt with <em>of()</em>
+     */
+    public int getTotalRangeCount() {
+        return totalRangeCount;
+    }
+
+    /**
+     * Number of entities scanned so far, including the ones of the resumed checkpoint
+     */
+    public long getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Whether all the token ranges of the scan have been scanned
+     */
+    public boolean isDone() {
+        return totalRangeCount > 0 && completedRanges.size() >= totalRangeCount;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("ScanCheckpoint{");
+        sb.append("completedRangeCount=").append(completedRanges.size());
+        sb.append(", totalRangeCount=").append(totalRangeCount);
+        sb.append(", entityCount=").append(entityCount);
+        sb.append('}');
+        return sb.toString();
+    }
+}
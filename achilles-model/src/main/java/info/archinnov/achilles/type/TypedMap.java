@@ -70,15 +70,15 @@ public class TypedMap extends LinkedHashMap<String, Object> {
     @SuppressWarnings("unchecked")
     public <T> T getTyped(String key) {
         T value = null;
-        if (super.containsKey(key) && super.get(key) != null) {
-            value = (T) super.get(key);
+        if (containsKey(key) && get(key) != null) {
+            value = (T) get(key);
             return value;
         }
         return value;
     }
 
     public <T> T getTypedOr(String key, T defaultValue) {
-        if (super.containsKey(key)) {
+        if (containsKey(key)) {
             return getTyped(key);
         } else {
             return defaultValue;
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.reactive;
+
+/**
+ * Provider of a potentially unbounded number of results, published according
+ * to the demand received from its {@link Subscriber}.
+ * <br/>
+ * This interface has the same methods as <em>org.reactivestreams.Publisher</em> and
+ * <em>java.util.concurrent.Flow.Publisher</em> and follows the Reactive Streams rules.
+ * Achilles targets Java 8, which has no Flow API, and does not impose the
+ * <em>org.reactivestreams</em> artifact on every user of the object mapper, so it ships
+ * its own copy: an adapter to any reactive library only forwards each method call
+ * <pre class="code"><code class="java">
+ * Publisher&lt;User&gt; publisher = manager
+ *     .dsl()
+ *     .select()
+ *     .allColumns_FromBaseTable()
+ *     .where()
+ *     .id().Eq(id)
+ *     .withFetchSize(100)
+ *     .publisher();
+ *
+ * publisher.subscribe(mySubscriber);
+ * </code></pre>
+ *
+ * @param <T> type of the published results
+ */
+public interface Publisher<T> {
+
+    /**
+     * Request the publisher to start publishing results to the given subscriber.
+     * The query is executed when the subscriber requests results for the first time
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+}
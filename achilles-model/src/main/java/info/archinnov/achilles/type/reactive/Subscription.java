@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.type.reactive;
+
+/**
+ * Link between a {@link Publisher} and a {@link Subscriber}, used to signal demand
+ * or to stop receiving results
+ */
+public interface Subscription {
+
+    /**
+     * Request <strong>n</strong> more results. Pages are fetched asynchronously
+     * from Cassandra only when the demand exceeds the rows already fetched
+     */
+    void request(long n);
+
+    /**
+     * Stop receiving results. No more page will be fetched
+     */
+    void cancel();
+}
@@ -22,10 +22,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -52,6 +55,8 @@ import info.archinnov.achilles.it.utils.CassandraLogAsserter;
 import info.archinnov.achilles.junit.AchillesTestResource;
 import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
 import info.archinnov.achilles.script.ScriptExecutor;
+import info.archinnov.achilles.type.BatchReadStats;
+import info.archinnov.achilles.type.BulkWriteStats;
 import info.archinnov.achilles.type.SchemaNameProvider;
 import info.archinnov.achilles.type.lightweighttransaction.LWTResultListener;
 import info.archinnov.achilles.type.strategy.InsertStrategy;
@@ -103,6 +108,35 @@ public class TestCRUDSimpleEntity {
         assertThat(row.getMap("simplemap", Integer.class, String.class)).containsEntry(2, "two");
     }
 
+    @Test
+    public void should_bulk_write() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final List<SimpleEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            entities.add(new SimpleEntity(i % 2 == 0 ? id1 : id2, new Date(i), "value" + i));
+        }
+
+        //When
+        final BulkWriteStats stats = manager.crud()
+                .bulkWriter()
+                .withMaxBatchSize(5)
+                .withMaxInFlight(2)
+                .write(entities.stream());
+
+        //Then
+        assertThat(session.execute("SELECT * FROM simple WHERE id = " + id1).all()).hasSize(13);
+        final List<Row> rows = session.execute("SELECT * FROM simple WHERE id = " + id2).all();
+        assertThat(rows).hasSize(12);
+        assertThat(rows.get(0).getString("value")).isEqualTo("value1");
+
+        assertThat(stats.getEntityCount()).isEqualTo(25L);
+        assertThat(stats.getBatchCount()).isEqualTo(6L);
+        assertThat(stats.getRetries()).isEqualTo(0L);
+        assertThat(stats.getMaxLatency(TimeUnit.NANOSECONDS)).isGreaterThan(0L);
+    }
+
     @Test
     public void should_insert_with_execution_info() throws Exception {
         //Given
@@ -320,6 +354,54 @@ public class TestCRUDSimpleEntity {
         assertThat(actual.getSimpleMap()).containsEntry(20, "twenty");
     }
 
+    @Test
+    public void should_find_by_ids() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        final long id3 = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id1, "table", "simple"));
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id3, "table", "simple"));
+        final Date date = buildDateKey();
+
+        //When
+        final Tuple2<List<SimpleEntity>, BatchReadStats> tuple2 = manager.crud()
+                .findByIds(Arrays.asList(Tuple2.of(id1, date), Tuple2.of(id2, date), Tuple2.of(id3, date)))
+                .withMaxInFlight(2)
+                .withGroupingByToken()
+                .getListWithStats();
+
+        //Then
+        final List<SimpleEntity> entities = tuple2._1();
+        assertThat(entities).hasSize(3);
+        assertThat(entities.get(0).getId()).isEqualTo(id1);
+        assertThat(entities.get(1)).isNull();
+        assertThat(entities.get(2).getId()).isEqualTo(id3);
+
+        final BatchReadStats stats = tuple2._2();
+        assertThat(stats.getRequestCount()).isEqualTo(3);
+        assertThat(stats.getFoundCount()).isEqualTo(2);
+        assertThat(stats.getP99Latency(TimeUnit.NANOSECONDS)).isGreaterThan(0L);
+    }
+
+    @Test
+    public void should_find_by_ids_as_map() throws Exception {
+        //Given
+        final long id1 = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        final long id2 = RandomUtils.nextLong(0, Long.MAX_VALUE);
+        scriptExecutor.executeScriptTemplate("SimpleEntity/insert_single_row.cql", ImmutableMap.of("id", id1, "table", "simple"));
+        final Date date = buildDateKey();
+
+        //When
+        final Map<Tuple2<Long, Date>, SimpleEntity> actual = manager.crud()
+                .findByIds(Arrays.asList(Tuple2.of(id1, date), Tuple2.of(id2, date)))
+                .getMap();
+
+        //Then
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(Tuple2.of(id1, date)).getValue()).isEqualTo("0 AM");
+    }
+
     @Test
     public void should_find_by_id_with_execution_info() throws Exception {
         //Given
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterConfig;
+import info.archinnov.achilles.concurrency.ConcurrencyLimiterGauges;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.tuples.Tuple2;
+
+public class TestConcurrencyLimiter {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withConcurrencyLimiter(ConcurrencyLimiterConfig
+                            .gradient()
+                            .perEntity())
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_queue_statements_above_concurrency_limit() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final List<CompletableFuture<?>> inserts = new ArrayList<>();
+
+        //When
+        for (int i = 0; i < 50; i++) {
+            inserts.add(manager.crud().insert(new SimpleEntity(id, new Date(date.getTime() + i), "value" + i)).executeAsync());
+        }
+        CompletableFuture.allOf(inserts.toArray(new CompletableFuture[inserts.size()])).get();
+
+        //Then
+        assertThat(manager.dsl().select().allColumns_FromBaseTable().where().id().Eq(id).getList()).hasSize(50);
+        final ConcurrencyLimiterGauges gauges = resource.getManagerFactory().getConcurrencyLimiterGauges()
+                .get(SimpleEntity.class.getCanonicalName());
+        assertThat(gauges.getInFlight()).isEqualTo(0);
+        assertThat(gauges.getQueueSize()).isEqualTo(0);
+        assertThat(gauges.getRejectedCount()).isEqualTo(0L);
+        assertThat(gauges.getLimit()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    public void should_find_by_ids_above_initial_limit_with_default_config() throws Exception {
+        //Given
+        final Date date = new Date();
+        final List<Tuple2<Long, Date>> primaryKeys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+            manager.crud().insert(new SimpleEntity(id, date, "value" + i)).execute();
+            primaryKeys.add(Tuple2.of(id, date));
+        }
+
+        //When
+        final List<SimpleEntity> actual = manager.crud().findByIds(primaryKeys).getList();
+
+        //Then
+        assertThat(actual).hasSize(100).doesNotContainNull();
+        final ConcurrencyLimiterGauges gauges = resource.getManagerFactory().getConcurrencyLimiterGauges()
+                .get(SimpleEntity.class.getCanonicalName());
+        assertThat(gauges.getRejectedCount()).isEqualTo(0L);
+        assertThat(gauges.getInFlight()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+
+import info.archinnov.achilles.cache.EntityCacheConfig;
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestEntityCache {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withEntityCacheMap(ImmutableMap.<Class<?>, EntityCacheConfig>of(SimpleEntity.class,
+                            EntityCacheConfig.maximumWeight(1024 * 1024).timeToLive(60)))
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_find_by_id_from_entity_cache() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+        final SimpleEntity first = manager.crud().findById(id, date).get();
+        first.setValue("modified_locally");
+
+        //When
+        resource.getNativeSession().execute("UPDATE " + DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME + ".simple SET value = 'modified_elsewhere' WHERE id = " + id
+                + " AND date = " + date.getTime());
+        final SimpleEntity second = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getValue()).isEqualTo("value");
+        final CacheStats stats = manager.getEntityCacheStats().get();
+        assertThat(stats.hitCount()).isEqualTo(1L);
+        assertThat(stats.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void should_invalidate_entity_cache_on_crud_writes() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+        manager.crud().findById(id, date).get();
+
+        //When
+        manager.crud().update(new SimpleEntity(id, date, "updated")).execute();
+        final SimpleEntity updated = manager.crud().findById(id, date).get();
+
+        manager.crud().deleteByPartitionKeys(id).execute();
+        final SimpleEntity deleted = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(updated.getValue()).isEqualTo("updated");
+        assertThat(deleted).isNull();
+        assertThat(manager.getEntityCacheStats().get().hitCount()).isEqualTo(0L);
+    }
+
+    @Test
+    public void should_invalidate_entity_cache_on_delete_by_id() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+        manager.crud().findById(id, date).get();
+
+        //When
+        manager.crud().deleteById(id, date).execute();
+
+        //Then
+        assertThat(manager.crud().findById(id, date).get()).isNull();
+    }
+
+    @Test
+    public void should_not_cache_entity_written_with_statement_ttl() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).usingTimeToLive(5).execute();
+
+        //When
+        manager.crud().findById(id, date).get();
+        final SimpleEntity actual = manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(actual.getValue()).isEqualTo("value");
+        assertThat(manager.getEntityCacheStats().get().hitCount()).isEqualTo(0L);
+        assertThat(manager.getEntityCacheStats().get().missCount()).isEqualTo(2L);
+    }
+}
@@ -25,12 +25,14 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.utils.UUIDs;
 import com.google.common.collect.ImmutableMap;
 
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.generated.ManagerFactory;
 import info.archinnov.achilles.generated.ManagerFactoryBuilder;
 import info.archinnov.achilles.generated.manager.EntityWithStaticColumn_Manager;
@@ -56,6 +58,9 @@ public class TestEntityWithStaticColumn {
                     .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
                     .build());
 
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
     private Session session = resource.getNativeSession();
     private ScriptExecutor scriptExecutor = resource.getScriptExecutor();
     private EntityWithStaticColumn_Manager manager = resource.getManagerFactory().forEntityWithStaticColumn();
@@ -148,6 +153,40 @@ public class TestEntityWithStaticColumn {
         assertThat(actual.isNull("value")).isTrue();
     }
 
+    @Test
+    public void should_fail_insert_static_without_static_value() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final EntityWithStaticColumn entity = new EntityWithStaticColumn(id, null, null, "val");
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("There should be at least one non null static column in entity of type " +
+                "'info.archinnov.achilles.internals.entities.EntityWithStaticColumn' when calling insertStatic()");
+
+        manager
+                .crud()
+                .insertStatic(entity)
+                .execute();
+    }
+
+    @Test
+    public void should_fail_update_without_clustering_column() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final EntityWithStaticColumn entity = new EntityWithStaticColumn(id, null, "static_val", "val");
+
+        //When
+        exception.expect(AchillesException.class);
+        exception.expectMessage("Field 'uuid' in entity of type " +
+                "'info.archinnov.achilles.internals.entities.EntityWithStaticColumn' should not be null because it is a clustering column");
+
+        manager
+                .crud()
+                .update(entity)
+                .execute();
+    }
+
     @Test
     public void should_insert_static_with_insert_strategy() throws Exception {
         //Given
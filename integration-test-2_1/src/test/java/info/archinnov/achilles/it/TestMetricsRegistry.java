@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.metrics.InMemoryMetricsRegistry;
+import info.archinnov.achilles.metrics.OperationMetrics;
+import info.archinnov.achilles.type.OperationType;
+
+public class TestMetricsRegistry {
+
+    private final InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry();
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withMetricsRegistry(metrics)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_record_metrics_for_insert_and_select() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+
+        //When
+        final SimpleEntity found = manager.crud().findById(id, date).get();
+        manager.crud().findById(id + 1, date).get();
+
+        //Then
+        assertThat(found).isNotNull();
+
+        final OperationMetrics inserts = metrics.getMetrics(SimpleEntity.class, OperationType.INSERT);
+        assertThat(inserts.getRequestCount()).isEqualTo(1L);
+        assertThat(inserts.getInFlight()).isEqualTo(0L);
+        assertThat(inserts.getErrorCount()).isEqualTo(0L);
+        assertThat(inserts.getLatency().getMax(TimeUnit.NANOSECONDS)).isGreaterThan(0L);
+
+        final OperationMetrics selects = metrics.getMetrics(SimpleEntity.class, OperationType.SELECT);
+        assertThat(selects.getRequestCount()).isEqualTo(2L);
+        assertThat(selects.getRowCount()).isEqualTo(1L);
+        assertThat(selects.getCallbackDelay().getCount()).isEqualTo(2L);
+        assertThat(metrics.getDecodeLatency(SimpleEntity.class).getCount()).isEqualTo(1L);
+    }
+}
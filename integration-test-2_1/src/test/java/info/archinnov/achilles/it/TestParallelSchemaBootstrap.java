@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.KeyspaceMetadata;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.internals.entities.EntityWithComplexIndices;
+import info.archinnov.achilles.internals.entities.EntityWithNestedUDT;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestParallelSchemaBootstrap {
+
+    private static final String KEYSPACE = "parallel_schema_bootstrap";
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    @Test
+    public void should_create_and_validate_schema_in_parallel() throws Exception {
+        //Given
+        final Cluster cluster = resource.getNativeSession().getCluster();
+        resource.getNativeSession().execute("CREATE KEYSPACE IF NOT EXISTS " + KEYSPACE +
+                " WITH replication = {'class': 'SimpleStrategy', 'replication_factor': 1}");
+
+        //When
+        final ManagerFactory managerFactory = ManagerFactoryBuilder
+                .builder(cluster)
+                .withManagedEntityClasses(SimpleEntity.class, EntityWithNestedUDT.class, EntityWithComplexIndices.class)
+                .doForceSchemaCreation(true)
+                .withDefaultKeyspaceName(KEYSPACE)
+                .withSchemaBootstrapParallelism(4)
+                .build();
+
+        try {
+            //Then
+            final KeyspaceMetadata keyspaceMetadata = cluster.getMetadata().getKeyspace(KEYSPACE);
+            assertThat(keyspaceMetadata.getUserType("no_ks")).isNotNull();
+            assertThat(keyspaceMetadata.getUserType("having_nested_type")).isNotNull();
+            assertThat(keyspaceMetadata.getTable("simple")).isNotNull();
+            assertThat(keyspaceMetadata.getTable("table_with_nested_udt")).isNotNull();
+            assertThat(keyspaceMetadata.getTable("entitywithcomplexindices").getIndexes()).isNotEmpty();
+
+            final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+            final Date date = new Date();
+            managerFactory.forSimpleEntity().crud().insert(new SimpleEntity(id, date, "value")).execute();
+            assertThat(managerFactory.forSimpleEntity().crud().findById(id, date).get().getValue()).isEqualTo("value");
+        } finally {
+            managerFactory.shutDown();
+        }
+    }
+}
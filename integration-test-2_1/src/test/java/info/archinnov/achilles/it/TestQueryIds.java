@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.metrics.InMemoryMetricsRegistry;
+import info.archinnov.achilles.type.OperationType;
+import info.archinnov.achilles.type.QueryIdAware;
+
+public class TestQueryIds {
+
+    private final List<Long> selectQueryIds = new CopyOnWriteArrayList<>();
+
+    private final InMemoryMetricsRegistry metrics = new InMemoryMetricsRegistry() {
+        @Override
+        public void onRequestSuccess(Class<?> entityClass, OperationType operationType, long queryId, long latencyNanos, int rowCount) {
+            if (operationType == OperationType.SELECT) {
+                selectQueryIds.add(queryId);
+            }
+            super.onRequestSuccess(entityClass, operationType, queryId, latencyNanos, rowCount);
+        }
+    };
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withMetricsRegistry(metrics)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_expose_same_query_id_to_listeners_and_metrics() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final AtomicReference<OptionalLong> listenerQueryId = new AtomicReference<>();
+        manager.crud().insert(new SimpleEntity(id, date, "value")).execute();
+
+        //When
+        final SimpleEntity found = manager.crud().findById(id, date)
+                .withResultSetAsyncListener(rs -> {
+                    listenerQueryId.set(QueryIdAware.queryIdOf(rs));
+                    return rs;
+                })
+                .get();
+
+        //Then
+        assertThat(found).isNotNull();
+        assertThat(listenerQueryId.get().isPresent()).isTrue();
+        assertThat(selectQueryIds).containsExactly(listenerQueryId.get().getAsLong());
+    }
+
+    @Test
+    public void should_assign_increasing_query_ids() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+
+        //When
+        manager.crud().findById(id, date).get();
+        manager.crud().findById(id, date).get();
+
+        //Then
+        assertThat(selectQueryIds).hasSize(2);
+        assertThat(selectQueryIds.get(1)).isGreaterThan(selectQueryIds.get(0));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestSyncCallsOnCallerThread {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .withSyncCallsOnCallerThread(true)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_run_callbacks_of_sync_operations_on_caller_thread() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        //When
+        manager.crud().insert(new SimpleEntity(id, date, "value"))
+                .withResultSetAsyncListener(rs -> {
+                    threads.add(Thread.currentThread());
+                    return rs;
+                })
+                .execute();
+
+        final SimpleEntity found = manager.crud().findById(id, date)
+                .withResultSetAsyncListener(rs -> {
+                    threads.add(Thread.currentThread());
+                    return rs;
+                })
+                .get();
+
+        final List<SimpleEntity> list = manager.dsl()
+                .select()
+                .allColumns_FromBaseTable()
+                .where()
+                .id().Eq(id)
+                .date().Eq(date)
+                .withResultSetAsyncListener(rs -> {
+                    threads.add(Thread.currentThread());
+                    return rs;
+                })
+                .getList();
+
+        //Then
+        assertThat(found.getValue()).isEqualTo("value");
+        assertThat(list).hasSize(1);
+        assertThat(threads).containsExactly(Thread.currentThread(), Thread.currentThread(), Thread.currentThread());
+    }
+
+    @Test
+    public void should_run_callbacks_of_async_operations_on_executor() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final Date date = new Date();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        //When
+        manager.crud().insert(new SimpleEntity(id, date, "value"))
+                .withResultSetAsyncListener(rs -> {
+                    threads.add(Thread.currentThread());
+                    return rs;
+                })
+                .executeAsync()
+                .get();
+
+        //Then
+        assertThat(threads).hasSize(1);
+        assertThat(threads.get(0).getName()).startsWith("achilles-default-executor");
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.generated.manager.SimpleEntity_Manager;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+import info.archinnov.achilles.type.ScanCheckpoint;
+
+public class TestTableScan {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class)
+            .truncateBeforeAndAfterTest()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private SimpleEntity_Manager manager = resource.getManagerFactory().forSimpleEntity();
+
+    @Test
+    public void should_scan_all_entities() throws Exception {
+        //Given
+        final Set<Long> insertedIds = insertEntities(30);
+        final Set<Long> scannedIds = ConcurrentHashMap.newKeySet();
+
+        //When
+        final ScanCheckpoint checkpoint = manager
+                .crud()
+                .scan()
+                .withConcurrency(3)
+                .withSplitsPerRange(2)
+                .withFetchSize(2)
+                .forEach(entity -> scannedIds.add(entity.getId()));
+
+        //Then
+        assertThat(scannedIds).isEqualTo(insertedIds);
+        assertThat(checkpoint.isDone()).isTrue();
+        assertThat(checkpoint.getEntityCount()).isEqualTo(30L);
+    }
+
+    @Test
+    public void should_resume_scan_from_checkpoint() throws Exception {
+        //Given
+        final Set<Long> insertedIds = insertEntities(30);
+        final List<ScanCheckpoint> checkpoints = new CopyOnWriteArrayList<>();
+        final Map<Long, Boolean> firstScanIds = new ConcurrentHashMap<>();
+
+        final ScanCheckpoint last = manager
+                .crud()
+                .scan()
+                .withConcurrency(1)
+                .withCheckpointListener(checkpoints::add)
+                .forEach(entity -> firstScanIds.put(entity.getId(), true));
+
+        final ScanCheckpoint first = checkpoints.get(0);
+        final Set<Long> resumedIds = ConcurrentHashMap.newKeySet();
+
+        //When
+        final ScanCheckpoint resumed = manager
+                .crud()
+                .scan()
+                .resumeFrom(ScanCheckpoint.of(first.getCompletedRanges()))
+                .forEach(entity -> resumedIds.add(entity.getId()));
+
+        final ScanCheckpoint noop = manager
+                .crud()
+                .scan()
+                .resumeFrom(last)
+                .forEach(entity -> resumedIds.add(-1L));
+
+        //Then
+        assertThat(firstScanIds.keySet()).isEqualTo(insertedIds);
+        assertThat(checkpoints).hasSize(last.getTotalRangeCount());
+        assertThat(first.getCompletedRanges()).hasSize(1);
+        assertThat(resumed.isDone()).isTrue();
+        assertThat(insertedIds.containsAll(resumedIds)).isTrue();
+        assertThat(resumedIds.size()).isEqualTo(30 - (int) first.getEntityCount());
+        assertThat(noop.isDone()).isTrue();
+        assertThat(noop.getEntityCount()).isEqualTo(last.getEntityCount());
+    }
+
+    private Set<Long> insertEntities(int count) {
+        final Set<Long> ids = new HashSet<>();
+        final Date date = new Date();
+        for (long id = 1; id <= count; id++) {
+            manager.crud().insert(new SimpleEntity(id, date, "value" + id)).execute();
+            ids.add(id);
+        }
+        return ids;
+    }
+}
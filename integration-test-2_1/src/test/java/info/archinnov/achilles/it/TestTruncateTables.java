@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2012-2017 DuyHai DOAN
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package info.archinnov.achilles.it;
+
+import static info.archinnov.achilles.embedded.CassandraEmbeddedConfigParameters.DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.UUID;
+
+import org.apache.commons.lang3.RandomUtils;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.utils.UUIDs;
+
+import info.archinnov.achilles.generated.ManagerFactory;
+import info.archinnov.achilles.generated.ManagerFactoryBuilder;
+import info.archinnov.achilles.internals.entities.EntityWithStaticColumn;
+import info.archinnov.achilles.internals.entities.SimpleEntity;
+import info.archinnov.achilles.junit.AchillesTestResource;
+import info.archinnov.achilles.junit.AchillesTestResourceBuilder;
+
+public class TestTruncateTables {
+
+    @Rule
+    public AchillesTestResource<ManagerFactory> resource = AchillesTestResourceBuilder
+            .forJunit()
+            .entityClassesToTruncate(SimpleEntity.class, EntityWithStaticColumn.class)
+            .truncateBeforeAndAfterTest()
+            .skipTruncateOfEmptyTables()
+            .build((cluster, statementsCache) -> ManagerFactoryBuilder
+                    .builder(cluster)
+                    .withManagedEntityClasses(SimpleEntity.class, EntityWithStaticColumn.class)
+                    .doForceSchemaCreation(true)
+                    .withStatementsCache(statementsCache)
+                    .withDefaultKeyspaceName(DEFAULT_CASSANDRA_EMBEDDED_KEYSPACE_NAME)
+                    .build());
+
+    private Session session = resource.getNativeSession();
+
+    @Test
+    public void should_truncate_all_non_empty_tables() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        final UUID uuid = UUIDs.timeBased();
+        resource.getManagerFactory().forSimpleEntity().crud().insert(new SimpleEntity(id, new Date(), "value")).execute();
+        resource.getManagerFactory().forEntityWithStaticColumn().crud()
+                .insert(new EntityWithStaticColumn(id, uuid, "static_val", "val")).execute();
+
+        //When
+        resource.truncateTables();
+
+        //Then
+        assertThat(session.execute("SELECT * FROM simple LIMIT 1").one()).isNull();
+        assertThat(session.execute("SELECT * FROM entitywithstaticcolumn LIMIT 1").one()).isNull();
+    }
+
+    @Test
+    public void should_truncate_non_empty_table_and_skip_empty_ones() throws Exception {
+        //Given
+        final long id = RandomUtils.nextLong(0L, Long.MAX_VALUE);
+        resource.getManagerFactory().forSimpleEntity().crud().insert(new SimpleEntity(id, new Date(), "value")).execute();
+
+        //When
+        resource.truncateTables();
+
+        //Then
+        assertThat(session.execute("SELECT * FROM simple LIMIT 1").one()).isNull();
+        assertThat(session.execute("SELECT * FROM entitywithstaticcolumn LIMIT 1").one()).isNull();
+    }
+}